@@ -2,12 +2,17 @@ package com.minestom.mechanics;
 
 import com.minestom.mechanics.systems.ConfigTagWrapper;
 import net.minestom.server.entity.*;
+import net.minestom.server.instance.Instance;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.tag.Tag;
+import net.minestom.server.tag.Taggable;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
-import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Abstract base for mechanics systems using the Universal Config pattern.
@@ -28,13 +33,31 @@ import java.util.List;
  *   <li>Apply MULTIPLIER from wrapper (multiplicative)</li>
  * </ol>
  *
+ * <p><b>Caching:</b> {@link #resolveEffective} memoizes the final config per
+ * (item, attacker, victim, instance). Each entry also remembers the attacker, victim and world
+ * override values it was built from (transient tags, compared by identity), so a plain
+ * {@code setTag}/{@code removeTag} of a CUSTOM / PROJECTILE_CUSTOM tag is picked up on the next
+ * lookup. Changes outside the tags (e.g. the projectile registry) call
+ * {@link #markOverridesChanged()}.</p>
+ *
  * @param <TConfig> The configuration type for this system (e.g., KnockbackConfig, ProjectileVelocityConfig)
  */
 public abstract class ConfigurableSystem<TConfig> extends InitializableSystem {
 
+    /** Number of slots in the direct-mapped resolution cache (power of two). */
+    private static final int CACHE_SIZE = 256;
+
+    /** Bumped whenever an override outside the entity/world tags changes; stale cache entries are ignored. */
+    private static final AtomicLong overrideEpoch = new AtomicLong();
+
     /** Server default configuration (fallback when no custom configs are set) */
     protected final TConfig serverDefaultConfig;
 
+    @SuppressWarnings("unchecked")
+    private final CacheEntry<TConfig>[] cache = (CacheEntry<TConfig>[]) new CacheEntry[CACHE_SIZE];
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
     protected ConfigurableSystem(TConfig serverDefaultConfig) {
         this.serverDefaultConfig = serverDefaultConfig;
     }
@@ -78,213 +101,135 @@ public abstract class ConfigurableSystem<TConfig> extends InitializableSystem {
                 || type == EntityType.ENDER_PEARL;
     }
 
+    /**
+     * Build the effective config from a resolution (base config with MODIFY and MULTIPLIER applied).
+     * <p>Default: the base config unchanged. Called on cache misses by {@link #resolveEffective}.</p>
+     */
+    protected TConfig buildEffectiveConfig(Resolution<TConfig> resolution) {
+        return resolution.config();
+    }
+
+    /**
+     * Fixed base config that takes precedence over every CUSTOM in the chain, or null for none.
+     * <p>Default: none. ProjectileVelocity overrides this to use the projectile registry.</p>
+     */
+    protected @Nullable TConfig resolveFixedBaseConfig(Entity attacker) {
+        return null;
+    }
+
     // ===========================
     // CORE RESOLUTION LOGIC
     // ===========================
 
     /**
-     * Resolve base config from wrapper's CUSTOM field with priority chain.
-     * <p>Priority: Item > Attacker Entity > Player (if attacker is player) > World > Server Default</p>
+     * Resolve base config, MODIFY and MULTIPLIER in a single pass over the priority chain.
+     * <p>Each source (item, attacker, victim, world) is read exactly once. An attacker that is a
+     * player is the same source as "player", so its tag is not applied twice.</p>
      *
      * @param attacker The attacking entity (player for melee, projectile for ranged, null for environmental damage)
      * @param victim The victim entity (null during projectile spawn/velocity calculation)
      * @param item The item being used (weapon for melee, bow/throwable for projectiles, null if none)
      */
-    protected TConfig resolveBaseConfig(Entity attacker, @Nullable LivingEntity victim, @Nullable ItemStack item) {
-        // For environmental damage (no attacker), we need to get the wrapper tag differently
-        Tag<ConfigTagWrapper<TConfig>> wrapperTag;
-        if (attacker != null) {
-            wrapperTag = getWrapperTag(attacker);
-        } else {
-            // For environmental damage, use victim to determine tag (or a default)
-            // We'll need to handle this case - for now, use victim if it's a player
-            if (victim instanceof Player) {
-                wrapperTag = getWrapperTag(victim);
-            } else if (victim != null) {
-                // Use victim as the entity to determine tag type
-                wrapperTag = getWrapperTag(victim);
-            } else {
-                // Fallback - this shouldn't happen in practice
-                wrapperTag = getWrapperTag(null);
-            }
-        }
-        
-        ConfigTagWrapper<TConfig> wrapper;
+    protected Resolution<TConfig> resolve(Entity attacker, @Nullable LivingEntity victim, @Nullable ItemStack item) {
+        Entity tagSource = attacker != null ? attacker : victim;
+        Tag<ConfigTagWrapper<TConfig>> wrapperTag = getWrapperTag(tagSource);
+        Resolution<TConfig> resolution = new Resolution<>(getComponentCount());
 
-        // 1. Check item FIRST (highest priority) — via Mechanics component
-        wrapper = getItemWrapper(item, attacker != null ? attacker : victim);
-        if (wrapper != null && wrapper.getCustom() != null) return wrapper.getCustom();
+        // 1. Item (highest priority) — via Mechanics component
+        resolution.accept(getItemWrapper(item, tagSource));
 
-        // 2. Check attacker entity (if attacker exists)
+        // 2. Attacker entity (covers "player" when the attacker is a player)
         if (attacker != null) {
-            wrapper = attacker.getTag(wrapperTag);
-            if (wrapper != null && wrapper.getCustom() != null) return wrapper.getCustom();
-
-            // 3. Check player (if attacker is player)
-            if (attacker instanceof Player p) {
-                wrapper = p.getTag(wrapperTag);
-                if (wrapper != null && wrapper.getCustom() != null) return wrapper.getCustom();
-            }
+            resolution.accept(attacker.getTag(wrapperTag));
         }
 
-        // 4. Check victim entity (for environmental damage, victim is the source of config)
-        if (victim != null) {
-            wrapper = victim.getTag(wrapperTag);
-            if (wrapper != null && wrapper.getCustom() != null) return wrapper.getCustom();
+        // 3. Victim entity (for environmental damage, victim is the source of config)
+        if (victim != null && victim != attacker) {
+            resolution.accept(victim.getTag(wrapperTag));
         }
 
-        // 5. Check world (only if victim exists)
+        // 4. World (only if victim exists)
         if (victim != null && victim.getInstance() != null) {
-            wrapper = victim.getInstance().getTag(wrapperTag);
-            if (wrapper != null && wrapper.getCustom() != null) return wrapper.getCustom();
+            resolution.accept(victim.getInstance().getTag(wrapperTag));
         }
 
-        // 6. Server default
-        return serverDefaultConfig;
+        // 5. Fixed base (registry) beats the chain; server default is the fallback
+        TConfig fixed = attacker != null ? resolveFixedBaseConfig(attacker) : null;
+        if (fixed != null) resolution.config = fixed;
+        else if (resolution.config == null) resolution.config = serverDefaultConfig;
+        return resolution;
     }
 
     /**
-     * Get MODIFY value for a specific component index from all sources.
-     * Values stack additively: item + attacker + player + world
+     * Resolve the effective config, served from the resolution cache when the same
+     * (item, attacker, victim, instance) was resolved with the same entity/world override
+     * values since the last {@link #markOverridesChanged()}.
      *
      * @param attacker The attacking entity (null for environmental damage)
      * @param victim The victim entity (null during projectile spawn/velocity calculation)
      * @param item The item being used (null if none)
-     * @param index Component index to retrieve
      */
-    protected double getModifyValue(Entity attacker, @Nullable LivingEntity victim, @Nullable ItemStack item, int index) {
-        if (index >= getComponentCount()) {
-            throw new IllegalArgumentException("Invalid component index " + index + " (max: " + (getComponentCount() - 1) + ")");
+    protected TConfig resolveEffective(Entity attacker, @Nullable LivingEntity victim, @Nullable ItemStack item) {
+        long epoch = overrideEpoch.get();
+        int attackerId = attacker != null ? attacker.getEntityId() : -1;
+        int victimId = victim != null ? victim.getEntityId() : -1;
+        Instance instance = victim != null ? victim.getInstance() : null;
+        UUID instanceId = instance != null ? instance.getUuid() : null;
+
+        // Current override values, same reads as resolve(); transient tags return the stored object
+        Tag<ConfigTagWrapper<TConfig>> wrapperTag = getWrapperTag(attacker != null ? attacker : victim);
+        Object attackerOverride = attacker != null ? attacker.getTag(wrapperTag) : null;
+        Object victimOverride = victim != null && victim != attacker ? victim.getTag(wrapperTag) : null;
+        Object instanceOverride = instance != null ? instance.getTag(wrapperTag) : null;
+
+        int hash = System.identityHashCode(item) * 31 + attackerId;
+        hash = hash * 31 + victimId;
+        hash = hash * 31 + (instanceId != null ? instanceId.hashCode() : 0);
+        int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+
+        CacheEntry<TConfig> entry = cache[slot];
+        if (entry != null && entry.matches(epoch, item, attackerId, victimId, instanceId)
+                && entry.attackerOverride() == attackerOverride
+                && entry.victimOverride() == victimOverride
+                && entry.instanceOverride() == instanceOverride) {
+            cacheHits.increment();
+            return entry.value();
         }
 
-        Tag<ConfigTagWrapper<TConfig>> wrapperTag;
-        if (attacker != null) {
-            wrapperTag = getWrapperTag(attacker);
-        } else if (victim != null) {
-            wrapperTag = getWrapperTag(victim);
-        } else {
-            wrapperTag = getWrapperTag(null);
-        }
-        
-        double total = 0.0;
-        ConfigTagWrapper<TConfig> wrapper;
-        List<Double> modify;
-
-        // 1. Item — via Mechanics component
-        wrapper = getItemWrapper(item, attacker != null ? attacker : victim);
-        if (wrapper != null && (modify = wrapper.getModify()) != null && modify.size() > index) {
-            total += modify.get(index);
-        }
-
-        // 2. Attacker entity (if attacker exists)
-        if (attacker != null) {
-            wrapper = attacker.getTag(wrapperTag);
-            if (wrapper != null && (modify = wrapper.getModify()) != null && modify.size() > index) {
-                total += modify.get(index);
-            }
-
-            // 3. Player (if attacker is player)
-            if (attacker instanceof Player p) {
-                wrapper = p.getTag(wrapperTag);
-                if (wrapper != null && (modify = wrapper.getModify()) != null && modify.size() > index) {
-                    total += modify.get(index);
-                }
-            }
-        }
+        cacheMisses.increment();
+        TConfig value = buildEffectiveConfig(resolve(attacker, victim, item));
+        cache[slot] = new CacheEntry<>(epoch, item, attackerId, victimId, instanceId,
+                attackerOverride, victimOverride, instanceOverride, value);
+        return value;
+    }
 
-        // 4. Victim entity (for environmental damage)
-        if (victim != null) {
-            wrapper = victim.getTag(wrapperTag);
-            if (wrapper != null && (modify = wrapper.getModify()) != null && modify.size() > index) {
-                total += modify.get(index);
-            }
-        }
+    /**
+     * Resolve base config from wrapper's CUSTOM field with priority chain.
+     * <p>Priority: Item > Attacker Entity > Player (if attacker is player) > World > Server Default</p>
+     * Prefer {@link #resolve} when MODIFY or MULTIPLIER are also needed.
+     */
+    protected TConfig resolveBaseConfig(Entity attacker, @Nullable LivingEntity victim, @Nullable ItemStack item) {
+        return resolve(attacker, victim, item).config();
+    }
 
-        // 5. World (only if victim exists)
-        if (victim != null && victim.getInstance() != null) {
-            wrapper = victim.getInstance().getTag(wrapperTag);
-            if (wrapper != null && (modify = wrapper.getModify()) != null && modify.size() > index) {
-                total += modify.get(index);
-            }
+    /**
+     * Get MODIFY value for a specific component index from all sources.
+     * Values stack additively: item + attacker + player + world
+     * Prefer {@link #resolve} when more than one component is needed.
+     */
+    protected double getModifyValue(Entity attacker, @Nullable LivingEntity victim, @Nullable ItemStack item, int index) {
+        if (index >= getComponentCount()) {
+            throw new IllegalArgumentException("Invalid component index " + index + " (max: " + (getComponentCount() - 1) + ")");
         }
-
-        return total;
+        return resolve(attacker, victim, item).modify(index);
     }
 
     /**
      * Get combined MULTIPLIER from all sources.
      * Multipliers stack multiplicatively: item × attacker × player × world
-     *
-     * @param attacker The attacking entity (null for environmental damage)
-     * @param victim The victim entity (null during projectile spawn/velocity calculation)
-     * @param item The item being used (null if none)
      */
     protected double[] getMultipliers(Entity attacker, @Nullable LivingEntity victim, @Nullable ItemStack item) {
-        Tag<ConfigTagWrapper<TConfig>> wrapperTag;
-        if (attacker != null) {
-            wrapperTag = getWrapperTag(attacker);
-        } else if (victim != null) {
-            wrapperTag = getWrapperTag(victim);
-        } else {
-            wrapperTag = getWrapperTag(null);
-        }
-        
-        int componentCount = getComponentCount();
-        double[] multipliers = new double[componentCount];
-        Arrays.fill(multipliers, 1.0);
-
-        ConfigTagWrapper<TConfig> wrapper;
-        List<Double> mults;
-
-        // 1. Item — via Mechanics component
-        wrapper = getItemWrapper(item, attacker != null ? attacker : victim);
-        if (wrapper != null && (mults = wrapper.getMultiplier()) != null) {
-            for (int i = 0; i < Math.min(mults.size(), componentCount); i++) {
-                multipliers[i] *= mults.get(i);
-            }
-        }
-
-        // 2. Attacker entity (if attacker exists)
-        if (attacker != null) {
-            wrapper = attacker.getTag(wrapperTag);
-            if (wrapper != null && (mults = wrapper.getMultiplier()) != null) {
-                for (int i = 0; i < Math.min(mults.size(), componentCount); i++) {
-                    multipliers[i] *= mults.get(i);
-                }
-            }
-
-            // 3. Player (if attacker is player)
-            if (attacker instanceof Player p) {
-                wrapper = p.getTag(wrapperTag);
-                if (wrapper != null && (mults = wrapper.getMultiplier()) != null) {
-                    for (int i = 0; i < Math.min(mults.size(), componentCount); i++) {
-                        multipliers[i] *= mults.get(i);
-                    }
-                }
-            }
-        }
-
-        // 4. Victim entity (for environmental damage)
-        if (victim != null) {
-            wrapper = victim.getTag(wrapperTag);
-            if (wrapper != null && (mults = wrapper.getMultiplier()) != null) {
-                for (int i = 0; i < Math.min(mults.size(), componentCount); i++) {
-                    multipliers[i] *= mults.get(i);
-                }
-            }
-        }
-
-        // 5. World (only if victim exists)
-        if (victim != null && victim.getInstance() != null) {
-            wrapper = victim.getInstance().getTag(wrapperTag);
-            if (wrapper != null && (mults = wrapper.getMultiplier()) != null) {
-                for (int i = 0; i < Math.min(mults.size(), componentCount); i++) {
-                    multipliers[i] *= mults.get(i);
-                }
-            }
-        }
-
-        return multipliers;
+        return resolve(attacker, victim, item).multipliers.clone();
     }
 
     // ===========================
@@ -293,20 +238,27 @@ public abstract class ConfigurableSystem<TConfig> extends InitializableSystem {
 
     /**
      * Apply MODIFY values to a component array (in-place).
+     *
+     * @deprecated walks the chain once per call; use {@link #resolve} and {@link Resolution#applyTo}
      */
+    @Deprecated
     protected void applyModifyToComponents(Entity attacker, @Nullable LivingEntity victim, @Nullable ItemStack item, double[] components) {
-        for (int i = 0; i < components.length && i < getComponentCount(); i++) {
-            components[i] += getModifyValue(attacker, victim, item, i);
+        Resolution<TConfig> resolution = resolve(attacker, victim, item);
+        for (int i = 0, n = Math.min(components.length, getComponentCount()); i < n; i++) {
+            components[i] += resolution.modify(i);
         }
     }
 
     /**
      * Apply MULTIPLIER to a component array (in-place).
+     *
+     * @deprecated walks the chain once per call; use {@link #resolve} and {@link Resolution#applyTo}
      */
+    @Deprecated
     protected void applyMultiplierToComponents(Entity attacker, @Nullable LivingEntity victim, @Nullable ItemStack item, double[] components) {
-        double[] multipliers = getMultipliers(attacker, victim, item);
-        for (int i = 0; i < components.length; i++) {
-            components[i] *= multipliers[i];
+        Resolution<TConfig> resolution = resolve(attacker, victim, item);
+        for (int i = 0, n = Math.min(components.length, getComponentCount()); i < n; i++) {
+            components[i] *= resolution.multiplier(i);
         }
     }
 
@@ -327,19 +279,144 @@ public abstract class ConfigurableSystem<TConfig> extends InitializableSystem {
      */
     protected double[] resolveComponents(Entity attacker, @Nullable LivingEntity victim, @Nullable ItemStack item,
                                          ComponentExtractor<TConfig> componentExtractor) {
-        // 1. Resolve base config
-        TConfig config = resolveBaseConfig(attacker, victim, item);
+        Resolution<TConfig> resolution = resolve(attacker, victim, item);
+        double[] components = componentExtractor.extract(resolution.config());
+        resolution.applyTo(components);
+        return components;
+    }
 
-        // 2. Extract components
-        double[] components = componentExtractor.extract(config);
+    // ===========================
+    // OVERRIDE CHANGES & CACHE
+    // ===========================
 
-        // 3. Apply MODIFY
-        applyModifyToComponents(attacker, victim, item, components);
+    /**
+     * Set an entity/world override tag and invalidate cached resolutions.
+     * Equivalent to {@code target.setTag(...)}, which the cache also detects.
+     */
+    public static <V> void setOverride(Taggable target, Tag<V> tag, @Nullable V value) {
+        target.setTag(tag, value);
+        markOverridesChanged();
+    }
 
-        // 4. Apply MULTIPLIER
-        applyMultiplierToComponents(attacker, victim, item, components);
+    /**
+     * Remove an entity/world override tag and invalidate cached resolutions.
+     */
+    public static void removeOverride(Taggable target, Tag<?> tag) {
+        target.removeTag(tag);
+        markOverridesChanged();
+    }
 
-        return components;
+    /**
+     * Invalidate every cached resolution in all systems.
+     * Call after changing overrides that do not live in entity/world tags (e.g. registries).
+     */
+    public static void markOverridesChanged() {
+        overrideEpoch.incrementAndGet();
+    }
+
+    /** Drop all cached resolutions for this system. */
+    public void clearResolutionCache() {
+        Arrays.fill(cache, null);
+    }
+
+    /** Get resolution cache hit/miss counters. */
+    public CacheStats getCacheStats() {
+        return new CacheStats(cacheHits.sum(), cacheMisses.sum());
+    }
+
+    /** Reset resolution cache hit/miss counters. */
+    public void resetCacheStats() {
+        cacheHits.reset();
+        cacheMisses.reset();
+    }
+
+    @Override
+    public void shutdown() {
+        clearResolutionCache();
+    }
+
+    /**
+     * Resolution cache statistics.
+     *
+     * @param hits resolutions served from cache
+     * @param misses resolutions that walked the tag chain
+     */
+    public record CacheStats(long hits, long misses) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total > 0 ? (double) hits / total : 0.0;
+        }
+    }
+
+    /**
+     * Cached effective config. Entities and instances are keyed by id so the cache never
+     * keeps them alive; items and override values are compared by identity (both immutable).
+     */
+    private record CacheEntry<T>(long epoch, @Nullable ItemStack item, int attackerId, int victimId,
+                                 @Nullable UUID instanceId, @Nullable Object attackerOverride,
+                                 @Nullable Object victimOverride, @Nullable Object instanceOverride, T value) {
+        boolean matches(long epoch, @Nullable ItemStack item, int attackerId, int victimId, @Nullable UUID instanceId) {
+            return this.epoch == epoch
+                    && this.item == item
+                    && this.attackerId == attackerId
+                    && this.victimId == victimId
+                    && Objects.equals(this.instanceId, instanceId);
+        }
+    }
+
+    /**
+     * Result of a single pass over the priority chain: base config plus summed MODIFY and
+     * combined MULTIPLIER per component index.
+     */
+    protected static final class Resolution<T> {
+        private T config;
+        private final double[] modify;
+        private final double[] multipliers;
+
+        private Resolution(int componentCount) {
+            this.modify = new double[componentCount];
+            this.multipliers = new double[componentCount];
+            Arrays.fill(multipliers, 1.0);
+        }
+
+        private void accept(@Nullable ConfigTagWrapper<T> wrapper) {
+            if (wrapper == null) return;
+            if (config == null) config = wrapper.getCustom();
+
+            double[] mod = wrapper.getModifyValues();
+            if (mod != null) {
+                for (int i = 0, n = Math.min(mod.length, modify.length); i < n; i++) {
+                    modify[i] += mod[i];
+                }
+            }
+            double[] mults = wrapper.getMultiplierValues();
+            if (mults != null) {
+                for (int i = 0, n = Math.min(mults.length, multipliers.length); i < n; i++) {
+                    multipliers[i] *= mults[i];
+                }
+            }
+        }
+
+        /** Resolved base config (never null). */
+        public T config() { return config; }
+
+        /** Summed MODIFY for a component (0 when unset). */
+        public double modify(int index) { return modify[index]; }
+
+        /** Combined MULTIPLIER for a component (1 when unset). */
+        public double multiplier(int index) { return multipliers[index]; }
+
+        /** (base + modify) × multiplier for a single component. */
+        public double apply(int index, double base) {
+            return (base + modify[index]) * multipliers[index];
+        }
+
+        /** Apply MODIFY then MULTIPLIER to a component array (in-place). */
+        public void applyTo(double[] components) {
+            for (int i = 0, n = Math.min(components.length, modify.length); i < n; i++) {
+                components[i] = apply(i, components[i]);
+            }
+        }
     }
 
     /**
@@ -0,0 +1,237 @@
+package com.minestom.mechanics;
+
+import com.minestom.mechanics.util.LogUtil;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.timer.ExecutionType;
+import net.minestom.server.timer.Task;
+import net.minestom.server.timer.TaskSchedule;
+
+import java.util.Arrays;
+
+/**
+ * Single mechanics tick: one authoritative tick counter and a scheduler task that
+ * dispatches every online player through ordered {@link Phase phases}.
+ * All phases except {@link Phase#END} run at the start of the server tick; {@code END} runs from
+ * a second task at the end of the same tick, after that tick's packets have been handled.
+ * <p>
+ * Systems register phase handlers here instead of adding their own {@code PlayerTickEvent}
+ * listeners or repeating tasks. Each tick the loop increments {@link #getTick()}, then for each
+ * phase in order runs that phase's tick handlers once and its player handlers once per player.
+ * Phase-major order means, for example, every player's velocity estimate is fresh before any
+ * combat handler runs.
+ * </p>
+ *
+ * Usage:
+ * <pre>
+ * MechanicsTickLoop.Registration reg = MechanicsTickLoop.getInstance()
+ *         .register(MechanicsTickLoop.Phase.ENVIRONMENT, "Fall", (player, tick) -> ...);
+ * reg.unregister(); // on shutdown
+ * </pre>
+ */
+public final class MechanicsTickLoop {
+
+    private static volatile MechanicsTickLoop instance;
+    private static final LogUtil.SystemLogger log = LogUtil.system("MechanicsTickLoop");
+
+    /** Dispatch phases, run in declaration order every tick. */
+    public enum Phase {
+        /** Movement/velocity estimation from this tick's positions. */
+        ESTIMATE,
+        /** Environmental damage (fall, fire, ...). */
+        ENVIRONMENT,
+        /** Combat: buffered damage, swing windows. */
+        COMBAT,
+        /** Client-version compatibility (gravity, hitbox, pose, legacy animations). */
+        COMPAT,
+        /** Client state sync. */
+        SYNC,
+        /** End of the server tick ({@link ExecutionType#TICK_END}), same tick number: resolves work queued by this tick's packets. */
+        END
+    }
+
+    /** Per-player phase handler. */
+    @FunctionalInterface
+    public interface PlayerHandler {
+        void tick(Player player, long tick);
+    }
+
+    /** Once-per-tick phase handler. */
+    @FunctionalInterface
+    public interface TickHandler {
+        void tick(long tick);
+    }
+
+    /** Handle returned by registration; {@link #unregister()} removes the handler. */
+    public interface Registration {
+        void unregister();
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final int END = Phase.END.ordinal();
+
+    private record Entry(String name, PlayerHandler player, TickHandler tick) {}
+
+    // Copy-on-write per-phase handler arrays; the tick reads them without locking
+    private volatile Entry[][] entries = new Entry[PHASES.length][0];
+
+    private volatile long tick = 0;
+    private Task task;
+    private Task endTask;
+
+    // Timing (nanos per phase since last reset), only sampled when enabled
+    private volatile boolean timingEnabled = false;
+    private final long[] phaseNanos = new long[PHASES.length];
+    private long timedTicks = 0;
+
+    private MechanicsTickLoop() {}
+
+    /**
+     * Get the loop, starting it on first access.
+     */
+    public static MechanicsTickLoop getInstance() {
+        MechanicsTickLoop loop = instance;
+        if (loop != null) return loop;
+        synchronized (MechanicsTickLoop.class) {
+            if (instance == null) {
+                MechanicsTickLoop created = new MechanicsTickLoop();
+                created.start();
+                instance = created;
+            }
+            return instance;
+        }
+    }
+
+    private void start() {
+        task = MinecraftServer.getSchedulerManager()
+                .buildTask(this::runTick)
+                .repeat(TaskSchedule.tick(1))
+                .schedule();
+        endTask = MinecraftServer.getSchedulerManager()
+                .buildTask(this::runTickEnd)
+                .executionType(ExecutionType.TICK_END)
+                .repeat(TaskSchedule.tick(1))
+                .schedule();
+        log.debug("Mechanics tick loop started");
+    }
+
+    // ===========================
+    // REGISTRATION
+    // ===========================
+
+    /** Register a handler run once per player per tick in the given phase. */
+    public Registration register(Phase phase, String name, PlayerHandler handler) {
+        return add(phase, new Entry(name, handler, null));
+    }
+
+    /** Register a handler run once per tick in the given phase (before that phase's player handlers). */
+    public Registration registerTick(Phase phase, String name, TickHandler handler) {
+        return add(phase, new Entry(name, null, handler));
+    }
+
+    private synchronized Registration add(Phase phase, Entry entry) {
+        Entry[][] next = entries.clone();
+        Entry[] current = next[phase.ordinal()];
+        Entry[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = entry;
+        next[phase.ordinal()] = grown;
+        entries = next;
+        log.debug("Registered {} handler: {}", phase, entry.name);
+        return () -> remove(phase, entry);
+    }
+
+    private synchronized void remove(Phase phase, Entry entry) {
+        Entry[][] next = entries.clone();
+        next[phase.ordinal()] = Arrays.stream(next[phase.ordinal()])
+                .filter(e -> e != entry)
+                .toArray(Entry[]::new);
+        entries = next;
+    }
+
+    // ===========================
+    // TICK
+    // ===========================
+
+    private void runTick() {
+        long now = ++tick;
+        Entry[][] snapshot = entries;
+        var players = MinecraftServer.getConnectionManager().getOnlinePlayers();
+        boolean timing = timingEnabled;
+
+        for (int p = 0; p < END; p++) runPhase(p, snapshot[p], players, now, timing);
+        if (timing) timedTicks++;
+    }
+
+    private void runTickEnd() {
+        runPhase(END, entries[END], MinecraftServer.getConnectionManager().getOnlinePlayers(), tick, timingEnabled);
+    }
+
+    private void runPhase(int p, Entry[] phase, Iterable<Player> players, long now, boolean timing) {
+        if (phase.length == 0) return;
+        long start = timing ? System.nanoTime() : 0;
+
+        for (Entry e : phase) {
+            if (e.tick != null) run(e, now);
+        }
+        for (Player player : players) {
+            if (player.isRemoved() || player.getInstance() == null) continue;
+            for (Entry e : phase) {
+                if (e.player != null) run(e, player, now);
+            }
+        }
+
+        if (timing) phaseNanos[p] += System.nanoTime() - start;
+    }
+
+    private static void run(Entry e, long now) {
+        try {
+            e.tick.tick(now);
+        } catch (Exception ex) {
+            log.error("Tick handler '" + e.name + "' failed", ex);
+        }
+    }
+
+    private static void run(Entry e, Player player, long now) {
+        try {
+            e.player.tick(player, now);
+        } catch (Exception ex) {
+            log.error("Player handler '" + e.name + "' failed for " + player.getUsername(), ex);
+        }
+    }
+
+    // ===========================
+    // QUERIES / TIMING
+    // ===========================
+
+    /** The authoritative mechanics tick (incremented once per server tick, starts at 0). */
+    public long getTick() { return tick; }
+
+    /** Enable or disable per-phase timing. Disabled by default (no {@code nanoTime} calls). */
+    public void setTimingEnabled(boolean enabled) { this.timingEnabled = enabled; }
+
+    /** Average nanos per tick spent in a phase since the last {@link #resetTimings()}. */
+    public double getAveragePhaseNanos(Phase phase) {
+        long ticks = timedTicks;
+        return ticks == 0 ? 0 : (double) phaseNanos[phase.ordinal()] / ticks;
+    }
+
+    public void resetTimings() {
+        Arrays.fill(phaseNanos, 0);
+        timedTicks = 0;
+    }
+
+    // ===========================
+    // SHUTDOWN
+    // ===========================
+
+    /**
+     * Stop the loop and drop all handlers. The next {@link #getInstance()} starts a fresh loop.
+     */
+    public static synchronized void shutdown() {
+        if (instance == null) return;
+        if (instance.task != null) instance.task.cancel();
+        if (instance.endTask != null) instance.endTask.cancel();
+        instance = null;
+        log.debug("Mechanics tick loop stopped");
+    }
+}
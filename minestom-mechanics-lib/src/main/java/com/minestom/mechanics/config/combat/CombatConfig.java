@@ -62,7 +62,11 @@ public record CombatConfig(
         // Fishing rod: pseudo-hook when bobber hits a player (1.8-style fix).
         boolean bobberFixEnabled,
         BobberFixMode bobberFixMode,
-        int bobberFixHookDisplayTicks
+        int bobberFixHookDisplayTicks,
+
+        // Attack resolution: when true, melee hits are queued and resolved at the end of each tick in a deterministic
+        // order (first intent per victim wins) instead of immediately in packet-arrival order.
+        boolean orderedAttackResolution
 ) {
 
     // Validation
@@ -96,6 +100,23 @@ public record CombatConfig(
             throw new IllegalArgumentException("Bobber fix hook display ticks must be >= 1");
     }
 
+    /** Backward-compatible constructor (immediate attack resolution). */
+    public CombatConfig(boolean removeAttackCooldown, float criticalMultiplier, boolean allowSprintCrits,
+                        KnockbackConfig knockbackConfig, int sprintWindowTicks,
+                        int swingHitWindowTicks, int swingLookCheckTicks,
+                        int victimSwingHitWindowTicks, int victimSwingLookCheckTicks,
+                        boolean noReplacementSameItem, int attackerInvulnerabilityBufferTicks,
+                        boolean blockingEnabled, double blockDamageReduction,
+                        double blockKnockbackHReduction, double blockKnockbackVReduction,
+                        boolean fix18HitSlowdown,
+                        boolean bobberFixEnabled, BobberFixMode bobberFixMode, int bobberFixHookDisplayTicks) {
+        this(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig, sprintWindowTicks,
+                swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks,
+                noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction,
+                blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown,
+                bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, false);
+    }
+
     /** Fishing rod pseudo-hook behavior when bobber hits a player. */
     public enum BobberFixMode {
         /** Bobber passes through, falls to ground. Cannot hook others after first hit. */
@@ -107,35 +128,35 @@ public record CombatConfig(
     // ===== KNOCKBACK =====
 
     public CombatConfig withKnockbackConfig(KnockbackConfig knockbackConfig) {
-        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig, sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig, sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withKnockback(double horizontal, double vertical) {
-        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig.withKnockback(horizontal, vertical), sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig.withKnockback(horizontal, vertical), sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withKnockback(double horizontal, double vertical, double verticalLimit) {
-        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig.withKnockback(horizontal, vertical, verticalLimit), sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig.withKnockback(horizontal, vertical, verticalLimit), sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withSprintBonus(double horizontal, double vertical) {
-        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig.withSprintBonus(horizontal, vertical), sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig.withSprintBonus(horizontal, vertical), sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withAirMultipliers(double horizontal, double vertical) {
-        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig.withAirMultipliers(horizontal, vertical), sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig.withAirMultipliers(horizontal, vertical), sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withLookWeight(double lookWeight) {
-        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig.withLookWeight(lookWeight), sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig.withLookWeight(lookWeight), sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withModern(boolean modern) {
-        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig.withModern(modern), sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig.withModern(modern), sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withKnockbackSyncSupported(boolean syncSupported) {
-        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig.withKnockbackSyncSupported(syncSupported), sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits, knockbackConfig.withKnockbackSyncSupported(syncSupported), sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     // ===== ATTACK =====
@@ -144,21 +165,21 @@ public record CombatConfig(
         return new CombatConfig(remove, criticalMultiplier, allowSprintCrits,
                 knockbackConfig, sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks,
                 noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction,
-                blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+                blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withCriticalMultiplier(float multiplier) {
         return new CombatConfig(removeAttackCooldown, multiplier, allowSprintCrits,
                 knockbackConfig, sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks,
                 noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction,
-                blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+                blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withSprintCrits(boolean allow) {
         return new CombatConfig(removeAttackCooldown, criticalMultiplier, allow,
                 knockbackConfig, sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks,
                 noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction,
-                blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+                blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     // ===== SPRINT WINDOW =====
@@ -167,35 +188,35 @@ public record CombatConfig(
         return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits,
                 knockbackConfig, ticks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled,
                 blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction,
-                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withSwingHitWindowTicks(int ticks) {
         return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits,
                 knockbackConfig, sprintWindowTicks, ticks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks,
                 noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction,
-                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withSwingLookCheckTicks(int ticks) {
         return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits,
                 knockbackConfig, sprintWindowTicks, swingHitWindowTicks, ticks,
                 victimSwingHitWindowTicks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction,
-                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withVictimSwingHitWindowTicks(int ticks) {
         return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits,
                 knockbackConfig, sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks,
                 ticks, victimSwingLookCheckTicks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction,
-                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withVictimSwingLookCheckTicks(int ticks) {
         return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits,
                 knockbackConfig, sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks,
                 victimSwingHitWindowTicks, ticks, noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction,
-                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     // ===== HIT QUEUE / DAMAGE REPLACEMENT =====
@@ -204,14 +225,23 @@ public record CombatConfig(
         return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits,
                 knockbackConfig, sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks,
                 noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction,
-                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withAttackerInvulnerabilityBufferTicks(int ticks) {
         return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits,
                 knockbackConfig, sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks,
                 noReplacementSameItem, ticks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction,
-                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
+    }
+
+    // ===== ATTACK RESOLUTION =====
+
+    public CombatConfig withOrderedAttackResolution(boolean ordered) {
+        return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits,
+                knockbackConfig, sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks,
+                noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction, blockKnockbackVReduction,
+                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, ordered);
     }
 
     // ===== BLOCKING =====
@@ -220,14 +250,14 @@ public record CombatConfig(
         return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits,
                 knockbackConfig, sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks,
                 noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, reduction, blockKnockbackHReduction, blockKnockbackVReduction,
-                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     public CombatConfig withBlockKnockback(double horizontal, double vertical) {
         return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits,
                 knockbackConfig, sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks,
                 noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, horizontal, vertical,
-                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+                fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     // ===== LEGACY 1.8 =====
@@ -236,7 +266,7 @@ public record CombatConfig(
         return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits,
                 knockbackConfig, sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks,
                 noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction,
-                blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks);
+                blockKnockbackVReduction, fix18HitSlowdown, bobberFixEnabled, bobberFixMode, bobberFixHookDisplayTicks, orderedAttackResolution);
     }
 
     // ===== FISHING ROD / BOBBER FIX =====
@@ -245,6 +275,6 @@ public record CombatConfig(
         return new CombatConfig(removeAttackCooldown, criticalMultiplier, allowSprintCrits,
                 knockbackConfig, sprintWindowTicks, swingHitWindowTicks, swingLookCheckTicks, victimSwingHitWindowTicks, victimSwingLookCheckTicks,
                 noReplacementSameItem, attackerInvulnerabilityBufferTicks, blockingEnabled, blockDamageReduction, blockKnockbackHReduction,
-                blockKnockbackVReduction, fix18HitSlowdown, enabled, mode, hookDisplayTicks);
+                blockKnockbackVReduction, fix18HitSlowdown, enabled, mode, hookDisplayTicks, orderedAttackResolution);
     }
 }
\ No newline at end of file
@@ -37,8 +37,12 @@ import static com.minestom.mechanics.config.constants.CombatConstants.*;
  *                       Only used when angle validation is enabled.
  * @param enableAngleValidation Whether to validate attack angles.
  *                              Can help detect some types of killaura.
- * @param trackHitSnapshots Whether to track hit snapshots for debugging.
- *                          Useful for development and troubleshooting.
+ * @param trackHitSnapshots Whether to record per-attacker hit analytics (rolling reach
+ *                          percentiles and validation tier mix) for anti-cheat review.
+ *                          Off in all presets; costs two extra ray tests per hit when on.
+ * @param maxRewindTicks Maximum lag-compensation rewind in ticks (0 = disabled, max 40).
+ *                       When enabled, reach and ray validation test the victim where it was
+ *                       {@code attacker latency} ago instead of its current position.
  */
 public record HitDetectionConfig(
         double serverSideReach,
@@ -47,7 +51,8 @@ public record HitDetectionConfig(
         double hitboxExpansionLimit,
         double angleThreshold,
         boolean enableAngleValidation,
-        boolean trackHitSnapshots
+        boolean trackHitSnapshots,
+        int maxRewindTicks
 ) {
 
     // Validation
@@ -73,6 +78,20 @@ public record HitDetectionConfig(
         if (angleThreshold < 0.0 || angleThreshold > 180.0) {
             throw new IllegalArgumentException("Invalid angle threshold: " + angleThreshold);
         }
+        if (maxRewindTicks < 0 || maxRewindTicks > 40) {
+            throw new IllegalArgumentException("Invalid max rewind ticks: " + maxRewindTicks);
+        }
+    }
+
+    /**
+     * Config without lag compensation (rewind disabled).
+     */
+    public HitDetectionConfig(double serverSideReach, double attackPacketReach,
+                              double hitboxExpansionPrimary, double hitboxExpansionLimit,
+                              double angleThreshold, boolean enableAngleValidation,
+                              boolean trackHitSnapshots) {
+        this(serverSideReach, attackPacketReach, hitboxExpansionPrimary, hitboxExpansionLimit,
+                angleThreshold, enableAngleValidation, trackHitSnapshots, 0);
     }
 
     // ===========================
@@ -89,13 +108,14 @@ public record HitDetectionConfig(
      *   <li>Primary hitbox expansion: 0.1 (1.8 standard)</li>
      *   <li>Expansion limit: 0.3</li>
      *   <li>Angle validation: disabled</li>
+     *   <li>Hit analytics: disabled</li>
      * </ul>
      *
      * @return standard hit detection configuration
      */
     public static HitDetectionConfig standard() {
         return new HitDetectionConfig(SERVER_SIDE_REACH, ATTACK_PACKET_REACH,
-                HITBOX_EXPANSION_PRIMARY, HITBOX_EXPANSION_LIMIT, 90.0, false, true);
+                HITBOX_EXPANSION_PRIMARY, HITBOX_EXPANSION_LIMIT, 90.0, false, false);
     }
 
     /**
@@ -108,12 +128,13 @@ public record HitDetectionConfig(
      *   <li>Primary hitbox expansion: 0.1</li>
      *   <li>Expansion limit: 0.105 (very strict)</li>
      *   <li>Angle validation: enabled (90°)</li>
+     *   <li>Hit analytics: disabled</li>
      * </ul>
      *
      * @return strict hit detection configuration
      */
     public static HitDetectionConfig strict() {
-        return new HitDetectionConfig(3.0, 4.5, 0.1, 0.105, 90.0, true, true);
+        return new HitDetectionConfig(3.0, 4.5, 0.1, 0.105, 90.0, true, false);
     }
 
     /**
@@ -126,12 +147,13 @@ public record HitDetectionConfig(
      *   <li>Primary hitbox expansion: 0.15</li>
      *   <li>Expansion limit: 0.4 (generous)</li>
      *   <li>Angle validation: disabled</li>
+     *   <li>Hit analytics: disabled</li>
      * </ul>
      *
      * @return lenient hit detection configuration
      */
     public static HitDetectionConfig lenient() {
-        return new HitDetectionConfig(3.5, 7.0, 0.15, 0.4, 45.0, false, true);
+        return new HitDetectionConfig(3.5, 7.0, 0.15, 0.4, 45.0, false, false);
     }
 
     // ===========================
@@ -146,7 +168,7 @@ public record HitDetectionConfig(
      */
     public HitDetectionConfig withServerSideReach(double reach) {
         return new HitDetectionConfig(reach, attackPacketReach, hitboxExpansionPrimary,
-                hitboxExpansionLimit, angleThreshold, enableAngleValidation, trackHitSnapshots);
+                hitboxExpansionLimit, angleThreshold, enableAngleValidation, trackHitSnapshots, maxRewindTicks);
     }
 
     /**
@@ -157,7 +179,7 @@ public record HitDetectionConfig(
      */
     public HitDetectionConfig withAttackPacketReach(double reach) {
         return new HitDetectionConfig(serverSideReach, reach, hitboxExpansionPrimary,
-                hitboxExpansionLimit, angleThreshold, enableAngleValidation, trackHitSnapshots);
+                hitboxExpansionLimit, angleThreshold, enableAngleValidation, trackHitSnapshots, maxRewindTicks);
     }
 
     /**
@@ -171,7 +193,7 @@ public record HitDetectionConfig(
      */
     public HitDetectionConfig withReach(double serverSide, double attackPacket) {
         return new HitDetectionConfig(serverSide, attackPacket, hitboxExpansionPrimary,
-                hitboxExpansionLimit, angleThreshold, enableAngleValidation, trackHitSnapshots);
+                hitboxExpansionLimit, angleThreshold, enableAngleValidation, trackHitSnapshots, maxRewindTicks);
     }
 
     /**
@@ -185,7 +207,7 @@ public record HitDetectionConfig(
      */
     public HitDetectionConfig withHitboxExpansion(double primary, double limit) {
         return new HitDetectionConfig(serverSideReach, attackPacketReach, primary,
-                limit, angleThreshold, enableAngleValidation, trackHitSnapshots);
+                limit, angleThreshold, enableAngleValidation, trackHitSnapshots, maxRewindTicks);
     }
 
     /**
@@ -196,7 +218,7 @@ public record HitDetectionConfig(
      */
     public HitDetectionConfig withAngleValidation(boolean enabled) {
         return new HitDetectionConfig(serverSideReach, attackPacketReach, hitboxExpansionPrimary,
-                hitboxExpansionLimit, angleThreshold, enabled, trackHitSnapshots);
+                hitboxExpansionLimit, angleThreshold, enabled, trackHitSnapshots, maxRewindTicks);
     }
 
     /**
@@ -210,6 +232,28 @@ public record HitDetectionConfig(
      */
     public HitDetectionConfig withAngleValidation(boolean enabled, double threshold) {
         return new HitDetectionConfig(serverSideReach, attackPacketReach, hitboxExpansionPrimary,
-                hitboxExpansionLimit, threshold, enabled, trackHitSnapshots);
+                hitboxExpansionLimit, threshold, enabled, trackHitSnapshots, maxRewindTicks);
+    }
+
+    /**
+     * Create a copy with lag-compensated validation.
+     *
+     * @param maxRewindTicks maximum rewind in ticks (0 disables, max 40)
+     * @return a new config with the updated value
+     */
+    public HitDetectionConfig withLagCompensation(int maxRewindTicks) {
+        return new HitDetectionConfig(serverSideReach, attackPacketReach, hitboxExpansionPrimary,
+                hitboxExpansionLimit, angleThreshold, enableAngleValidation, trackHitSnapshots, maxRewindTicks);
+    }
+
+    /**
+     * Create a copy with hit analytics enabled or disabled.
+     *
+     * @param enabled whether to record per-attacker hit analytics
+     * @return a new config with the updated value
+     */
+    public HitDetectionConfig withHitAnalytics(boolean enabled) {
+        return new HitDetectionConfig(serverSideReach, attackPacketReach, hitboxExpansionPrimary,
+                hitboxExpansionLimit, angleThreshold, enableAngleValidation, enabled, maxRewindTicks);
     }
-}
\ No newline at end of file
+}
@@ -25,7 +25,15 @@ public record HealthConfig(
         // Future: Regeneration
         boolean regenerationEnabled,
         float regenerationAmount,
-        int regenerationIntervalTicks
+        int regenerationIntervalTicks,
+
+        /**
+         * Whether environmental trackers may skip the block scan around a player when
+         * {@link com.minestom.mechanics.systems.misc.HazardIndex} reports no lava, fire or cactus nearby.
+         * Off by default: the index only sees player block events, so hazards placed with
+         * {@code Instance.setBlock} can be missed until their section is recounted.
+         */
+        boolean hazardIndexScanSkip
 ) {
 
     // ===========================
@@ -43,6 +51,12 @@ public record HealthConfig(
             throw new IllegalArgumentException("Regeneration interval must be >= 0");
     }
 
+    /** Backward-compatible constructor (always scans; no hazard index skip). */
+    public HealthConfig(int invulnerabilityTicks, boolean logDamage,
+                        boolean regenerationEnabled, float regenerationAmount, int regenerationIntervalTicks) {
+        this(invulnerabilityTicks, logDamage, regenerationEnabled, regenerationAmount, regenerationIntervalTicks, false);
+    }
+
     // ===========================
     // CONVENIENCE
     // ===========================
@@ -57,18 +71,22 @@ public record HealthConfig(
     // ===========================
 
     public HealthConfig withInvulnerabilityTicks(int ticks) {
-        return new HealthConfig(ticks, logDamage, regenerationEnabled, regenerationAmount, regenerationIntervalTicks);
+        return new HealthConfig(ticks, logDamage, regenerationEnabled, regenerationAmount, regenerationIntervalTicks, hazardIndexScanSkip);
     }
 
     public HealthConfig withLogDamage(boolean log) {
-        return new HealthConfig(invulnerabilityTicks, log, regenerationEnabled, regenerationAmount, regenerationIntervalTicks);
+        return new HealthConfig(invulnerabilityTicks, log, regenerationEnabled, regenerationAmount, regenerationIntervalTicks, hazardIndexScanSkip);
     }
 
     public HealthConfig withRegeneration(boolean enabled, float amount, int intervalTicks) {
-        return new HealthConfig(invulnerabilityTicks, logDamage, enabled, amount, intervalTicks);
+        return new HealthConfig(invulnerabilityTicks, logDamage, enabled, amount, intervalTicks, hazardIndexScanSkip);
     }
 
     public HealthConfig withRegeneration(boolean enabled) {
-        return new HealthConfig(invulnerabilityTicks, logDamage, enabled, regenerationAmount, regenerationIntervalTicks);
+        return new HealthConfig(invulnerabilityTicks, logDamage, enabled, regenerationAmount, regenerationIntervalTicks, hazardIndexScanSkip);
+    }
+
+    public HealthConfig withHazardIndexScanSkip(boolean enabled) {
+        return new HealthConfig(invulnerabilityTicks, logDamage, regenerationEnabled, regenerationAmount, regenerationIntervalTicks, enabled);
     }
 }
@@ -12,7 +12,7 @@ import static com.minestom.mechanics.config.constants.CombatConstants.*;
  * 
  * This class focuses on server-wide world interaction settings:
  * - Block breaking/placing reach distances
- * - Raycasting precision settings
+ * - Raycasting precision settings (legacy; block raycasts are exact)
  * 
  * Note: These settings are server-wide, not per-combat-mode, since
  * world interaction is independent of combat mechanics.
@@ -108,7 +108,9 @@ public record WorldInteractionConfig(
          * Set block raycast step size.
          * 
          * @param step Step size for block raycasting (smaller = more accurate but expensive)
+         * @deprecated Block raycasts use exact voxel traversal against collision shapes; the step is ignored.
          */
+        @Deprecated
         public Builder blockRaycastStep(double step) {
             if (step <= 0) {
                 throw new IllegalArgumentException("Block raycast step must be positive: " + step);
@@ -83,7 +83,7 @@ public class HitboxManager extends AbstractManager<HitboxManager> {
         } else {
             log.debug("Angle Validation: disabled");
         }
-        log.debug("Snapshot Tracking: {}", hitDetectionConfig.trackHitSnapshots() ? "enabled" : "disabled");
+        log.debug("Hit Analytics: {}", hitDetectionConfig.trackHitSnapshots() ? "enabled" : "disabled");
     }
 
     @Override
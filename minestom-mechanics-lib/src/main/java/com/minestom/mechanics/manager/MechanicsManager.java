@@ -1,5 +1,6 @@
 package com.minestom.mechanics.manager;
 
+import com.minestom.mechanics.MechanicsTickLoop;
 import com.minestom.mechanics.config.MechanicsPresets;
 import com.minestom.mechanics.config.combat.CombatConfig;
 import com.minestom.mechanics.config.gameplay.DamageConfig;
@@ -9,10 +10,14 @@ import com.minestom.mechanics.config.combat.HitDetectionConfig;
 import com.minestom.mechanics.config.gameplay.GameplayConfig;
 import com.minestom.mechanics.config.knockback.KnockbackConfig;
 import com.minestom.mechanics.config.health.HealthConfig;
+import com.minestom.mechanics.systems.compatibility.legacy_1_8.fix.LegacyAnimationFix;
 import com.minestom.mechanics.systems.health.HealthSystem;
 import com.minestom.mechanics.systems.knockback.KnockbackSystem;
 import com.minestom.mechanics.systems.player.PlayerDeathHandler;
+import com.minestom.mechanics.systems.misc.HazardIndex;
+import com.minestom.mechanics.systems.misc.LivingEntityIndex;
 import com.minestom.mechanics.systems.misc.VelocityEstimator;
+import com.minestom.mechanics.util.BlockClassifier;
 import com.minestom.mechanics.util.LogUtil;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
@@ -213,12 +218,19 @@ public class MechanicsManager {
         if (knockbackEnabled && knockbackSystem != null) {
             try {
                 knockbackSystem.shutdown();
+                VelocityEstimator.shutdown();
                 log.info("Knockback system shut down");
             } catch (Exception e) {
                 log.error("Knockback shutdown failed", e);
             }
         }
 
+        LegacyAnimationFix.shutdown();
+        LivingEntityIndex.shutdown();
+        HazardIndex.shutdown();
+        // Last: systems above unregister their own handlers first, this drops whatever is left
+        MechanicsTickLoop.shutdown();
+
         // Reset references
         combatManager = null;
         gameplayManager = null;
@@ -454,6 +466,7 @@ public class MechanicsManager {
             MechanicsManager manager = MechanicsManager.this;
 
             TickScalingConfig.initialize(tickScalingMode);
+            BlockClassifier.initialize();
 
             log.info("Initializing...");
             
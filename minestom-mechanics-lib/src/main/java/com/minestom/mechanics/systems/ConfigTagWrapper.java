@@ -1,4 +1,5 @@
 package com.minestom.mechanics.systems;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
@@ -7,6 +8,9 @@ import java.util.List;
  * Generic class for combined tag wrappers.
  * Allows ConfigurableSystem to work with any wrapper type generically.
  *
+ * <p>Built-in wrappers store their vectors as {@link DoubleValues}, so resolution reads them
+ * through {@link #getMultiplierValues()}/{@link #getModifyValues()} without unboxing.</p>
+ *
  * @param <TConfig> The config type this wrapper holds (e.g., KnockbackConfig)
  */
 public interface ConfigTagWrapper<TConfig> {
@@ -29,10 +33,28 @@ public interface ConfigTagWrapper<TConfig> {
     @Nullable
     TConfig getCustom();
 
+    /**
+     * Multiplier values as a primitive array, or null if not set. Shared when the list is a
+     * {@link DoubleValues}; must not be modified.
+     */
+    @ApiStatus.Internal
+    default @Nullable double[] getMultiplierValues() {
+        return DoubleValues.array(getMultiplier());
+    }
+
+    /**
+     * Modify values as a primitive array, or null if not set. Shared when the list is a
+     * {@link DoubleValues}; must not be modified.
+     */
+    @ApiStatus.Internal
+    default @Nullable double[] getModifyValues() {
+        return DoubleValues.array(getModify());
+    }
+
     /**
      * Check if this wrapper is empty (no values set).
      */
     default boolean isEmpty() {
         return getMultiplier() == null && getModify() == null && getCustom() == null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+package com.minestom.mechanics.systems;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable {@code List<Double>} backed by a primitive array.
+ * <p>
+ * Override wrappers ({@link ConfigTagWrapper}) store their multiplier/modify vectors as this list:
+ * the public API stays {@code List<Double>}, while resolution reads the backing array through
+ * {@link ConfigTagWrapper#getMultiplierValues()} without unboxing. The array never leaves this
+ * class except through those internal accessors, so values shared through item caches cannot be
+ * changed by callers.
+ * </p>
+ */
+public final class DoubleValues extends AbstractList<Double> implements RandomAccess {
+
+    private final double[] values;
+
+    private DoubleValues(double[] values) {
+        this.values = values;
+    }
+
+    /** List holding a copy of {@code values}, or null if it is null. */
+    public static @Nullable DoubleValues of(@Nullable double... values) {
+        return values != null ? new DoubleValues(values.clone()) : null;
+    }
+
+    /**
+     * Unmodifiable list with the same values as {@code list}, or null if it is null.
+     * Returns {@code list} itself if it already is a {@code DoubleValues}.
+     */
+    public static @Nullable DoubleValues of(@Nullable List<Double> list) {
+        if (list == null || list instanceof DoubleValues) return (DoubleValues) list;
+        double[] out = new double[list.size()];
+        for (int i = 0; i < out.length; i++) out[i] = list.get(i);
+        return new DoubleValues(out);
+    }
+
+    /**
+     * Primitive values of {@code list}, or null if it is null. For a {@code DoubleValues} this is
+     * the shared backing array and must not be modified; other lists are unboxed into a new array.
+     */
+    @ApiStatus.Internal
+    public static @Nullable double[] array(@Nullable List<Double> list) {
+        if (list == null) return null;
+        if (list instanceof DoubleValues values) return values.values;
+        double[] out = new double[list.size()];
+        for (int i = 0; i < out.length; i++) out[i] = list.get(i);
+        return out;
+    }
+
+    /** Unboxed element at {@code index}. */
+    public double getDouble(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Double get(int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    // Arrays.hashCode(double[]) matches List.hashCode() of the boxed elements
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof DoubleValues other) return Arrays.equals(values, other.values);
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+}
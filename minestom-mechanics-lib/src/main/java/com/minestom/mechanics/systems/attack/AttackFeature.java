@@ -7,6 +7,8 @@ import com.minestom.mechanics.systems.health.HealthSystem;
 import com.minestom.mechanics.config.combat.CombatConfig;
 import com.minestom.mechanics.systems.projectile.utils.ProjectileMaterials;
 import com.minestom.mechanics.InitializableSystem;
+import com.minestom.mechanics.MechanicsTickLoop;
+import com.minestom.mechanics.systems.player.MechanicsEntityState;
 import com.minestom.mechanics.util.LogUtil;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.LivingEntity;
@@ -15,7 +17,6 @@ import net.minestom.server.entity.attribute.Attribute;
 import net.minestom.server.event.entity.EntityAttackEvent;
 import net.minestom.server.event.player.PlayerHandAnimationEvent;
 import net.minestom.server.event.player.PlayerSpawnEvent;
-import net.minestom.server.event.player.PlayerTickEvent;
 import net.minestom.server.item.ItemStack;
 
 /**
@@ -30,6 +31,9 @@ public class AttackFeature extends InitializableSystem {
     private static final LogUtil.SystemLogger log = LogUtil.system("AttackFeature");
 
     private final CombatConfig config;
+    private MechanicsTickLoop.Registration lookCheck;
+    private MechanicsTickLoop.Registration queueResolution;
+    private final AttackQueue attackQueue = new AttackQueue();
 
     private AttackFeature(CombatConfig config) {
         this.config = config;
@@ -64,7 +68,15 @@ public class AttackFeature extends InitializableSystem {
         // Swing window: poll look direction after each swing (attacker→victim and victim→attacker)
         if ((config.swingHitWindowTicks() > 0 && config.swingLookCheckTicks() > 0) ||
                 (config.victimSwingHitWindowTicks() > 0 && config.victimSwingLookCheckTicks() > 0)) {
-            handler.addListener(PlayerTickEvent.class, this::handleSwingLookCheck);
+            // Only players in SwingWindowTracker's active set (unconsumed swing inside the window) are polled
+            lookCheck = MechanicsTickLoop.getInstance().registerTick(MechanicsTickLoop.Phase.COMBAT, "AttackFeature.swingLook",
+                    tick -> SwingWindowTracker.pollActive(tick, this::handleSwingLookCheck));
+        }
+
+        // Ordered resolution: at the end of the tick, after this tick's packets and swing-look poll
+        if (config.orderedAttackResolution()) {
+            queueResolution = MechanicsTickLoop.getInstance().registerTick(MechanicsTickLoop.Phase.END, "AttackFeature.resolve",
+                    tick -> attackQueue.resolve(this::resolveAttack));
         }
 
         // Record attacker-victim for swing window when damage lands
@@ -76,11 +88,11 @@ public class AttackFeature extends InitializableSystem {
 
     private void onAttackLanded(Player attacker, LivingEntity victim, long tick) {
         if (config.swingHitWindowTicks() > 0) {
-            SwingWindowTracker.recordHit(attacker, victim, tick);
+            SwingWindowTracker.recordHit(attacker, victim, tick, config.swingHitWindowTicks());
             log.debug("Swing window: recorded hit {} -> {} at tick {}", attacker.getUsername(), victim.getEntityType(), tick);
         }
         if (config.victimSwingHitWindowTicks() > 0 && victim instanceof Player victimPlayer) {
-            SwingWindowTracker.recordAttacker(victimPlayer, attacker, tick);
+            SwingWindowTracker.recordAttacker(victimPlayer, attacker, tick, config.victimSwingHitWindowTicks());
         }
     }
 
@@ -125,19 +137,14 @@ public class AttackFeature extends InitializableSystem {
 
         // Swing window: record swing for look-check; if swingLookCheckTicks==0, check immediately at swing moment
         if (config.swingHitWindowTicks() > 0) {
-            SwingWindowTracker.recordSwing(attacker, tick);
+            SwingWindowTracker.recordSwing(attacker, tick,
+                    Math.max(config.swingLookCheckTicks(), config.victimSwingLookCheckTicks()));
             var recentVictims = SwingWindowTracker.getRecentVictims(attacker, tick, config.swingHitWindowTicks());
             if (config.swingLookCheckTicks() == 0) {
                 // Check ray only at swing moment (attacker→victim)
                 for (LivingEntity victim : recentVictims) {
                     if (hitDetection.isLookHittingVictimInSwingWindow(attacker, victim) && hitDetection.isReachValid(attacker, victim)) {
-                        SwingWindowTracker.consumeSwing(attacker);
-                        try {
-                            FROM_SWING_WINDOW.set(true);
-                            processAttack(attacker, victim);
-                        } finally {
-                            FROM_SWING_WINDOW.remove();
-                        }
+                        processSwingWindowAttack(attacker, victim);
                         return;
                     }
                 }
@@ -153,13 +160,7 @@ public class AttackFeature extends InitializableSystem {
             if (config.victimSwingLookCheckTicks() == 0) {
                 for (LivingEntity attackerEntity : recentAttackers) {
                     if (hitDetection.isLookHittingVictimInSwingWindow(attacker, attackerEntity) && hitDetection.isReachValid(attacker, attackerEntity)) {
-                        SwingWindowTracker.consumeSwing(attacker);
-                        try {
-                            FROM_SWING_WINDOW.set(true);
-                            processAttack(attacker, attackerEntity);
-                        } finally {
-                            FROM_SWING_WINDOW.remove();
-                        }
+                        processSwingWindowAttack(attacker, attackerEntity);
                         return;
                     }
                 }
@@ -181,11 +182,9 @@ public class AttackFeature extends InitializableSystem {
      * Each tick: for players with unconsumed swing, check look ray for attacker→victim or victim→attacker hits.
      * Hit lands when crosshair passes over target during the look-check window (not just at swing moment).
      */
-    private void handleSwingLookCheck(PlayerTickEvent event) {
-        Player swinger = event.getPlayer();
+    private void handleSwingLookCheck(Player swinger, long tick) {
         if (isBlocking(swinger)) return;
 
-        long tick = HealthSystem.getInstance().getCurrentTick();
         HitDetection hitDetection = HitDetection.getInstance();
 
         // Attacker→victim: swinger has recent victims, look hits one
@@ -194,13 +193,7 @@ public class AttackFeature extends InitializableSystem {
             var recentVictims = SwingWindowTracker.getRecentVictims(swinger, tick, config.swingHitWindowTicks());
             for (LivingEntity victim : recentVictims) {
                 if (hitDetection.isLookHittingVictimInSwingWindow(swinger, victim) && hitDetection.isReachValid(swinger, victim)) {
-                    SwingWindowTracker.consumeSwing(swinger);
-                    try {
-                        FROM_SWING_WINDOW.set(true);
-                        processAttack(swinger, victim);
-                    } finally {
-                        FROM_SWING_WINDOW.remove();
-                    }
+                    processSwingWindowAttack(swinger, victim);
                     return;
                 }
             }
@@ -212,13 +205,7 @@ public class AttackFeature extends InitializableSystem {
             var recentAttackers = SwingWindowTracker.getRecentAttackers(swinger, tick, config.victimSwingHitWindowTicks());
             for (LivingEntity attackerEntity : recentAttackers) {
                 if (hitDetection.isLookHittingVictimInSwingWindow(swinger, attackerEntity) && hitDetection.isReachValid(swinger, attackerEntity)) {
-                    SwingWindowTracker.consumeSwing(swinger);
-                    try {
-                        FROM_SWING_WINDOW.set(true);
-                        processAttack(swinger, attackerEntity);
-                    } finally {
-                        FROM_SWING_WINDOW.remove();
-                    }
+                    processSwingWindowAttack(swinger, attackerEntity);
                     return;
                 }
             }
@@ -233,9 +220,41 @@ public class AttackFeature extends InitializableSystem {
      * Pass attacker + victim to the damage system. For replacement hits (victim in i-frames),
      * health is updated directly without firing the damage event — no client damage effects.
      * Normal hits go through the full pipeline.
+     * With ordered resolution the hit is queued and resolved at the end of the tick instead.
      */
     private void processAttack(Player attacker, LivingEntity victim) {
-        HealthSystem.getInstance().processPlayerMeleeAttack(attacker, victim);
+        if (queueResolution != null) {
+            attackQueue.enqueue(attacker, victim, MechanicsTickLoop.getInstance().getTick(), MechanicsEntityState.NO_TICK);
+            return;
+        }
+        resolveAttack(attacker, victim, false);
+    }
+
+    /**
+     * {@link #processAttack} for a swing-window hit, which uses up the swing. With ordered resolution
+     * the swing is consumed only if the queued hit wins.
+     */
+    private void processSwingWindowAttack(Player attacker, LivingEntity victim) {
+        if (queueResolution != null) {
+            attackQueue.enqueue(attacker, victim, MechanicsTickLoop.getInstance().getTick(),
+                    SwingWindowTracker.getLastSwingTick(attacker));
+            return;
+        }
+        SwingWindowTracker.consumeSwing(attacker);
+        resolveAttack(attacker, victim, true);
+    }
+
+    private void resolveAttack(Player attacker, LivingEntity victim, boolean fromSwingWindow) {
+        if (!fromSwingWindow) {
+            HealthSystem.getInstance().processPlayerMeleeAttack(attacker, victim);
+            return;
+        }
+        try {
+            FROM_SWING_WINDOW.set(true);
+            HealthSystem.getInstance().processPlayerMeleeAttack(attacker, victim);
+        } finally {
+            FROM_SWING_WINDOW.remove();
+        }
     }
 
     // ===========================
@@ -259,6 +278,10 @@ public class AttackFeature extends InitializableSystem {
     }
 
     public void shutdown() {
+        if (lookCheck != null) { lookCheck.unregister(); lookCheck = null; }
+        if (queueResolution != null) { queueResolution.unregister(); queueResolution = null; }
+        attackQueue.clear();
+        SwingWindowTracker.clearActive();
         log.info("AttackFeature shutdown complete");
     }
 
@@ -268,4 +291,10 @@ public class AttackFeature extends InitializableSystem {
     }
 
     public CombatConfig getConfig() { return config; }
+
+    /** Queued intents resolved so far (ordered resolution only). */
+    public long getResolvedAttackCount() { return attackQueue.getResolvedCount(); }
+
+    /** Queued intents dropped so far: the victim was already hit that tick, or an entity was gone (ordered resolution only). */
+    public long getDroppedAttackCount() { return attackQueue.getDroppedCount(); }
 }
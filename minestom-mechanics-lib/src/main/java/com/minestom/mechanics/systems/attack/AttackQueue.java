@@ -0,0 +1,142 @@
+package com.minestom.mechanics.systems.attack;
+
+import com.minestom.mechanics.systems.player.MechanicsEntityState;
+import com.minestom.mechanics.util.LogUtil;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.entity.Player;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Per-tick queue of validated melee attack intents, resolved once per tick in a deterministic order
+ * ({@code CombatConfig.orderedAttackResolution()}).
+ * <p>
+ * Attack packets, swing packets and swing-window polls enqueue instead of resolving immediately.
+ * At resolution the intents are ordered by:
+ * </p>
+ * <ol>
+ *   <li>tick the intent was validated at, oldest first;</li>
+ *   <li>attacker sequence: each attacker's n-th intent this tick goes before anyone's (n+1)-th, so a
+ *       player sending several packets cannot crowd out others;</li>
+ *   <li>attacker latency, highest first: a higher-latency attack left its client earlier;</li>
+ *   <li>attacker entity id, for a total order.</li>
+ * </ol>
+ * The first intent per victim wins and is resolved; later intents on the same victim are dropped
+ * before any config resolution, invulnerability check or knockback runs for them. A swing-window
+ * intent also needs its swing: it is consumed only when the intent wins, so a dropped intent leaves
+ * the swing usable, and a second intent from an already consumed swing is dropped.
+ *
+ * <p>Resolution runs in the {@code END} phase (end of the server tick), so intents from this tick's
+ * packets and swing-window poll resolve in the tick they were validated in, with the same
+ * {@code getCurrentTick()} as the stamped {@link Intent#tick}.</p>
+ *
+ * <p>Intent objects are pooled, so steady-state queuing allocates nothing. Tick thread only.</p>
+ */
+final class AttackQueue {
+
+    private static final LogUtil.SystemLogger log = LogUtil.system("AttackQueue");
+
+    private static final Comparator<Intent> ORDER = Comparator
+            .comparingLong((Intent i) -> i.tick)
+            .thenComparingInt(i -> i.sequence)
+            .thenComparingInt(i -> -i.latency)
+            .thenComparingInt(i -> i.attacker.getEntityId());
+
+    private Intent[] intents = new Intent[16];
+    private int size;
+
+    private final Int2IntOpenHashMap attackerSequence = new Int2IntOpenHashMap();
+    private final IntOpenHashSet resolvedVictims = new IntOpenHashSet();
+
+    private long resolvedCount;
+    private long droppedCount;
+
+    /** Receives each winning intent. */
+    @FunctionalInterface
+    interface Resolver {
+        void resolve(Player attacker, LivingEntity victim, boolean fromSwingWindow);
+    }
+
+    /**
+     * Queue an attack intent for the next {@link #resolve}.
+     *
+     * @param tick tick the attack was validated at
+     * @param swingTick tick of the swing a swing-window hit came from, or {@link MechanicsEntityState#NO_TICK}
+     */
+    void enqueue(Player attacker, LivingEntity victim, long tick, long swingTick) {
+        if (size == intents.length) intents = Arrays.copyOf(intents, size * 2);
+        Intent intent = intents[size];
+        if (intent == null) intents[size] = intent = new Intent();
+        intent.attacker = attacker;
+        intent.victim = victim;
+        intent.tick = tick;
+        intent.swingTick = swingTick;
+        intent.sequence = attackerSequence.addTo(attacker.getEntityId(), 1);
+        intent.latency = attacker.getLatency();
+        size++;
+    }
+
+    /**
+     * Resolve the queued intents in order, passing each winner to {@code resolver}, then clear the queue.
+     */
+    void resolve(Resolver resolver) {
+        if (size == 0) return;
+        if (size > 1) Arrays.sort(intents, 0, size, ORDER);
+
+        for (int i = 0; i < size; i++) {
+            Intent intent = intents[i];
+            Player attacker = intent.attacker;
+            LivingEntity victim = intent.victim;
+            intent.attacker = null;
+            intent.victim = null;
+
+            boolean fromSwingWindow = intent.swingTick != MechanicsEntityState.NO_TICK;
+            if (attacker.isRemoved() || victim.isRemoved() || victim.isDead()
+                    || attacker.getInstance() != victim.getInstance()
+                    || resolvedVictims.contains(victim.getEntityId())
+                    || (fromSwingWindow && !SwingWindowTracker.consumeSwing(attacker, intent.swingTick))) {
+                droppedCount++;
+                continue;
+            }
+            resolvedVictims.add(victim.getEntityId());
+            resolvedCount++;
+            try {
+                resolver.resolve(attacker, victim, fromSwingWindow);
+            } catch (Exception e) {
+                log.error("Attack resolution failed for " + attacker.getUsername(), e);
+            }
+        }
+
+        size = 0;
+        attackerSequence.clear();
+        resolvedVictims.clear();
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            intents[i].attacker = null;
+            intents[i].victim = null;
+        }
+        size = 0;
+        attackerSequence.clear();
+        resolvedVictims.clear();
+    }
+
+    /** Intents resolved since startup. */
+    long getResolvedCount() { return resolvedCount; }
+
+    /** Intents dropped since startup (victim already hit this tick, swing already used, or attacker/victim gone). */
+    long getDroppedCount() { return droppedCount; }
+
+    private static final class Intent {
+        Player attacker;
+        LivingEntity victim;
+        long tick;
+        long swingTick;
+        int sequence;
+        int latency;
+    }
+}
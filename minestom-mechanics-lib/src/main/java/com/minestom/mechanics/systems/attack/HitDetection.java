@@ -2,21 +2,27 @@ package com.minestom.mechanics.systems.attack;
 
 import com.minestom.mechanics.config.combat.HitDetectionConfig;
 import com.minestom.mechanics.InitializableSystem;
+import com.minestom.mechanics.MechanicsTickLoop;
 import com.minestom.mechanics.systems.compatibility.hitbox.EyeHeightSystem;
+import com.minestom.mechanics.systems.validation.LagCompensation;
+import com.minestom.mechanics.systems.validation.PositionHistory;
 import com.minestom.mechanics.systems.validation.hits.AttackPacketValidator;
+import com.minestom.mechanics.systems.validation.hits.HitAnalytics;
 import com.minestom.mechanics.systems.validation.hits.HitSnapshotTracker;
 import com.minestom.mechanics.systems.validation.hits.ServerSideDetector;
 import com.minestom.mechanics.util.LogUtil;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.entity.Player;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Hit detection orchestrator. Determines if and what a player hit.
  * Uses validation components from {@code systems.validation.hits} for reach checks
  * and raycasting, but owns the detection decision.
  *
- * <p>Snapshot/distance tracking delegated to {@link HitSnapshotTracker} for analytics.</p>
+ * <p>Hit analytics are opt-in ({@code HitDetectionConfig.trackHitSnapshots()}); when enabled each
+ * validated hit is measured and recorded per attacker by {@link HitSnapshotTracker}.</p>
  */
 public class HitDetection extends InitializableSystem {
     private static HitDetection instance;
@@ -26,6 +32,9 @@ public class HitDetection extends InitializableSystem {
     private final ServerSideDetector serverSideDetector;
     private final HitSnapshotTracker hitSnapshotTracker;
     private final HitDetectionConfig config;
+    // Tick-thread scratch for analytics
+    private final PositionHistory.Sample victimSample = new PositionHistory.Sample();
+    private final ServerSideDetector.HitMeasurement measurement = new ServerSideDetector.HitMeasurement();
 
     private HitDetection(HitDetectionConfig config) {
         this.config = config;
@@ -44,6 +53,9 @@ public class HitDetection extends InitializableSystem {
             return instance;
         }
         instance = new HitDetection(config);
+        if (config.maxRewindTicks() > 0) {
+            LagCompensation.initialize(config.maxRewindTicks());
+        }
         instance.markInitialized();
         log.debug("Initialized with server reach: {:.2f}b, attack packet reach: {:.2f}b",
                 config.serverSideReach(), config.attackPacketReach());
@@ -57,17 +69,11 @@ public class HitDetection extends InitializableSystem {
 
     /**
      * Validate reach for a client-initiated attack (attack packet).
-     * Stores a hit snapshot for analytics.
+     * Records hit analytics when enabled.
      */
     public boolean isReachValid(Player attacker, LivingEntity victim) {
         if (!attackPacketValidator.isReachValid(attacker, victim)) return false;
-
-        // Calculate precise distance for analytics
-        Pos eye = EyeHeightSystem.getInstance().getEyePosition(attacker);
-        ServerSideDetector.HitSnapshot snapshot = serverSideDetector.calculatePreciseDistance(
-                attacker, eye, eye.direction(), victim.getPosition(), config.attackPacketReach()
-        );
-        hitSnapshotTracker.storeHitSnapshot(victim, snapshot);
+        if (config.trackHitSnapshots()) recordHit(attacker, victim, config.attackPacketReach());
         return true;
     }
 
@@ -86,30 +92,82 @@ public class HitDetection extends InitializableSystem {
      */
     public LivingEntity findTargetFromSwing(Player attacker) {
         LivingEntity target = serverSideDetector.findTargetFromSwing(attacker);
-        if (target != null) {
-            Pos eye = EyeHeightSystem.getInstance().getEyePosition(attacker);
-            ServerSideDetector.HitSnapshot snapshot = serverSideDetector.calculatePreciseDistance(
-                    attacker, eye, eye.direction(), target.getPosition(), config.serverSideReach()
-            );
-            hitSnapshotTracker.storeHitSnapshot(target, snapshot);
-        }
+        if (target != null && config.trackHitSnapshots()) recordHit(attacker, target, config.serverSideReach());
         return target;
     }
 
+    /**
+     * Measure the hit precisely (against the rewound victim when lag compensation is on) and record it.
+     * Only reached when analytics are enabled. The attacker's rolling analytics reuse tick-thread
+     * scratch; the victim-keyed snapshot is the only per-hit allocation.
+     */
+    private void recordHit(Player attacker, LivingEntity victim, double maxReach) {
+        Pos eye = EyeHeightSystem.getInstance().getEyePosition(attacker);
+        LagCompensation.sample(victim, attacker, victimSample);
+        serverSideDetector.measureHit(attacker, eye, eye.direction(),
+                victimSample.x, victimSample.y, victimSample.z, victimSample.width, victimSample.height,
+                maxReach, measurement);
+        hitSnapshotTracker.record(attacker, victim, MechanicsTickLoop.getInstance().getTick(),
+                measurement.distance, measurement.tier);
+        hitSnapshotTracker.storeHitSnapshot(victim, new ServerSideDetector.HitSnapshot(measurement.distance,
+                measurement.tier, eye, new Pos(victimSample.x, victimSample.y, victimSample.z)));
+    }
+
     // ===========================
     // ANALYTICS (delegated to tracker)
     // ===========================
 
-    public ServerSideDetector.HitSnapshot getLastHitSnapshot(LivingEntity entity) {
-        return hitSnapshotTracker.getLastHitSnapshot(entity);
+    /**
+     * Rolling hit analytics for an attacker (reach percentiles, tier mix).
+     *
+     * @return the analytics, or null if analytics are disabled or the player has no recorded hits
+     */
+    public @Nullable HitAnalytics getHitAnalytics(Player attacker) {
+        return hitSnapshotTracker.get(attacker);
     }
 
-    public double getLastHitDistance(LivingEntity entity) {
-        return hitSnapshotTracker.getLastHitDistance(entity);
+    /** Reach of the attacker's latest recorded hit, or -1 if none. */
+    public double getAttackerLastHitDistance(Player attacker) {
+        HitAnalytics hits = hitSnapshotTracker.get(attacker);
+        return hits != null && hits.size() > 0 ? hits.lastDistance() : -1.0;
     }
 
-    public ServerSideDetector.ValidationTier getLastHitTier(LivingEntity entity) {
-        return hitSnapshotTracker.getLastHitTier(entity);
+    /** Validation tier of the attacker's latest recorded hit, or null if none. */
+    public @Nullable ServerSideDetector.ValidationTier getAttackerLastHitTier(Player attacker) {
+        HitAnalytics hits = hitSnapshotTracker.get(attacker);
+        return hits != null ? hits.lastTier() : null;
+    }
+
+    /**
+     * Latest hit the victim took, or null if none (recorded only while analytics are enabled).
+     *
+     * @deprecated use {@link #getHitAnalytics} for per-attacker analytics
+     */
+    @Deprecated
+    public @Nullable ServerSideDetector.HitSnapshot getLastHitSnapshot(LivingEntity victim) {
+        return hitSnapshotTracker.getLastHitSnapshot(victim);
+    }
+
+    /**
+     * Reach of the latest hit the victim took, or -1 if none.
+     *
+     * @deprecated use {@link #getAttackerLastHitDistance} for the attacker's latest hit
+     */
+    @Deprecated
+    public double getLastHitDistance(LivingEntity victim) {
+        ServerSideDetector.HitSnapshot snapshot = hitSnapshotTracker.getLastHitSnapshot(victim);
+        return snapshot != null ? snapshot.rayDistance : -1.0;
+    }
+
+    /**
+     * Validation tier of the latest hit the victim took, or null if none.
+     *
+     * @deprecated use {@link #getAttackerLastHitTier} for the attacker's latest hit
+     */
+    @Deprecated
+    public @Nullable ServerSideDetector.ValidationTier getLastHitTier(LivingEntity victim) {
+        ServerSideDetector.HitSnapshot snapshot = hitSnapshotTracker.getLastHitSnapshot(victim);
+        return snapshot != null ? snapshot.tier : null;
     }
 
     // ===========================
@@ -122,6 +180,7 @@ public class HitDetection extends InitializableSystem {
 
     public void shutdown() {
         hitSnapshotTracker.clearAll();
+        LagCompensation.shutdown();
         log.info("HitDetection shutdown complete");
     }
 
@@ -139,5 +198,5 @@ public class HitDetection extends InitializableSystem {
     }
 
     public HitDetectionConfig getHitDetectionConfig() { return config; }
-    public int getTrackedEntities() { return hitSnapshotTracker.getTrackedEntities().size(); }
+    public int getTrackedEntities() { return hitSnapshotTracker.getTrackedCount(); }
 }
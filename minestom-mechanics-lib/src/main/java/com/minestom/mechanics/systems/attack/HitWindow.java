@@ -0,0 +1,150 @@
+package com.minestom.mechanics.systems.attack;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.instance.Instance;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+/**
+ * One side of a swing hit window ({@link SwingWindowTracker}): the entities a player recently hit,
+ * or was recently hit by, with the tick of the latest hit.
+ * <p>
+ * Keyed by entity id in a primitive {@link Int2LongOpenHashMap}; the entities themselves are held
+ * weakly so a window never keeps a removed entity alive. Hits are recorded at the current tick,
+ * so a FIFO of (id, tick) is already in expiry order and pruning pops from its head only until
+ * the first live entry — no full scan per query.
+ * </p>
+ *
+ * <p>The queue stays bounded even if the owner never queries: recording with a window prunes expired
+ * entries, and superseded entries are compacted away once they outnumber the live ones.</p>
+ *
+ * <p>Tick thread only, like the rest of {@code MechanicsEntityState}.</p>
+ */
+public final class HitWindow {
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final Int2LongOpenHashMap lastHit = new Int2LongOpenHashMap();
+    private final Int2ObjectOpenHashMap<WeakReference<LivingEntity>> entities = new Int2ObjectOpenHashMap<>();
+
+    // Expiry queue (ring buffer) of every recorded hit; superseded entries are skipped on pop
+    private int[] queueIds = new int[8];
+    private long[] queueTicks = new long[8];
+    private int head, size;
+
+    public HitWindow() {
+        lastHit.defaultReturnValue(NONE);
+    }
+
+    /**
+     * Record a hit on/by {@code entity} at {@code tick} (ticks must be non-decreasing).
+     */
+    public void record(LivingEntity entity, long tick) {
+        int id = entity.getEntityId();
+        lastHit.put(id, tick);
+        WeakReference<LivingEntity> ref = entities.get(id);
+        if (ref == null || ref.get() != entity) entities.put(id, new WeakReference<>(entity));
+        push(id, tick);
+        if (size > 2 * lastHit.size()) compact();
+    }
+
+    /**
+     * {@link #record(LivingEntity, long)}, first dropping entries last hit before {@code cutoff}.
+     */
+    public void record(LivingEntity entity, long tick, long cutoff) {
+        prune(cutoff);
+        record(entity, tick);
+    }
+
+    /**
+     * Drop every entry last hit before {@code cutoff}.
+     */
+    public void prune(long cutoff) {
+        while (size > 0 && queueTicks[head] < cutoff) {
+            int id = queueIds[head];
+            long tick = queueTicks[head];
+            head = (head + 1) % queueIds.length;
+            size--;
+            // Only expire the entity if this was its latest hit
+            if (lastHit.get(id) == tick) {
+                lastHit.remove(id);
+                entities.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Prune to {@code cutoff}, then append live entities in {@code instance} to {@code out}.
+     * Removed or garbage-collected entities are dropped from the window.
+     */
+    public void collect(long cutoff, Instance instance, List<LivingEntity> out) {
+        prune(cutoff);
+        if (lastHit.isEmpty()) return;
+
+        ObjectIterator<Int2LongMap.Entry> it = lastHit.int2LongEntrySet().fastIterator();
+        while (it.hasNext()) {
+            int id = it.next().getIntKey();
+            WeakReference<LivingEntity> ref = entities.get(id);
+            LivingEntity entity = ref != null ? ref.get() : null;
+            if (entity == null || entity.isRemoved()) {
+                it.remove();
+                entities.remove(id);
+                continue;
+            }
+            if (entity.getInstance() == instance) out.add(entity);
+        }
+    }
+
+    public boolean isEmpty() {
+        return lastHit.isEmpty();
+    }
+
+    public void clear() {
+        lastHit.clear();
+        entities.clear();
+        head = size = 0;
+    }
+
+    private void push(int id, long tick) {
+        if (size == queueIds.length) grow();
+        int tail = (head + size) % queueIds.length;
+        queueIds[tail] = id;
+        queueTicks[tail] = tick;
+        size++;
+    }
+
+    /** Drop superseded entries (an entity's older hits), keeping expiry order. */
+    private void compact() {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int src = (head + i) % queueIds.length;
+            int id = queueIds[src];
+            long tick = queueTicks[src];
+            if (lastHit.get(id) != tick) continue;
+            int dst = (head + kept) % queueIds.length;
+            queueIds[dst] = id;
+            queueTicks[dst] = tick;
+            kept++;
+        }
+        size = kept;
+    }
+
+    private void grow() {
+        int n = queueIds.length * 2;
+        int[] ids = new int[n];
+        long[] ticks = new long[n];
+        for (int i = 0; i < size; i++) {
+            int src = (head + i) % queueIds.length;
+            ids[i] = queueIds[src];
+            ticks[i] = queueTicks[src];
+        }
+        queueIds = ids;
+        queueTicks = ticks;
+        head = 0;
+    }
+}
@@ -1,46 +1,43 @@
 package com.minestom.mechanics.systems.attack;
 
+import com.minestom.mechanics.MechanicsTickLoop;
+import com.minestom.mechanics.systems.player.MechanicsEntityState;
+import com.minestom.mechanics.systems.player.PlayerStateManager;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Instance;
-import net.minestom.server.tag.Tag;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 
 /**
- * Tracks attacker-victim relationships for the swing hit window using tags on the attacker.
+ * Tracks attacker-victim relationships for the swing hit window in the attacker's {@link MechanicsEntityState}.
  * When an attacker hits a victim (melee or projectile only — not swing-window hits), the victim
  * is stored on the attacker. For the next N ticks, swings that ray-intersect that victim count
  * as attacks. Swing-window hits do not add victims (only the "initial" melee/projectile hit does).
  *
  * <p>Supports multiple victims when two hits land in the same tick (e.g. melee + projectile).</p>
- * <p>Tags auto-clear when the player disconnects.</p>
+ * <p>Windows are {@link HitWindow}s keyed by entity id and die with the player's state on disconnect.</p>
+ * <p>Players with an unconsumed swing are kept in an active set for their look-check window;
+ * {@link #pollActive} visits only those, so idle players are never polled.</p>
  */
 public final class SwingWindowTracker {
 
-    private record VictimMap(HashMap<UUID, Long> data) {
-        VictimMap() { this(new HashMap<>()); }
-    }
-    private record AttackerMap(HashMap<UUID, Long> data) {
-        AttackerMap() { this(new HashMap<>()); }
-    }
-    private static final Tag<VictimMap> VICTIMS = Tag.Transient("attack_swing_window");
-    private static final Tag<AttackerMap> ATTACKERS = Tag.Transient("attack_victim_attackers");
-    private static final Tag<Long> LAST_SWING_TICK = Tag.Transient("attack_last_swing_tick");
-    private static final Tag<Long> LAST_CONSUMED_SWING = Tag.Transient("attack_last_consumed_swing");
-
     private SwingWindowTracker() {}
 
     /**
      * Record that attacker swung at the given tick. Used for look-check window (poll look for N ticks after swing).
+     *
+     * @param lookCheckTicks how long the swing stays in the active set polled by {@link #pollActive}; 0 to not poll
      */
-    public static void recordSwing(Player attacker, long tick) {
+    public static void recordSwing(Player attacker, long tick, int lookCheckTicks) {
         if (attacker == null) return;
-        attacker.setTag(LAST_SWING_TICK, tick);
+        PlayerStateManager.get(attacker).swing.lastSwingTick = tick;
+        if (lookCheckTicks > 0) activate(attacker, tick + lookCheckTicks);
     }
 
     /**
@@ -48,34 +45,139 @@ public final class SwingWindowTracker {
      */
     public static boolean hasUnconsumedSwing(Player attacker, long currentTick, int lookCheckTicks) {
         if (attacker == null || lookCheckTicks <= 0) return false;
-        Long lastSwing = attacker.getTag(LAST_SWING_TICK);
-        Long lastConsumed = attacker.getTag(LAST_CONSUMED_SWING);
-        if (lastSwing == null) return false;
-        if (lastConsumed != null && lastSwing <= lastConsumed) return false; // swing already consumed
+        MechanicsEntityState state = PlayerStateManager.peek(attacker);
+        if (state == null) return false;
+        long lastSwing = state.swing.lastSwingTick;
+        long lastConsumed = state.swing.lastConsumedSwingTick;
+        if (lastSwing == MechanicsEntityState.NO_TICK) return false;
+        if (lastConsumed != MechanicsEntityState.NO_TICK && lastSwing <= lastConsumed) return false; // swing already consumed
         return currentTick - lastSwing <= lookCheckTicks;
     }
 
+    /**
+     * Tick of the attacker's latest swing, or {@link MechanicsEntityState#NO_TICK} if none.
+     */
+    public static long getLastSwingTick(Player attacker) {
+        MechanicsEntityState state = PlayerStateManager.peek(attacker);
+        return state != null ? state.swing.lastSwingTick : MechanicsEntityState.NO_TICK;
+    }
+
+    /**
+     * Consume the swing made at {@code swingTick} unless it (or a later swing) was already consumed.
+     * Used when a window-hit is resolved after the swing, so one swing yields at most one hit.
+     *
+     * @return true if this call consumed the swing
+     */
+    public static boolean consumeSwing(Player attacker, long swingTick) {
+        if (attacker == null || swingTick == MechanicsEntityState.NO_TICK) return false;
+        MechanicsEntityState state = PlayerStateManager.peek(attacker);
+        if (state == null) return false;
+        long lastConsumed = state.swing.lastConsumedSwingTick;
+        if (lastConsumed != MechanicsEntityState.NO_TICK && lastConsumed >= swingTick) return false;
+        state.swing.lastConsumedSwingTick = swingTick;
+        if (swingTick >= state.swing.lastSwingTick) ACTIVE.remove(attacker.getEntityId());
+        return true;
+    }
+
     /**
      * Mark the current swing as consumed (we processed a window-hit from it).
      */
     public static void consumeSwing(Player attacker) {
         if (attacker == null) return;
-        Long lastSwing = attacker.getTag(LAST_SWING_TICK);
-        if (lastSwing != null) attacker.setTag(LAST_CONSUMED_SWING, lastSwing);
+        MechanicsEntityState state = PlayerStateManager.peek(attacker);
+        if (state != null && state.swing.lastSwingTick != MechanicsEntityState.NO_TICK) {
+            state.swing.lastConsumedSwingTick = state.swing.lastSwingTick;
+        }
+        ACTIVE.remove(attacker.getEntityId());
+    }
+
+    // ===========================
+    // ACTIVE SET
+    // ===========================
+
+    /** A player with an unconsumed swing whose look-check window ends at {@code until} (inclusive). */
+    private static final class Active {
+        final Player player;
+        long until;
+
+        Active(Player player, long until) {
+            this.player = player;
+            this.until = until;
+        }
+    }
+
+    // Players with an unconsumed swing inside their look-check window, keyed by entity id (tick thread only)
+    private static final Int2ObjectOpenHashMap<Active> ACTIVE = new Int2ObjectOpenHashMap<>();
+    private static Player[] pollScratch = new Player[16];
+
+    private static void activate(Player player, long until) {
+        Active active = ACTIVE.get(player.getEntityId());
+        if (active != null && active.player == player) {
+            active.until = Math.max(active.until, until);
+        } else {
+            ACTIVE.put(player.getEntityId(), new Active(player, until));
+        }
     }
 
+    /**
+     * Run {@code handler} for every player whose swing is still unconsumed and inside its look-check
+     * window. Expired, consumed and removed players drop out here, so players not in combat cost nothing.
+     * The handler may consume swings (the active set is snapshotted before dispatch).
+     */
+    public static void pollActive(long currentTick, MechanicsTickLoop.PlayerHandler handler) {
+        if (ACTIVE.isEmpty()) return;
+
+        int n = 0;
+        ObjectIterator<Int2ObjectMap.Entry<Active>> it = ACTIVE.int2ObjectEntrySet().fastIterator();
+        while (it.hasNext()) {
+            Active active = it.next().getValue();
+            Player player = active.player;
+            if (currentTick > active.until || player.isRemoved() || player.getInstance() == null) {
+                it.remove();
+                continue;
+            }
+            if (n == pollScratch.length) pollScratch = Arrays.copyOf(pollScratch, n * 2);
+            pollScratch[n++] = player;
+        }
+
+        for (int i = 0; i < n; i++) {
+            Player player = pollScratch[i];
+            pollScratch[i] = null;
+            handler.tick(player, currentTick);
+        }
+    }
+
+    /** Number of players currently polled for swing-window look hits. */
+    public static int getActiveCount() {
+        return ACTIVE.size();
+    }
+
+    /** Drop every active swing (on shutdown). */
+    public static void clearActive() {
+        ACTIVE.clear();
+    }
+
+    // ===========================
+    // HIT WINDOWS
+    // ===========================
+
     /**
      * Record that attacker hit victim at the given tick (from melee or projectile).
      * Do NOT call when the hit came from a swing-window path.
      */
     public static void recordHit(Player attacker, LivingEntity victim, long tick) {
-        if (attacker == null || victim == null) return;
-        UUID vId = victim.getUuid();
-        if (attacker.getUuid().equals(vId)) return;
-        VictimMap vm = attacker.getTag(VICTIMS);
-        if (vm == null) vm = new VictimMap();
-        vm.data().put(vId, tick);
-        attacker.setTag(VICTIMS, vm);
+        recordHit(attacker, victim, tick, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@link #recordHit(Player, LivingEntity, long)}, dropping victims older than {@code windowTicks}
+     * so the window stays small even if the attacker never swings.
+     */
+    public static void recordHit(Player attacker, LivingEntity victim, long tick, int windowTicks) {
+        if (attacker == null || victim == null || attacker == victim) return;
+        MechanicsEntityState.Swing swing = PlayerStateManager.get(attacker).swing;
+        if (swing.victims == null) swing.victims = new HitWindow();
+        swing.victims.record(victim, tick, tick - windowTicks);
     }
 
     /**
@@ -84,27 +186,8 @@ public final class SwingWindowTracker {
      */
     public static List<LivingEntity> getRecentVictims(Player attacker, long currentTick, int windowTicks) {
         if (windowTicks <= 0) return List.of();
-        VictimMap vm = attacker.getTag(VICTIMS);
-        if (vm == null || vm.data().isEmpty()) return List.of();
-
-        Map<UUID, Long> map = vm.data();
-        List<LivingEntity> result = new ArrayList<>();
-        long cutoff = currentTick - windowTicks;
-        map.entrySet().removeIf(e -> e.getValue() < cutoff); // prune lazily
-        if (map.isEmpty()) {
-            attacker.removeTag(VICTIMS);
-            return List.of();
-        }
-
-        Instance instance = attacker.getInstance();
-        if (instance == null) return List.of();
-        for (Map.Entry<UUID, Long> e : map.entrySet()) {
-            LivingEntity v = findLivingByUuid(instance, e.getKey());
-            if (v != null && !v.isRemoved()) {
-                result.add(v);
-            }
-        }
-        return result;
+        MechanicsEntityState state = PlayerStateManager.peek(attacker);
+        return state == null ? List.of() : collect(attacker, state.swing.victims, currentTick - windowTicks);
     }
 
     /**
@@ -112,13 +195,18 @@ public final class SwingWindowTracker {
      * Call when damage lands (melee or swing-window).
      */
     public static void recordAttacker(Player victim, LivingEntity attacker, long tick) {
-        if (victim == null || attacker == null) return;
-        UUID aId = attacker.getUuid();
-        if (victim.getUuid().equals(aId)) return;
-        AttackerMap am = victim.getTag(ATTACKERS);
-        if (am == null) am = new AttackerMap();
-        am.data().put(aId, tick);
-        victim.setTag(ATTACKERS, am);
+        recordAttacker(victim, attacker, tick, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@link #recordAttacker(Player, LivingEntity, long)}, dropping attackers older than {@code windowTicks}
+     * so the window stays small even if the victim never swings.
+     */
+    public static void recordAttacker(Player victim, LivingEntity attacker, long tick, int windowTicks) {
+        if (victim == null || attacker == null || victim == attacker) return;
+        MechanicsEntityState.Swing swing = PlayerStateManager.get(victim).swing;
+        if (swing.attackers == null) swing.attackers = new HitWindow();
+        swing.attackers.record(attacker, tick, tick - windowTicks);
     }
 
     /**
@@ -126,33 +214,19 @@ public final class SwingWindowTracker {
      */
     public static List<LivingEntity> getRecentAttackers(Player victim, long currentTick, int windowTicks) {
         if (windowTicks <= 0) return List.of();
-        AttackerMap am = victim.getTag(ATTACKERS);
-        if (am == null || am.data().isEmpty()) return List.of();
+        MechanicsEntityState state = PlayerStateManager.peek(victim);
+        return state == null ? List.of() : collect(victim, state.swing.attackers, currentTick - windowTicks);
+    }
 
-        Map<UUID, Long> map = am.data();
-        List<LivingEntity> result = new ArrayList<>();
-        long cutoff = currentTick - windowTicks;
-        map.entrySet().removeIf(e -> e.getValue() < cutoff);
-        if (map.isEmpty()) {
-            victim.removeTag(ATTACKERS);
+    private static List<LivingEntity> collect(Player owner, HitWindow window, long cutoff) {
+        if (window == null) return List.of();
+        Instance instance = owner.getInstance();
+        if (instance == null) {
+            window.prune(cutoff);
             return List.of();
         }
-
-        Instance instance = victim.getInstance();
-        if (instance == null) return List.of();
-        for (Map.Entry<UUID, Long> e : map.entrySet()) {
-            LivingEntity a = findLivingByUuid(instance, e.getKey());
-            if (a != null && !a.isRemoved()) {
-                result.add(a);
-            }
-        }
+        List<LivingEntity> result = new ArrayList<>();
+        window.collect(cutoff, instance, result);
         return result;
     }
-
-    private static LivingEntity findLivingByUuid(Instance instance, UUID uuid) {
-        for (var entity : instance.getEntities()) {
-            if (entity instanceof LivingEntity living && entity.getUuid().equals(uuid)) return living;
-        }
-        return null;
-    }
 }
@@ -1,6 +1,7 @@
 package com.minestom.mechanics.systems.blocking;
 
 import com.minestom.mechanics.InitializableSystem;
+import com.minestom.mechanics.util.ItemTagCache;
 import com.minestom.mechanics.util.LogUtil;
 import com.minestom.mechanics.config.combat.CombatConfig;
 import com.minestom.mechanics.systems.blocking.tags.BlockableTagValue;
@@ -102,7 +103,7 @@ public class BlockingSystem extends InitializableSystem {
 
         if (event.getPacket() instanceof ClientUseItemPacket) {
             ItemStack mainHand = player.getItemInMainHand();
-            if (mainHand != null && !mainHand.isAir() && mainHand.getTag(BLOCKABLE) != null
+            if (mainHand != null && !mainHand.isAir() && ItemTagCache.get(mainHand, BLOCKABLE) != null
                     && !isBlocking(player)) {
                 startBlocking(player);
             }
@@ -178,7 +179,7 @@ public class BlockingSystem extends InitializableSystem {
         if (ClientVersionDetector.getInstance().getClientVersion(player) != ClientVersionDetector.ClientVersion.LEGACY) return;
         ItemStack mainHand = player.getItemInMainHand();
         if (mainHand == null || mainHand.isAir()) return;
-        BlockableTagValue tag = mainHand.getTag(BLOCKABLE);
+        BlockableTagValue tag = ItemTagCache.get(mainHand, BLOCKABLE);
         if (tag == null || tag.applyLegacySlowdown() != Boolean.TRUE) return;
 
         double amount = LEGACY_BLOCKING_SPEED_MULTIPLIER - 1.0;
@@ -215,7 +216,7 @@ public class BlockingSystem extends InitializableSystem {
         if (player == null || !isBlocking(player)) return configReduction;
         ItemStack mainHand = player.getItemInMainHand();
         if (mainHand == null || mainHand.isAir()) return configReduction;
-        BlockableTagValue tag = mainHand.getTag(BLOCKABLE);
+        BlockableTagValue tag = ItemTagCache.get(mainHand, BLOCKABLE);
         if (tag == null) return configReduction;
         return tag.damageReduction() != null ? tag.damageReduction() : configReduction;
     }
@@ -225,7 +226,7 @@ public class BlockingSystem extends InitializableSystem {
         if (player == null || !isBlocking(player)) return configReduction;
         ItemStack mainHand = player.getItemInMainHand();
         if (mainHand == null || mainHand.isAir()) return configReduction;
-        BlockableTagValue tag = mainHand.getTag(BLOCKABLE);
+        BlockableTagValue tag = ItemTagCache.get(mainHand, BLOCKABLE);
         if (tag == null) return configReduction;
         if (tag.knockbackHMultiplier() != null) return 1.0 - tag.knockbackHMultiplier();
         return configReduction;
@@ -236,7 +237,7 @@ public class BlockingSystem extends InitializableSystem {
         if (player == null || !isBlocking(player)) return configReduction;
         ItemStack mainHand = player.getItemInMainHand();
         if (mainHand == null || mainHand.isAir()) return configReduction;
-        BlockableTagValue tag = mainHand.getTag(BLOCKABLE);
+        BlockableTagValue tag = ItemTagCache.get(mainHand, BLOCKABLE);
         if (tag == null) return configReduction;
         if (tag.knockbackVMultiplier() != null) return 1.0 - tag.knockbackVMultiplier();
         return configReduction;
@@ -1,5 +1,6 @@
 package com.minestom.mechanics.systems.blocking.tags;
 
+import com.minestom.mechanics.util.CompactTagCodec;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.tag.TagReadable;
 import net.minestom.server.tag.TagSerializer;
@@ -8,6 +9,7 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * Serializer for {@link BlockableTagValue} on items.
+ * Writes the {@link CompactTagCodec} format by default and still reads the legacy per-field layout.
  */
 public class BlockableTagSerializer implements TagSerializer<BlockableTagValue> {
 
@@ -16,8 +18,55 @@ public class BlockableTagSerializer implements TagSerializer<BlockableTagValue>
     private static final Tag<Double> KBH = Tag.Double("kh");
     private static final Tag<Double> KBV = Tag.Double("kv");
 
+    private static final int SCHEMA_VERSION = 1;
+    private static final int HAS_SLOW = 1, SLOW_VALUE = 1 << 1, HAS_DR = 1 << 2, HAS_KBH = 1 << 3, HAS_KBV = 1 << 4;
+
     @Override
     public BlockableTagValue read(@NotNull TagReadable r) {
+        return CompactTagCodec.read(r, "blockable", SCHEMA_VERSION, BlockableTagSerializer::readCompact, BlockableTagSerializer::readLegacy);
+    }
+
+    @Override
+    public void write(@NotNull TagWritable w, @NotNull BlockableTagValue v) {
+        if (CompactTagCodec.isWriteCompact()) {
+            w.setTag(CompactTagCodec.DATA, writeCompact(v));
+        } else {
+            writeLegacy(w, v);
+        }
+    }
+
+    // ===========================
+    // COMPACT FORMAT
+    // ===========================
+
+    private static byte[] writeCompact(BlockableTagValue v) {
+        CompactTagCodec.Writer out = CompactTagCodec.writer(SCHEMA_VERSION);
+        out.writeByte((v.applyLegacySlowdown() != null ? HAS_SLOW : 0)
+                | (Boolean.TRUE.equals(v.applyLegacySlowdown()) ? SLOW_VALUE : 0)
+                | (v.damageReduction() != null ? HAS_DR : 0)
+                | (v.knockbackHMultiplier() != null ? HAS_KBH : 0)
+                | (v.knockbackVMultiplier() != null ? HAS_KBV : 0));
+        if (v.damageReduction() != null) out.writeDouble(v.damageReduction());
+        if (v.knockbackHMultiplier() != null) out.writeDouble(v.knockbackHMultiplier());
+        if (v.knockbackVMultiplier() != null) out.writeDouble(v.knockbackVMultiplier());
+        return out.toByteArray();
+    }
+
+    private static BlockableTagValue readCompact(CompactTagCodec.Reader in) {
+        int flags = in.readByte();
+        if (flags == 0) return null;
+        Boolean slow = (flags & HAS_SLOW) != 0 ? (flags & SLOW_VALUE) != 0 : null;
+        Double dr = (flags & HAS_DR) != 0 ? in.readDouble() : null;
+        Double kbh = (flags & HAS_KBH) != 0 ? in.readDouble() : null;
+        Double kbv = (flags & HAS_KBV) != 0 ? in.readDouble() : null;
+        return new BlockableTagValue(slow, dr, kbh, kbv);
+    }
+
+    // ===========================
+    // LEGACY FORMAT
+    // ===========================
+
+    private static BlockableTagValue readLegacy(TagReadable r) {
         Boolean slow = r.getTag(SLOW);
         Double dr = r.getTag(DR);
         Double kbh = r.getTag(KBH);
@@ -26,8 +75,7 @@ public class BlockableTagSerializer implements TagSerializer<BlockableTagValue>
         return new BlockableTagValue(slow, dr, kbh, kbv);
     }
 
-    @Override
-    public void write(@NotNull TagWritable w, @NotNull BlockableTagValue v) {
+    private static void writeLegacy(TagWritable w, BlockableTagValue v) {
         if (v.applyLegacySlowdown() != null) w.setTag(SLOW, v.applyLegacySlowdown());
         if (v.damageReduction() != null) w.setTag(DR, v.damageReduction());
         if (v.knockbackHMultiplier() != null) w.setTag(KBH, v.knockbackHMultiplier());
@@ -2,6 +2,8 @@ package com.minestom.mechanics.systems.compatibility.hitbox;
 
 import com.minestom.mechanics.config.gameplay.HitboxConfig;
 import com.minestom.mechanics.InitializableSystem;
+import com.minestom.mechanics.MechanicsTickLoop;
+import com.minestom.mechanics.util.BlockClassifier;
 import com.minestom.mechanics.util.LogUtil;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.collision.BoundingBox;
@@ -41,7 +43,7 @@ public class HitboxSystem extends InitializableSystem {
     // State tracking
     private final Map<UUID, PlayerState> playerStates = new ConcurrentHashMap<>();
     private final HitboxConfig config;
-    private int tickCounter = 0;
+    private MechanicsTickLoop.Registration tickRegistration;
 
     private HitboxSystem(HitboxConfig config) {
         this.config = config;
@@ -71,7 +73,7 @@ public class HitboxSystem extends InitializableSystem {
 
         handler.addListener(PlayerSpawnEvent.class, this::onPlayerSpawn);
         handler.addListener(PlayerMoveEvent.class, this::onPlayerMove);
-        handler.addListener(PlayerTickEvent.class, this::onPlayerTick);
+        tickRegistration = MechanicsTickLoop.getInstance().register(MechanicsTickLoop.Phase.COMPAT, "HitboxSystem", this::onPlayerTick);
         handler.addListener(PlayerStartSneakingEvent.class, e -> enforceHitbox(e.getPlayer()));
         handler.addListener(PlayerStopSneakingEvent.class, e -> enforceHitbox(e.getPlayer()));
         handler.addListener(PlayerDisconnectEvent.class, e -> playerStates.remove(e.getPlayer().getUuid()));
@@ -79,6 +81,19 @@ public class HitboxSystem extends InitializableSystem {
         log.debug("Hitbox enforcement active - precise shape checking (slabs, stairs, etc.)");
     }
 
+    // ===========================
+    // SHUTDOWN
+    // ===========================
+
+    @Override
+    public void shutdown() {
+        if (tickRegistration != null) {
+            tickRegistration.unregister();
+            tickRegistration = null;
+        }
+        resetInitialization();
+    }
+
     // ===========================
     // EVENT HANDLERS
     // ===========================
@@ -126,10 +141,8 @@ public class HitboxSystem extends InitializableSystem {
         }
     }
 
-    private void onPlayerTick(PlayerTickEvent event) {
-        tickCounter++;
-        if (tickCounter % config.validationIntervalTicks() == 0) {
-            Player player = event.getPlayer();
+    private void onPlayerTick(Player player, long tick) {
+        if (tick % config.validationIntervalTicks() == 0) {
             enforceHitbox(player);
 
             // Force correction if invalid
@@ -193,16 +206,18 @@ public class HitboxSystem extends InitializableSystem {
         int maxBlockY = (int) Math.floor(pos.y() + config.height());
         int maxBlockZ = (int) Math.floor(pos.z() + halfWidth);
 
+        BoundingBox playerHitbox = getPlayerHitbox(player);
+
         // Check each block in range
         for (int bx = minBlockX; bx <= maxBlockX; bx++) {
             for (int by = minBlockY; by <= maxBlockY; by++) {
                 for (int bz = minBlockZ; bz <= maxBlockZ; bz++) {
                     Block block = instance.getBlock(bx, by, bz);
 
-                    if (!block.isSolid()) continue;
+                    if (!BlockClassifier.is(block, BlockClassifier.SOLID)) continue;
 
                     // Get the actual collision shape of this block
-                    Shape shape = block.registry().collisionShape();
+                    Shape shape = BlockClassifier.collisionShape(block);
 
                     // CRITICAL: Position the BoundingBox at CENTER-BOTTOM (like entity positions)
                     // NOT at the min corner!
@@ -213,7 +228,6 @@ public class HitboxSystem extends InitializableSystem {
                     );
 
                     // Check intersection with player's hitbox
-                    BoundingBox playerHitbox = getPlayerHitbox(player);
                     if (shape.intersectBox(relativePos, playerHitbox)) {
                         return false;  // Collision detected!
                     }
@@ -373,8 +387,8 @@ public class HitboxSystem extends InitializableSystem {
 
         for (int dy = 0; dy <= 2; dy++) {
             Block block = player.getInstance().getBlock(baseX, baseY + dy, baseZ);
-            if (block.isSolid()) {
-                Shape shape = block.registry().collisionShape();
+            if (BlockClassifier.is(block, BlockClassifier.SOLID)) {
+                Shape shape = BlockClassifier.collisionShape(block);
                 log.info("  Y+{}: {} (shape bounds: {})", dy, block.name(),
                         shape.relativeEnd());
             }
@@ -2,13 +2,14 @@ package com.minestom.mechanics.systems.compatibility.legacy_1_8.feature;
 
 import com.minestom.mechanics.config.constants.LegacyGravityConstants;
 import com.minestom.mechanics.InitializableSystem;
+import com.minestom.mechanics.MechanicsTickLoop;
+import com.minestom.mechanics.systems.player.MechanicsEntityState;
+import com.minestom.mechanics.systems.player.PlayerStateManager;
 import com.minestom.mechanics.util.LogUtil;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
-import net.minestom.server.event.entity.EntityTickEvent;
 import net.minestom.server.network.packet.server.play.ExplosionPacket;
 import net.minestom.server.particle.Particle;
 import net.minestom.server.sound.SoundEvent;
@@ -38,10 +39,10 @@ public class GravitySystem extends InitializableSystem {
     // ===========================
 
     public static final Tag<Double> GRAVITY = Tag.Double("gravity");
-    // Our own position tracking - separate from FallDamageTracker
-    private static final Tag<Pos> GRAVITY_LAST_POS = Tag.Transient("gravity_last_pos");
-    // Smoothed velocity for ping compensation
-    private static final Tag<Double> SMOOTHED_VY = Tag.Transient("gravity_smoothed_vy");
+    // Own position tracking (separate from Fall) and smoothed velocity for ping compensation
+    // live in MechanicsEntityState.Gravity
+
+    private MechanicsTickLoop.Registration tickRegistration;
 
     private GravitySystem() {}
 
@@ -67,28 +68,36 @@ public class GravitySystem extends InitializableSystem {
     }
 
     private void registerListener() {
-        MinecraftServer.getGlobalEventHandler().addListener(EntityTickEvent.class, event -> {
-            Entity entity = event.getEntity();
-            if (!(entity instanceof Player player)) return;
-
-            Double customGravity = entity.getTag(GRAVITY);
+        // Players only, so dispatch per player instead of listening to every EntityTickEvent
+        tickRegistration = MechanicsTickLoop.getInstance().register(MechanicsTickLoop.Phase.COMPAT, "GravitySystem", (player, tick) -> {
+            Double customGravity = player.getTag(GRAVITY);
             if (customGravity == null) {
-                if (entity.hasNoGravity()) entity.setNoGravity(false);
-                entity.removeTag(GRAVITY_LAST_POS);
-                entity.removeTag(SMOOTHED_VY);
+                if (player.hasNoGravity()) player.setNoGravity(false);
+                resetTracking(player);
                 return;
             }
 
-            applyCustomGravity(player, customGravity);
+            applyCustomGravity(player, PlayerStateManager.get(player).gravity, customGravity);
         });
     }
 
-    private void applyCustomGravity(Player player, double customGravity) {
+    private static void resetTracking(Entity entity) {
+        MechanicsEntityState state = PlayerStateManager.peek(entity);
+        if (state != null) state.gravity.reset();
+    }
+
+    private static void trackPosition(MechanicsEntityState.Gravity state, Pos pos) {
+        state.lastX = pos.x();
+        state.lastY = pos.y();
+        state.lastZ = pos.z();
+        state.hasLastPosition = true;
+    }
+
+    private void applyCustomGravity(Player player, MechanicsEntityState.Gravity state, double customGravity) {
         // Special case: if multiplier is 1.0, use vanilla gravity (don't send explosion packets)
         if (customGravity == 1.0) {
             if (player.hasNoGravity()) player.setNoGravity(false);
-            player.removeTag(GRAVITY_LAST_POS);
-            player.removeTag(SMOOTHED_VY);
+            state.reset();
             return;
         }
 
@@ -98,44 +107,37 @@ public class GravitySystem extends InitializableSystem {
         if (customGravity == 0.0) {
             // Skip if conditions don't allow gravity
             if (player.isOnGround() || player.isFlying() || player.isFlyingWithElytra()) {
-                player.removeTag(GRAVITY_LAST_POS);
-                player.setTag(SMOOTHED_VY, 0.0);
+                state.reset();
                 return;
             }
             
             Pos currentPos = player.getPosition();
-            Pos lastPos = player.getTag(GRAVITY_LAST_POS);
             
             // Initialize on first tick - don't send explosion packet yet, just track position
-            if (lastPos == null) {
-                player.setTag(GRAVITY_LAST_POS, currentPos);
-                player.setTag(SMOOTHED_VY, 0.0);
+            if (!state.hasLastPosition) {
+                trackPosition(state, currentPos);
+                state.smoothedVy = 0;
                 return; // Wait for next tick to start counteraction
             }
             
             // Detect teleports (large position changes) and reset tracking
-            double yChange = Math.abs(currentPos.y() - lastPos.y());
-            double horizontalChange = Math.sqrt(
-                    Math.pow(currentPos.x() - lastPos.x(), 2) + 
-                    Math.pow(currentPos.z() - lastPos.z(), 2)
-            );
+            double yChange = Math.abs(currentPos.y() - state.lastY);
+            double dx = currentPos.x() - state.lastX;
+            double dz = currentPos.z() - state.lastZ;
+            double horizontalChange = Math.sqrt(dx * dx + dz * dz);
             // If Y changed by more than 2 blocks OR horizontal changed by more than 10 blocks, it's likely a teleport
             if (yChange > 2.0 || horizontalChange > 10.0) {
-                player.setTag(GRAVITY_LAST_POS, currentPos);
-                player.setTag(SMOOTHED_VY, 0.0);
+                trackPosition(state, currentPos);
+                state.smoothedVy = 0;
                 return; // Reset and wait for next tick
             }
             
             // Calculate actual Y velocity from position change
-            double actualVy = currentPos.y() - lastPos.y();
-            
-            // Get previous smoothed velocity for feedback
-            Double prevSmoothedVy = player.getTag(SMOOTHED_VY);
-            if (prevSmoothedVy == null) prevSmoothedVy = 0.0;
+            double actualVy = currentPos.y() - state.lastY;
             
-            // Light smoothing to reduce jitter but keep feedback responsive
-            double smoothedVy = (actualVy * 0.9) + (prevSmoothedVy * 0.1);
-            player.setTag(SMOOTHED_VY, smoothedVy);
+            // Light smoothing to reduce jitter but keep feedback responsive (previous value = feedback)
+            double smoothedVy = (actualVy * 0.9) + (state.smoothedVy * 0.1);
+            state.smoothedVy = smoothedVy;
             
             // Base counteraction: GRAVITY_NORMAL upward to counteract vanilla gravity
             double baseCounteraction = LegacyGravityConstants.GRAVITY_NORMAL * LegacyGravityConstants.EXPLOSION_VELOCITY_SCALE;
@@ -158,7 +160,7 @@ public class GravitySystem extends InitializableSystem {
             ));
             
             // Update position tracking
-            player.setTag(GRAVITY_LAST_POS, currentPos);
+            trackPosition(state, currentPos);
             return;
         }
 
@@ -174,39 +176,37 @@ public class GravitySystem extends InitializableSystem {
 
         // Reset when conditions don't allow gravity
         if (player.isOnGround()) {
-            player.setTag(SMOOTHED_VY, 0.0);
-            player.setTag(GRAVITY_LAST_POS, player.getPosition());
+            state.smoothedVy = 0;
+            trackPosition(state, player.getPosition());
             return;
         }
         if (player.isFlying()) {
-            player.setTag(SMOOTHED_VY, 0.0);
-            player.setTag(GRAVITY_LAST_POS, player.getPosition());
+            state.smoothedVy = 0;
+            trackPosition(state, player.getPosition());
             return;
         }
         if (player.isFlyingWithElytra()) {
-            player.setTag(SMOOTHED_VY, 0.0);
-            player.setTag(GRAVITY_LAST_POS, player.getPosition());
+            state.smoothedVy = 0;
+            trackPosition(state, player.getPosition());
             return;
         }
 
         // Note: We don't set noGravity(true) because this system emulates gravity for older clients
         // that don't have the gravity attribute. We work alongside vanilla gravity.
         Pos currentPos = player.getPosition();
-        Pos lastPos = player.getTag(GRAVITY_LAST_POS);
 
         // Initialize on first tick
-        if (lastPos == null) {
-            player.setTag(GRAVITY_LAST_POS, currentPos);
-            player.setTag(SMOOTHED_VY, 0.0);
+        if (!state.hasLastPosition) {
+            trackPosition(state, currentPos);
+            state.smoothedVy = 0;
             return;
         }
 
         // Calculate actual Y velocity from position change
-        double estimatedVy = currentPos.y() - lastPos.y();
+        double estimatedVy = currentPos.y() - state.lastY;
 
-        // Get previous smoothed velocity
-        Double prevSmoothedVy = player.getTag(SMOOTHED_VY);
-        if (prevSmoothedVy == null) prevSmoothedVy = 0.0;
+        // Previous smoothed velocity
+        double prevSmoothedVy = state.smoothedVy;
 
         // Smooth the velocity to handle ping/jitter
         double smoothedVy = (estimatedVy * LegacyGravityConstants.VELOCITY_SMOOTHING) + (prevSmoothedVy * (1.0 - LegacyGravityConstants.VELOCITY_SMOOTHING));
@@ -234,7 +234,7 @@ public class GravitySystem extends InitializableSystem {
         }
 
         // Store smoothed velocity
-        player.setTag(SMOOTHED_VY, newVy);
+        state.smoothedVy = newVy;
 
         // 🔍 DEBUG: Log every 20 ticks
         if (player.getAliveTicks() % 20 == 0) {
@@ -264,7 +264,7 @@ public class GravitySystem extends InitializableSystem {
         ));
 
         // Update position tracking
-        player.setTag(GRAVITY_LAST_POS, currentPos);
+        trackPosition(state, currentPos);
     }
 
     /**
@@ -289,11 +289,23 @@ public class GravitySystem extends InitializableSystem {
 
     public static void clearGravity(Entity entity) {
         entity.removeTag(GRAVITY);
-        entity.removeTag(GRAVITY_LAST_POS);
-        entity.removeTag(SMOOTHED_VY);
+        resetTracking(entity);
     }
 
     public static boolean hasCustomGravity(Entity entity) {
         return entity.getTag(GRAVITY) != null;
     }
-}
\ No newline at end of file
+
+    // ===========================
+    // SHUTDOWN
+    // ===========================
+
+    @Override
+    public void shutdown() {
+        if (tickRegistration != null) {
+            tickRegistration.unregister();
+            tickRegistration = null;
+        }
+        resetInitialization();
+    }
+}
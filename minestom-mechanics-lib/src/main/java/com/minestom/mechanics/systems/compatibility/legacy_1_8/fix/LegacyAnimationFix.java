@@ -1,10 +1,10 @@
 package com.minestom.mechanics.systems.compatibility.legacy_1_8.fix;
 
+import com.minestom.mechanics.MechanicsTickLoop;
 import com.minestom.mechanics.systems.compatibility.ClientVersionDetector;
 import com.minestom.mechanics.util.LogUtil;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
-import net.minestom.server.event.player.PlayerTickEvent;
 import net.minestom.server.event.player.PlayerDisconnectEvent;
 
 import java.util.Map;
@@ -31,6 +31,7 @@ public class LegacyAnimationFix {
     private static final LogUtil.SystemLogger log = LogUtil.system("ViewerAnimation");
 
     private final Map<UUID, AnimationState> activeAnimations = new ConcurrentHashMap<>();
+    private MechanicsTickLoop.Registration tickRegistration;
 
     private LegacyAnimationFix() {}
 
@@ -45,9 +46,9 @@ public class LegacyAnimationFix {
     private void initialize() {
         var handler = MinecraftServer.getGlobalEventHandler();
 
-        handler.addListener(PlayerTickEvent.class, event -> {
-            updateAnimations();
-        });
+        // Once per tick (not once per player tick): updateAnimations already walks every animation
+        tickRegistration = MechanicsTickLoop.getInstance().registerTick(MechanicsTickLoop.Phase.COMPAT, "LegacyAnimationFix",
+                tick -> updateAnimations());
 
         handler.addListener(PlayerDisconnectEvent.class, event -> {
             activeAnimations.remove(event.getPlayer().getUuid());
@@ -56,6 +57,16 @@ public class LegacyAnimationFix {
         log.debug("Version-based animation system initialized");
     }
 
+    /**
+     * Stop updating animations and drop their state. The next {@link #getInstance()} starts again.
+     */
+    public static synchronized void shutdown() {
+        if (instance == null) return;
+        if (instance.tickRegistration != null) instance.tickRegistration.unregister();
+        instance.activeAnimations.clear();
+        instance = null;
+    }
+
     // ===========================
     // PUBLIC API
     // ===========================
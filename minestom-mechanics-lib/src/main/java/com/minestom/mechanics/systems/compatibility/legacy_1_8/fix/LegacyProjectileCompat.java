@@ -1,6 +1,7 @@
 package com.minestom.mechanics.systems.compatibility.legacy_1_8.fix;
 
 import com.minestom.mechanics.systems.compatibility.ClientVersionDetector;
+import com.minestom.mechanics.util.BlockClassifier;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
@@ -364,7 +365,7 @@ public class LegacyProjectileCompat {
         double centerA, halfWidthA, centerB, halfWidthB;
         double distA, distB;
 
-        var shape = block.registry().collisionShape();
+        var shape = BlockClassifier.collisionShape(block);
         if (!(shape instanceof net.minestom.server.collision.ShapeImpl shapeImpl)) {
             // Fallback: full block (0.5 half-width)
             double dX = Math.abs(fracX - 0.5), dY = Math.abs(fracY - 0.5), dZ = Math.abs(fracZ - 0.5);
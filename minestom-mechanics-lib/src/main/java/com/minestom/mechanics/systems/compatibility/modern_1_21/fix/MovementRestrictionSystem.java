@@ -2,13 +2,14 @@ package com.minestom.mechanics.systems.compatibility.modern_1_21.fix;
 
 import com.minestom.mechanics.config.gameplay.MovementConfig;
 import com.minestom.mechanics.InitializableSystem;
+import com.minestom.mechanics.MechanicsTickLoop;
+import com.minestom.mechanics.util.BlockClassifier;
 import com.minestom.mechanics.util.LogUtil;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
 import net.minestom.server.entity.EntityPose;
 import net.minestom.server.event.player.PlayerMoveEvent;
 import net.minestom.server.event.player.PlayerSpawnEvent;
-import net.minestom.server.event.player.PlayerTickEvent;
 import net.minestom.server.instance.block.Block;
 
 // TODO: Move to (and create) player package, and make this configurable
@@ -37,7 +38,7 @@ public class MovementRestrictionSystem extends InitializableSystem {
     /** 1.8 water movement speed multiplier */
 
     private final MovementConfig config;
-    private int tickCounter = 0;
+    private MechanicsTickLoop.Registration tickRegistration;
 
     private MovementRestrictionSystem(MovementConfig config) {
         this.config = config;
@@ -70,11 +71,10 @@ public class MovementRestrictionSystem extends InitializableSystem {
         });
 
         // Enforce every configured interval
-        handler.addListener(PlayerTickEvent.class, event -> {
-            tickCounter++;
-            if (tickCounter >= config.checkIntervalTicks()) {
-                tickCounter = 0;
-                correctPlayerPose(event.getPlayer());
+        tickRegistration = MechanicsTickLoop.getInstance().register(MechanicsTickLoop.Phase.COMPAT, "MovementRestrictionSystem", (player, tick) -> {
+            int interval = config.checkIntervalTicks();
+            if (interval <= 1 || tick % interval == 0) {
+                correctPlayerPose(player);
             }
         });
 
@@ -91,6 +91,19 @@ public class MovementRestrictionSystem extends InitializableSystem {
         log.debug("Movement restrictions active");
     }
 
+    // ===========================
+    // SHUTDOWN
+    // ===========================
+
+    @Override
+    public void shutdown() {
+        if (tickRegistration != null) {
+            tickRegistration.unregister();
+            tickRegistration = null;
+        }
+        resetInitialization();
+    }
+
     // ===========================
     // CORE LOGIC
     // ===========================
@@ -177,13 +190,9 @@ public class MovementRestrictionSystem extends InitializableSystem {
      */
     private boolean isInWater(Player player) {
         try {
-            // Check if player's position has water
+            // Check if player's position has water (including waterlogged blocks)
             Block block = player.getInstance().getBlock(player.getPosition());
-            String blockName = block.name();
-
-            return blockName.equals("minecraft:water") ||
-                    blockName.equals("minecraft:flowing_water") ||
-                    blockName.contains("WATER");
+            return BlockClassifier.is(block, BlockClassifier.WATER);
         } catch (Exception e) {
             return false;
         }
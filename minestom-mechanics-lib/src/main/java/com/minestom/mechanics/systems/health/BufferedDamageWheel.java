@@ -0,0 +1,139 @@
+package com.minestom.mechanics.systems.health;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.entity.damage.Damage;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * Hashed timing wheel of buffered invulnerability hits, at most one per victim.
+ * <p>
+ * Each hit sits in the slot for its {@code applyAtTick} (tick modulo {@link #SLOTS}) in an intrusive
+ * doubly-linked list, and is indexed by victim entity id for O(1) lookup and cancel. Advancing one
+ * tick only walks that tick's slot, so the per-tick cost is the number of hits due (plus any hits a
+ * full wheel turn or more away that share the slot). Victims are held weakly and resolved directly,
+ * so any {@link LivingEntity} can receive a buffered hit and a removed entity is never kept alive.
+ * </p>
+ *
+ * <p>Tick thread only.</p>
+ */
+final class BufferedDamageWheel {
+
+    /** Wheel size (power of two); buffered hits are normally due within one invulnerability window. */
+    private static final int SLOTS = 64;
+    private static final int MASK = SLOTS - 1;
+
+    /** Called for each hit that comes due with a still-present victim. */
+    @FunctionalInterface
+    interface Action {
+        void apply(LivingEntity victim, Damage damage, boolean wasSprinting);
+    }
+
+    private final Entry[] slots = new Entry[SLOTS];
+    private final Int2ObjectOpenHashMap<Entry> byVictim = new Int2ObjectOpenHashMap<>();
+    private long nextTick = Long.MIN_VALUE; // first tick not yet advanced over
+
+    /**
+     * Schedule a hit. Hits already due are applied on the next {@link #advance}.
+     *
+     * @return false if a hit is already buffered for this victim
+     */
+    boolean schedule(LivingEntity victim, Damage damage, long applyAtTick, boolean wasSprinting) {
+        int id = victim.getEntityId();
+        if (byVictim.containsKey(id)) return false;
+
+        Entry entry = new Entry(id, new WeakReference<>(victim), damage, wasSprinting,
+                nextTick == Long.MIN_VALUE ? applyAtTick : Math.max(applyAtTick, nextTick));
+        link(entry);
+        byVictim.put(id, entry);
+        return true;
+    }
+
+    boolean contains(LivingEntity victim) {
+        return byVictim.containsKey(victim.getEntityId());
+    }
+
+    /** Drop the victim's buffered hit, if any. */
+    void cancel(LivingEntity victim) {
+        Entry entry = byVictim.remove(victim.getEntityId());
+        if (entry != null) unlink(entry);
+    }
+
+    /**
+     * Apply every hit due at or before {@code tick}. Due hits are detached before any is applied,
+     * so {@code action} may schedule or cancel hits.
+     */
+    void advance(long tick, Action action) {
+        if (byVictim.isEmpty()) {
+            nextTick = tick + 1;
+            return;
+        }
+        long from = nextTick == Long.MIN_VALUE || tick - nextTick >= SLOTS ? tick - MASK : nextTick;
+        nextTick = tick + 1;
+
+        Entry due = null;
+        for (long t = from; t <= tick; t++) {
+            Entry e = slots[(int) (t & MASK)];
+            while (e != null) {
+                Entry next = e.next;
+                if (e.applyAtTick <= tick) {
+                    unlink(e);
+                    byVictim.remove(e.victimId);
+                    e.next = due; // reuse the link for the detached chain
+                    due = e;
+                }
+                e = next;
+            }
+        }
+
+        for (Entry e = due; e != null; e = e.next) {
+            LivingEntity victim = e.victim.get();
+            if (victim == null || victim.isRemoved()) continue;
+            action.apply(victim, e.damage, e.wasSprinting);
+        }
+    }
+
+    int size() {
+        return byVictim.size();
+    }
+
+    void clear() {
+        Arrays.fill(slots, null);
+        byVictim.clear();
+    }
+
+    private void link(Entry entry) {
+        int slot = (int) (entry.applyAtTick & MASK);
+        Entry head = slots[slot];
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) head.prev = entry;
+        slots[slot] = entry;
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.prev != null) entry.prev.next = entry.next;
+        else slots[(int) (entry.applyAtTick & MASK)] = entry.next;
+        if (entry.next != null) entry.next.prev = entry.prev;
+        entry.prev = entry.next = null;
+    }
+
+    private static final class Entry {
+        final int victimId;
+        final WeakReference<LivingEntity> victim;
+        final Damage damage;
+        final boolean wasSprinting;
+        final long applyAtTick;
+        Entry prev, next;
+
+        Entry(int victimId, WeakReference<LivingEntity> victim, Damage damage, boolean wasSprinting, long applyAtTick) {
+            this.victimId = victimId;
+            this.victim = victim;
+            this.damage = damage;
+            this.wasSprinting = wasSprinting;
+            this.applyAtTick = applyAtTick;
+        }
+    }
+}
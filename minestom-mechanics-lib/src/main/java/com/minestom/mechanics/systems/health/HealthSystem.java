@@ -1,6 +1,7 @@
 package com.minestom.mechanics.systems.health;
 
 import com.minestom.mechanics.InitializableSystem;
+import com.minestom.mechanics.MechanicsTickLoop;
 import com.minestom.mechanics.config.health.HealthConfig;
 import com.minestom.mechanics.manager.ArmorManager;
 import com.minestom.mechanics.manager.MechanicsManager;
@@ -12,6 +13,8 @@ import com.minestom.mechanics.config.timing.TickScaler;
 import com.minestom.mechanics.config.timing.TickScalingConfig;
 import com.minestom.mechanics.systems.health.damage.*;
 import com.minestom.mechanics.systems.health.events.BlockingDamageEvent;
+import com.minestom.mechanics.systems.player.MechanicsEntityState;
+import com.minestom.mechanics.systems.player.PlayerStateManager;
 import net.minestom.server.item.ItemStack;
 import com.minestom.mechanics.systems.health.damage.types.*;
 import com.minestom.mechanics.systems.health.damage.util.DamageOverride;
@@ -27,17 +30,11 @@ import net.minestom.server.event.EventNode;
 import net.minestom.server.event.entity.EntityDamageEvent;
 import net.minestom.server.event.player.PlayerDeathEvent;
 import net.minestom.server.event.player.PlayerSpawnEvent;
-import net.minestom.server.event.player.PlayerTickEvent;
 import net.minestom.server.registry.RegistryKey;
 import net.minestom.server.tag.Tag;
-import net.minestom.server.timer.Task;
-import net.minestom.server.timer.TaskSchedule;
 
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Main health system orchestrator.
@@ -56,17 +53,16 @@ public class HealthSystem extends InitializableSystem {
 
     private final InvulnerabilityTracker invulnerability;
     private HealthConfig config;
-    private long currentTick = 0;
-    private final Map<UUID, Long> lastProcessedTick = new ConcurrentHashMap<>();
-    private final Map<UUID, BufferedDamageEntry> invulnerabilityBuffer = new ConcurrentHashMap<>();
+    private final MechanicsTickLoop tickLoop = MechanicsTickLoop.getInstance();
+    private final BufferedDamageWheel invulnerabilityBuffer = new BufferedDamageWheel();
+    private final BufferedDamageWheel.Action applyBuffered = this::applyBufferedDamage;
 
     /** ThreadLocal: when set, applyKnockbackFromResult uses this for wasSprinting (buffered hits). Cleared after use. */
     private static final ThreadLocal<Boolean> BUFFERED_WAS_SPRINTING = new ThreadLocal<>();
 
-    private record BufferedDamageEntry(long applyAtTick, Damage damage, boolean wasSprinting) {}
     private final List<AttackLandedListener> attackLandedListeners = new CopyOnWriteArrayList<>();
     private EventNode<Event> eventNode;
-    private Task tickCounterTask;
+    private final List<MechanicsTickLoop.Registration> tickRegistrations = new CopyOnWriteArrayList<>();
 
     /** Called when attacker (Player) lands damage on victim. Used for swing-window hit tracking. */
     public interface AttackLandedListener {
@@ -139,22 +135,23 @@ public class HealthSystem extends InitializableSystem {
     private void registerListeners() {
         eventNode = EventNode.all("health");
 
-        tickCounterTask = MinecraftServer.getSchedulerManager()
-                .buildTask(() -> {
-                    currentTick++;
-                    invulnerability.updateTick();
-                    processBufferedDamage();
-                })
-                .repeat(TaskSchedule.tick(1))
-                .schedule();
+        // Buffered damage (once per tick) and environmental trackers (once per player per tick)
+        tickRegistrations.add(tickLoop.registerTick(MechanicsTickLoop.Phase.COMBAT, "HealthSystem.buffer",
+                this::processBufferedDamage));
+        tickRegistrations.add(tickLoop.register(MechanicsTickLoop.Phase.ENVIRONMENT, "HealthSystem.trackers",
+                (p, tick) -> {
+                    BlockContact contact = BlockContact.of(p, tick, config.hazardIndexScanSkip());
+                    for (DamageTracker t : DamageType.getTrackerArray()) t.tick(p, tick, contact);
+                }));
 
         // Damage pipeline
         eventNode.addListener(EntityDamageEvent.class, event -> {
             if (!(event.getEntity() instanceof LivingEntity victim)) return;
-            UUID id = victim.getUuid();
-            Long last = lastProcessedTick.get(id);
-            if (last != null && last == currentTick) { event.setCancelled(true); return; }
-            lastProcessedTick.put(id, currentTick);
+            // One damage event per entity per tick; the slot lives on the entity, so nothing outlives it
+            MechanicsEntityState.DamagePipeline pipeline = PlayerStateManager.get(victim).damage;
+            long currentTick = tickLoop.getTick();
+            if (pipeline.lastProcessedTick == currentTick) { event.setCancelled(true); return; }
+            pipeline.lastProcessedTick = currentTick;
 
             DamageType dt = DamageType.find(event.getDamage().getType());
             DamageResult result = (dt != null)
@@ -172,18 +169,12 @@ public class HealthSystem extends InitializableSystem {
             }
         });
 
-        // Environmental tick
-        eventNode.addListener(PlayerTickEvent.class, e -> {
-            Player p = e.getPlayer();
-            for (DamageTracker t : DamageType.getTrackers()) t.tick(p, currentTick);
-        });
-
         // Death / spawn notifications
         eventNode.addListener(PlayerDeathEvent.class, e -> {
-            for (DamageTracker t : DamageType.getTrackers()) t.onPlayerDeath(e.getPlayer());
+            for (DamageTracker t : DamageType.getTrackerArray()) t.onPlayerDeath(e.getPlayer());
         });
         eventNode.addListener(PlayerSpawnEvent.class, e -> {
-            for (DamageTracker t : DamageType.getTrackers()) t.onPlayerSpawn(e.getPlayer());
+            for (DamageTracker t : DamageType.getTrackerArray()) t.onPlayerSpawn(e.getPlayer());
         });
 
         MinecraftServer.getGlobalEventHandler().addChild(eventNode);
@@ -216,20 +207,17 @@ public class HealthSystem extends InitializableSystem {
      * @return true if scheduled, false if another hit is already buffered for this victim
      */
     public boolean scheduleBufferedDamage(LivingEntity victim, Damage damage, long applyAtTick, boolean wasSprinting) {
-        UUID id = victim.getUuid();
-        if (invulnerabilityBuffer.containsKey(id)) return false;
-        invulnerabilityBuffer.put(id, new BufferedDamageEntry(applyAtTick, damage, wasSprinting));
-        return true;
+        return invulnerabilityBuffer.schedule(victim, damage, applyAtTick, wasSprinting);
     }
 
     /** Whether a buffered hit is already scheduled for this victim. */
     public boolean hasBufferedHit(LivingEntity victim) {
-        return invulnerabilityBuffer.containsKey(victim.getUuid());
+        return invulnerabilityBuffer.contains(victim);
     }
 
     /** Clear any buffered hit for this victim. Called when replacement supersedes the buffer. */
     public void clearBufferedHit(LivingEntity victim) {
-        invulnerabilityBuffer.remove(victim.getUuid());
+        invulnerabilityBuffer.cancel(victim);
     }
 
     /**
@@ -261,27 +249,18 @@ public class HealthSystem extends InitializableSystem {
         maxAttr.setBaseValue(originalBase);
     }
 
-    private void processBufferedDamage() {
-        invulnerabilityBuffer.entrySet().removeIf(entry -> {
-            if (entry.getValue().applyAtTick > currentTick) return false;
-            LivingEntity victim = findLivingByUuid(entry.getKey());
-            if (victim == null || victim.isRemoved()) return true;
-            BufferedDamageEntry buf = entry.getValue();
-            try {
-                BUFFERED_WAS_SPRINTING.set(buf.wasSprinting());
-                applyDamage(victim, buf.damage());
-            } finally {
-                BUFFERED_WAS_SPRINTING.remove();
-            }
-            return true;
-        });
+    /** Apply buffered hits due this tick (timing wheel: only this tick's slot is visited). */
+    private void processBufferedDamage(long tick) {
+        invulnerabilityBuffer.advance(tick, applyBuffered);
     }
 
-    private LivingEntity findLivingByUuid(UUID uuid) {
-        for (Player player : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
-            if (player.getUuid().equals(uuid)) return player;
+    private void applyBufferedDamage(LivingEntity victim, Damage damage, boolean wasSprinting) {
+        try {
+            BUFFERED_WAS_SPRINTING.set(wasSprinting);
+            applyDamage(victim, damage);
+        } finally {
+            BUFFERED_WAS_SPRINTING.remove();
         }
-        return null; // non-player living entities: would need instance iteration; players cover the main case
     }
 
     /**
@@ -377,7 +356,7 @@ public class HealthSystem extends InitializableSystem {
         DamageResult result = new DamageResult(true, true, finalDifference, props, attacker, attacker, victim, null);
         applyKnockbackFromResult(result);
         for (AttackLandedListener l : attackLandedListeners)
-            l.onAttackLanded(attacker, victim, currentTick);
+            l.onAttackLanded(attacker, victim, tickLoop.getTick());
 
         return true;
     }
@@ -451,12 +430,13 @@ public class HealthSystem extends InitializableSystem {
     }
 
     public void cleanup(LivingEntity entity) {
-        lastProcessedTick.remove(entity.getUuid());
-        invulnerabilityBuffer.remove(entity.getUuid());
+        MechanicsEntityState state = PlayerStateManager.peek(entity);
+        if (state != null) state.damage.lastProcessedTick = MechanicsEntityState.NO_TICK;
+        invulnerabilityBuffer.cancel(entity);
         invulnerability.clearState(entity);
         for (DamageType dt : DamageType.getAll()) dt.cleanup(entity);
         if (entity instanceof Player player) {
-            for (DamageTracker t : DamageType.getTrackers()) t.cleanup(player);
+            for (DamageTracker t : DamageType.getTrackerArray()) t.cleanup(player);
             LogUtil.logCleanup("HealthSystem", player.getUsername());
         }
     }
@@ -466,7 +446,7 @@ public class HealthSystem extends InitializableSystem {
     // ===========================
 
     public HealthConfig getConfig() { return config; }
-    public long getCurrentTick() { return currentTick; }
+    public long getCurrentTick() { return tickLoop.getTick(); }
     public InvulnerabilityTracker getInvulnerability() { return invulnerability; }
 
     public void updateConfig(HealthConfig newConfig) {
@@ -481,8 +461,8 @@ public class HealthSystem extends InitializableSystem {
     @Override
     public void shutdown() {
         if (eventNode != null) { MinecraftServer.getGlobalEventHandler().removeChild(eventNode); eventNode = null; }
-        if (tickCounterTask != null) { tickCounterTask.cancel(); tickCounterTask = null; }
-        lastProcessedTick.clear();
+        tickRegistrations.forEach(MechanicsTickLoop.Registration::unregister);
+        tickRegistrations.clear();
         invulnerabilityBuffer.clear();
         DamageType.clearRegistry();
         log.info("HealthSystem shutdown complete");
@@ -0,0 +1,238 @@
+package com.minestom.mechanics.systems.health.damage;
+
+import com.minestom.mechanics.systems.misc.HazardIndex;
+import com.minestom.mechanics.systems.player.MechanicsEntityState;
+import com.minestom.mechanics.systems.player.PlayerStateManager;
+import com.minestom.mechanics.util.BlockClassifier;
+import com.minestom.mechanics.util.BlockContactUtil;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * One player's block contacts for one tick: the blocks their bounding box overlaps, scanned once
+ * and shared by every {@link DamageTracker}.
+ * <p>
+ * The scan looks up each non-air block's {@link BlockClassifier} classes (lava, fire, cactus, custom
+ * classes, ...) and records which face of it the box touches (smallest overlap axis, as in
+ * {@link BlockContactUtil#getTouchedFace}). Trackers test the resulting bitmasks instead of
+ * rescanning the world; other checks can use {@link #isTouching(Predicate, BlockFace)}, which walks
+ * the scanned blocks without another {@code getBlock} call.
+ * </p>
+ *
+ * <p>The scan runs on the first query that needs it. When enabled
+ * ({@code HealthConfig.hazardIndexScanSkip()}), queries only about classes the {@link HazardIndex}
+ * counts (lava, fire, cactus) are answered from the index without scanning when no section around
+ * the box holds one, so players away from hazards cost no block reads. It is off by default because
+ * hazards placed with {@code Instance.setBlock} are not seen by the index until it recounts.</p>
+ *
+ * <p>The snapshot lives on the player's {@link MechanicsEntityState} and is refilled in place each
+ * tick, so don't keep it past the tick. Tick thread only.</p>
+ *
+ * Usage (third-party tracker):
+ * <pre>
+ * &#64;Override
+ * public void tick(Player player, long currentTick, BlockContact contact) {
+ *     if (contact.isTouching(b -> b.compare(Block.SWEET_BERRY_BUSH), null)) ...
+ * }
+ * </pre>
+ */
+public final class BlockContact {
+
+    private long tick = MechanicsEntityState.NO_TICK;
+    private @Nullable Instance instance;
+    private Pos pos = Pos.ZERO;
+    private BoundingBox box;
+    private int bMinX, bMinY, bMinZ, bMaxX, bMaxY, bMaxZ;
+
+    private boolean useHazardIndex;
+    private boolean hazardsChecked;
+    private boolean hazardsClear;
+    private boolean scanned;
+
+    private Block[] blocks = new Block[16];
+    private BlockFace[] blockFaces = new BlockFace[16];
+    private int count;
+
+    private int classes;
+    private int touchedFaces;
+    private final int[] classFaces = new int[Integer.SIZE]; // indexed by class bit index
+
+    private BlockContact() {}
+
+    /**
+     * Get the player's contact snapshot for {@code tick}, resetting it if it was taken on an earlier
+     * tick (or the player has since moved). Blocks are scanned on the first query that needs them.
+     */
+    public static BlockContact of(Player player, long tick) {
+        return of(player, tick, false);
+    }
+
+    /**
+     * {@link #of(Player, long)}, optionally letting hazard-only queries skip the scan via {@link HazardIndex}.
+     */
+    public static BlockContact of(Player player, long tick, boolean useHazardIndex) {
+        MechanicsEntityState.Contact state = PlayerStateManager.get(player).contact;
+        BlockContact contact = state.snapshot;
+        if (contact == null) state.snapshot = contact = new BlockContact();
+
+        Pos pos = player.getPosition();
+        Instance instance = player.getInstance();
+        if (contact.tick != tick || contact.instance != instance || !contact.pos.samePoint(pos)) {
+            contact.reset(instance, pos, player.getBoundingBox(), tick);
+        }
+        contact.useHazardIndex = useHazardIndex;
+        return contact;
+    }
+
+    private void reset(@Nullable Instance instance, Pos pos, BoundingBox box, long tick) {
+        this.tick = tick;
+        this.instance = instance;
+        this.pos = pos;
+        this.box = box;
+
+        double halfW = box.width() / 2;
+        double halfD = box.depth() / 2;
+        bMinX = (int) Math.floor(pos.x() - halfW);
+        bMaxX = (int) Math.floor(pos.x() + halfW);
+        bMinY = (int) Math.floor(pos.y());
+        bMaxY = (int) Math.floor(pos.y() + box.height());
+        bMinZ = (int) Math.floor(pos.z() - halfD);
+        bMaxZ = (int) Math.floor(pos.z() + halfD);
+
+        hazardsChecked = false;
+        scanned = false;
+        Arrays.fill(blocks, 0, count, null);
+        count = 0;
+        classes = 0;
+        touchedFaces = 0;
+        Arrays.fill(classFaces, 0);
+    }
+
+    /**
+     * Whether the answer for {@code blockClasses} is known to be "not touching" without scanning:
+     * the index is enabled, all of them are indexed by {@link HazardIndex} and no section around the box holds one.
+     */
+    private boolean skipScan(int blockClasses) {
+        if (!useHazardIndex || scanned || (blockClasses & ~HazardIndex.CLASSES) != 0) return false;
+        if (instance == null) return true;
+        if (!hazardsChecked) {
+            hazardsChecked = true;
+            hazardsClear = HazardIndex.getInstance().isClear(instance, bMinX, bMinY, bMinZ, bMaxX, bMaxY, bMaxZ);
+        }
+        return hazardsClear;
+    }
+
+    private void scan() {
+        if (scanned) return;
+        scanned = true;
+        if (instance == null) return;
+
+        double maxX = pos.x() + box.width() / 2, maxY = pos.y() + box.height(), maxZ = pos.z() + box.depth() / 2;
+        for (int bx = bMinX; bx <= bMaxX; bx++) {
+            for (int by = bMinY; by <= bMaxY; by++) {
+                for (int bz = bMinZ; bz <= bMaxZ; bz++) {
+                    // A box edge exactly on a block boundary reaches into the range but does not overlap
+                    if (maxX <= bx || maxY <= by || maxZ <= bz) continue;
+
+                    Block block = instance.getBlock(bx, by, bz);
+                    if (block.isAir()) continue;
+
+                    BlockFace face = BlockContactUtil.getTouchedFace(pos, box, bx, by, bz);
+                    add(block, face);
+
+                    int faceBit = faceBit(face);
+                    touchedFaces |= faceBit;
+                    int blockClasses = BlockClassifier.classes(block);
+                    classes |= blockClasses;
+                    for (int bits = blockClasses; bits != 0; bits &= bits - 1) {
+                        classFaces[Integer.numberOfTrailingZeros(bits)] |= faceBit;
+                    }
+                }
+            }
+        }
+    }
+
+    private void add(Block block, BlockFace face) {
+        if (count == blocks.length) {
+            blocks = Arrays.copyOf(blocks, count * 2);
+            blockFaces = Arrays.copyOf(blockFaces, count * 2);
+        }
+        blocks[count] = block;
+        blockFaces[count] = face;
+        count++;
+    }
+
+    // ===========================
+    // QUERIES
+    // ===========================
+
+    /** Bit for {@code face} in the face masks returned by {@link #faces()}. */
+    public static int faceBit(BlockFace face) {
+        return 1 << face.ordinal();
+    }
+
+    /** Whether a block in any of {@code blockClasses} ({@link BlockClassifier} bits) is touched. */
+    public boolean isTouching(int blockClasses) {
+        if (skipScan(blockClasses)) return false;
+        scan();
+        return (classes & blockClasses) != 0;
+    }
+
+    /**
+     * Whether a block in any of {@code blockClasses} is touched on a face other than {@code excludeFace}
+     * (e.g. {@link BlockFace#BOTTOM} to ignore standing under a block).
+     */
+    public boolean isTouching(int blockClasses, @Nullable BlockFace excludeFace) {
+        int mask = faces(blockClasses);
+        if (excludeFace != null) mask &= ~faceBit(excludeFace);
+        return mask != 0;
+    }
+
+    /**
+     * Whether a scanned non-air block matching {@code blockTest} is touched on a face other than
+     * {@code excludeFace}. Same result as {@link BlockContactUtil#isTouching} for this tick's position.
+     */
+    public boolean isTouching(Predicate<Block> blockTest, @Nullable BlockFace excludeFace) {
+        scan();
+        for (int i = 0; i < count; i++) {
+            if (blockFaces[i] != excludeFace && blockTest.test(blocks[i])) return true;
+        }
+        return false;
+    }
+
+    /** Classes of all touched blocks ({@link BlockClassifier} bits). */
+    public int classes() {
+        scan();
+        return classes;
+    }
+
+    /** Faces touched on any non-air block, as a mask of {@link #faceBit} bits. */
+    public int faces() {
+        scan();
+        return touchedFaces;
+    }
+
+    /** Faces touched on blocks of any of {@code blockClasses}, as a mask of {@link #faceBit} bits. */
+    public int faces(int blockClasses) {
+        if (skipScan(blockClasses)) return 0;
+        scan();
+        int mask = 0;
+        for (int bits = blockClasses & classes; bits != 0; bits &= bits - 1) {
+            mask |= classFaces[Integer.numberOfTrailingZeros(bits)];
+        }
+        return mask;
+    }
+
+    /** Mechanics tick the snapshot was taken on. */
+    public long tick() {
+        return tick;
+    }
+}
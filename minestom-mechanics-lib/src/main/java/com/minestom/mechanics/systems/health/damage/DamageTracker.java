@@ -45,6 +45,15 @@ public abstract class DamageTracker {
     /** Called every player tick. Override for environmental damage detection. */
     public void tick(Player player, long currentTick) {}
 
+    /**
+     * Called every player tick with the player's {@link BlockContact} snapshot, scanned once and
+     * shared by all trackers. Override this instead of {@link #tick(Player, long)} for block contact
+     * checks; the default delegates to it.
+     */
+    public void tick(Player player, long currentTick, BlockContact contact) {
+        tick(player, currentTick);
+    }
+
     /** Called when a player dies. */
     public void onPlayerDeath(Player player) {}
 
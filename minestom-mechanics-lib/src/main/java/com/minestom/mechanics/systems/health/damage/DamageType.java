@@ -14,6 +14,7 @@ import com.minestom.mechanics.systems.health.damage.util.DamageCalculator;
 import com.minestom.mechanics.systems.health.damage.util.DamageOverride;
 import com.minestom.mechanics.systems.health.damage.util.DamageOverrideSerializer;
 import com.minestom.mechanics.util.LogUtil;
+import com.minestom.mechanics.util.ItemTagCache;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.GameMode;
@@ -26,7 +27,6 @@ import net.minestom.server.tag.Tag;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A damage type with configurable properties and runtime tag overrides.
@@ -44,61 +44,88 @@ public class DamageType {
     // REGISTRY (static)
     // ===========================
 
-    private static final Map<String, DamageType> byId = new ConcurrentHashMap<>();
-    private static final Map<String, DamageTracker> trackersById = new ConcurrentHashMap<>();
-    private static final List<DamageType> types = new ArrayList<>();
-    private static final List<DamageTracker> trackers = new ArrayList<>();
-    private static final Map<RegistryKey<?>, DamageType> byRegistryKey = new HashMap<>();
+    /**
+     * Immutable registry snapshot. Readers load the volatile reference once and never lock;
+     * {@link #register} republishes a fresh copy (copy-on-write). {@link #find} is a single
+     * lookup in the immutable {@code byRegistryKey} map.
+     */
+    private record Snapshot(Map<String, DamageType> byId,
+                            Map<String, DamageTracker> trackersById,
+                            List<DamageType> types,
+                            DamageTracker[] trackers,
+                            List<DamageTracker> trackerList,
+                            Map<RegistryKey<?>, DamageType> byRegistryKey) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), List.of(), new DamageTracker[0], List.of(), Map.of());
+    }
+
+    private static volatile Snapshot snapshot = Snapshot.EMPTY;
 
-    /** Register a damage tracker (defines + optionally tracks a damage type). */
-    public static void register(DamageTracker tracker) {
+    /**
+     * Register a damage tracker (defines + optionally tracks a damage type).
+     * Safe at runtime: readers keep using the previous snapshot until the new one is published.
+     */
+    public static synchronized void register(DamageTracker tracker) {
         String id = tracker.id();
-        if (byId.containsKey(id)) {
+        Snapshot current = snapshot;
+        if (current.byId.containsKey(id)) {
             throw new IllegalArgumentException("Damage type already registered: " + id);
         }
         DamageType type = new DamageType(id, tracker.defaultProperties(), tracker.matchedTypes());
         type.setConfig(tracker.defaultConfig());
         tracker.damageType = type;
 
+        Map<String, DamageType> byId = new HashMap<>(current.byId);
         byId.put(id, type);
+        Map<String, DamageTracker> trackersById = new HashMap<>(current.trackersById);
+        trackersById.put(id, tracker);
+        List<DamageType> types = new ArrayList<>(current.types);
         types.add(type);
+        Map<RegistryKey<?>, DamageType> byRegistryKey = new HashMap<>(current.byRegistryKey);
         for (RegistryKey<?> key : tracker.matchedTypes()) {
             byRegistryKey.put(key, type);
         }
+        DamageTracker[] trackers = current.trackers;
         if (tracker.isTickable()) {
-            trackers.add(tracker);
+            trackers = Arrays.copyOf(trackers, trackers.length + 1);
+            trackers[trackers.length - 1] = tracker;
         }
-        trackersById.put(id, tracker);
+        publish(byId, trackersById, types, trackers, byRegistryKey);
+    }
+
+    private static void publish(Map<String, DamageType> byId, Map<String, DamageTracker> trackersById,
+                                List<DamageType> types, DamageTracker[] trackers,
+                                Map<RegistryKey<?>, DamageType> byRegistryKey) {
+        snapshot = new Snapshot(Map.copyOf(byId), Map.copyOf(trackersById), List.copyOf(types),
+                trackers, List.of(trackers), Map.copyOf(byRegistryKey));
     }
 
     /** Get damage type by id. */
-    public static DamageType get(String id) { return byId.get(id); }
+    public static DamageType get(String id) { return snapshot.byId.get(id); }
 
     /** Find damage type by Minecraft registry key. */
-    public static DamageType find(RegistryKey<?> type) { return byRegistryKey.get(type); }
+    public static DamageType find(RegistryKey<?> type) { return snapshot.byRegistryKey.get(type); }
+
+    /** Get all registered damage types (immutable). */
+    public static List<DamageType> getAll() { return snapshot.types; }
 
-    /** Get all registered damage types. */
-    public static List<DamageType> getAll() { return List.copyOf(types); }
+    /** Get all tickable trackers (immutable). */
+    public static List<DamageTracker> getTrackers() { return snapshot.trackerList; }
 
-    /** Get all tickable trackers. */
-    public static List<DamageTracker> getTrackers() { return List.copyOf(trackers); }
+    /** Get all tickable trackers as the snapshot array. Shared; do not modify. For per-tick loops. */
+    public static DamageTracker[] getTrackerArray() { return snapshot.trackers; }
 
     /** Get tracker by id, or null. */
-    public static DamageTracker getTracker(String id) { return trackersById.get(id); }
+    public static DamageTracker getTracker(String id) { return snapshot.trackersById.get(id); }
 
     /** Get entity/world override tag by id (transient). */
     public static Tag<DamageOverride> getTag(String id) {
-        DamageType dt = byId.get(id);
+        DamageType dt = get(id);
         return dt != null ? dt.getTag() : null;
     }
 
     /** Clear all registered types. Called on shutdown. */
-    public static void clearRegistry() {
-        byId.clear();
-        trackersById.clear();
-        types.clear();
-        trackers.clear();
-        byRegistryKey.clear();
+    public static synchronized void clearRegistry() {
+        snapshot = Snapshot.EMPTY;
     }
 
     // ===========================
@@ -148,10 +175,8 @@ public class DamageType {
         DamageOverride override;
 
         // 1. Item (highest priority) — serialized tag
-        if (item != null && !item.isAir()) {
-            override = item.getTag(itemTag);
-            if (override != null && override.custom() != null) return override.custom();
-        }
+        override = ItemTagCache.get(item, itemTag);
+        if (override != null && override.custom() != null) return override.custom();
         // 2. Source entity (attacker or projectile) — uses transient tag
         if (source != null) {
             override = source.getTag(entityTag);
@@ -1,17 +1,17 @@
 package com.minestom.mechanics.systems.health.damage.types;
 
+import com.minestom.mechanics.systems.health.damage.BlockContact;
 import com.minestom.mechanics.systems.health.damage.DamageTracker;
 import com.minestom.mechanics.config.health.DamageTypeProperties;
-import com.minestom.mechanics.util.BlockContactUtil;
+import com.minestom.mechanics.util.BlockClassifier;
 import net.minestom.server.entity.Player;
 import net.minestom.server.entity.damage.Damage;
 import net.minestom.server.entity.damage.DamageType;
-import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.registry.RegistryKey;
 
 /**
- * Cactus damage. Detects cactus contact via AABB intersection.
+ * Cactus damage. Detects cactus contact from the per-tick {@link BlockContact} snapshot.
  */
 public final class Cactus extends DamageTracker {
 
@@ -26,13 +26,12 @@ public final class Cactus extends DamageTracker {
     @Override public Object defaultConfig() { return Config.DEFAULT; }
 
     @Override
-    public void tick(Player player, long currentTick) {
+    public void tick(Player player, long currentTick, BlockContact contact) {
         if (!damageType.isEnabled(player)) return;
-        var instance = player.getInstance();
-        if (instance == null) return;
+        if (player.getInstance() == null) return;
 
-        Config config = damageType.getConfig();
-        if (BlockContactUtil.isTouching(instance, player, b -> b.compare(Block.CACTUS), BlockFace.BOTTOM)) {
+        if (contact.isTouching(BlockClassifier.CACTUS, BlockFace.BOTTOM)) {
+            Config config = damageType.getConfig();
             player.damage(new Damage(DamageType.CACTUS, null, null, player.getPosition(), config.damage()));
         }
     }
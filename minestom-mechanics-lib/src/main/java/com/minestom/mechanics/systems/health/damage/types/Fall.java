@@ -2,6 +2,8 @@ package com.minestom.mechanics.systems.health.damage.types;
 
 import com.minestom.mechanics.systems.health.damage.DamageTracker;
 import com.minestom.mechanics.config.health.DamageTypeProperties;
+import com.minestom.mechanics.systems.player.MechanicsEntityState;
+import com.minestom.mechanics.systems.player.PlayerStateManager;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.entity.Player;
@@ -9,7 +11,6 @@ import net.minestom.server.entity.damage.Damage;
 import net.minestom.server.entity.damage.DamageType;
 import net.minestom.server.potion.PotionEffect;
 import net.minestom.server.registry.RegistryKey;
-import net.minestom.server.tag.Tag;
 
 /**
  * Fall damage. Tracks fall distance per player and applies damage on landing.
@@ -21,10 +22,6 @@ public final class Fall extends DamageTracker {
         public Config withSafeFallDistance(float v) { return new Config(v); }
     }
 
-    private static final Tag<Double> FALL_DIST = Tag.Transient("fall_distance");
-    private static final Tag<Boolean> WAS_GROUNDED = Tag.Transient("was_on_ground");
-    private static final Tag<Double> LAST_Y = Tag.Transient("last_y_pos");
-
     @Override public String id() { return "fall"; }
     @Override public DamageTypeProperties defaultProperties() { return DamageTypeProperties.ENVIRONMENTAL_DEFAULT; }
     @Override public RegistryKey<?>[] matchedTypes() { return new RegistryKey<?>[]{ DamageType.FALL }; }
@@ -35,42 +32,40 @@ public final class Fall extends DamageTracker {
         if (!damageType.isEnabled(player)) return;
 
         Config config = damageType.getConfig();
+        MechanicsEntityState.Fall state = PlayerStateManager.get(player).fall;
         Pos pos = player.getPosition();
         double currentY = pos.y();
-        double lastY = tagOr(player, LAST_Y, 0.0);
         boolean grounded = player.isOnGround();
-        boolean wasGrounded = tagOr(player, WAS_GROUNDED, true);
 
-        if (currentY < lastY && !grounded) {
-            player.setTag(FALL_DIST, tagOr(player, FALL_DIST, 0.0) + (lastY - currentY));
+        if (currentY < state.lastY && !grounded) {
+            state.distance += state.lastY - currentY;
         }
-        if (grounded && !wasGrounded) {
-            double dist = tagOr(player, FALL_DIST, 0.0);
+        if (grounded && !state.wasGrounded) {
+            double dist = state.distance;
             if (dist > config.safeFallDistance()) {
                 float dmg = (float) (dist - config.safeFallDistance());
                 if (player.hasEffect(PotionEffect.SLOW_FALLING)) dmg = 0;
                 if (dmg > 0) player.damage(new Damage(DamageType.FALL, null, null, pos, dmg));
             }
-            player.setTag(FALL_DIST, 0.0);
+            state.distance = 0;
         }
-        player.setTag(LAST_Y, currentY);
-        player.setTag(WAS_GROUNDED, grounded);
+        state.lastY = currentY;
+        state.wasGrounded = grounded;
     }
 
     @Override public void onPlayerDeath(Player player) { resetFallDistance(player); }
     @Override public void onPlayerSpawn(Player player) { resetFallDistance(player); }
-    @Override public void resetFallDistance(Player player) { player.setTag(FALL_DIST, 0.0); }
-    @Override public double getFallDistance(Player player) { return tagOr(player, FALL_DIST, 0.0); }
+    @Override public void resetFallDistance(Player player) { PlayerStateManager.get(player).fall.distance = 0; }
 
     @Override
-    public void cleanup(LivingEntity entity) {
-        entity.removeTag(FALL_DIST);
-        entity.removeTag(WAS_GROUNDED);
-        entity.removeTag(LAST_Y);
+    public double getFallDistance(Player player) {
+        MechanicsEntityState state = PlayerStateManager.peek(player);
+        return state != null ? state.fall.distance : 0;
     }
 
-    private static <T> T tagOr(Player p, Tag<T> tag, T def) {
-        T v = p.getTag(tag);
-        return v != null ? v : def;
+    @Override
+    public void cleanup(LivingEntity entity) {
+        MechanicsEntityState state = PlayerStateManager.peek(entity);
+        if (state != null) state.fall.reset();
     }
 }
@@ -1,19 +1,20 @@
 package com.minestom.mechanics.systems.health.damage.types;
 
+import com.minestom.mechanics.systems.health.damage.BlockContact;
 import com.minestom.mechanics.systems.health.damage.DamageTracker;
 import com.minestom.mechanics.config.health.DamageTypeProperties;
 import com.minestom.mechanics.config.timing.TickScaler;
 import com.minestom.mechanics.config.timing.TickScalingConfig;
-import com.minestom.mechanics.util.BlockContactUtil;
+import com.minestom.mechanics.systems.player.MechanicsEntityState;
+import com.minestom.mechanics.systems.player.PlayerStateManager;
+import com.minestom.mechanics.util.BlockClassifier;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.entity.damage.Damage;
 import net.minestom.server.entity.damage.DamageType;
 import net.minestom.server.entity.metadata.LivingEntityMeta;
-import net.minestom.server.instance.block.Block;
 import net.minestom.server.registry.RegistryKey;
-import net.minestom.server.tag.Tag;
 
 /**
  * Fire damage. Detects fire/lava contact, manages burning state, applies damage at intervals.
@@ -61,12 +62,6 @@ public final class Fire extends DamageTracker {
         public Config withIgnitionMode(IgnitionMode v) { return new Config(fireDamage, lavaDamage, onFireDamage, contactDamageIntervalTicks, burnDamageIntervalTicks, burnDurationTicks, ignitionDelayTicks, v); }
     }
 
-    // State tags on the player
-    private static final Tag<Long> LAST_CONTACT_TICK = Tag.Transient("fire_last_contact_tick");
-    private static final Tag<Long> LAST_BURN_TICK = Tag.Transient("fire_last_burn_tick");
-    private static final Tag<Integer> FIRE_TICKS = Tag.Transient("health_fire_ticks");
-    private static final Tag<Integer> CONTACT_DAMAGE_COUNT = Tag.Transient("fire_contact_damage_count");
-
     @Override public String id() { return "fire"; }
     @Override public DamageTypeProperties defaultProperties() { return DamageTypeProperties.ENVIRONMENTAL_DEFAULT; }
     @Override public RegistryKey<?>[] matchedTypes() {
@@ -75,97 +70,96 @@ public final class Fire extends DamageTracker {
     @Override public Object defaultConfig() { return Config.DEFAULT; }
 
     @Override
-    public void tick(Player player, long currentTick) {
+    public void tick(Player player, long currentTick, BlockContact contact) {
         if (!damageType.isEnabled(player)) return;
-        var instance = player.getInstance();
-        if (instance == null) return;
+        if (player.getInstance() == null) return;
 
         Config config = damageType.resolveConfig(player);
+        MechanicsEntityState.Fire state = PlayerStateManager.get(player).fire;
         Pos pos = player.getPosition();
 
-        boolean inLava = BlockContactUtil.isTouching(instance, player, Fire::isLava);
-        boolean inFire = !inLava && BlockContactUtil.isTouching(instance, player, Fire::isFire);
+        boolean inLava = contact.isTouching(BlockClassifier.LAVA);
+        boolean inFire = !inLava && contact.isTouching(BlockClassifier.FIRE);
 
         if (inLava) {
-            handleLava(player, config, pos, currentTick);
+            handleLava(player, state, config, pos, currentTick);
         } else if (inFire) {
-            handleFire(player, config, pos, currentTick);
+            handleFire(player, state, config, pos, currentTick);
         } else {
-            handleBurning(player, config, pos, currentTick);
+            handleBurning(player, state, config, pos, currentTick);
         }
     }
 
-    private void handleLava(Player player, Config config, Pos pos, long currentTick) {
+    private void handleLava(Player player, MechanicsEntityState.Fire state, Config config, Pos pos, long currentTick) {
         var mode = TickScalingConfig.getMode();
         int scaledBurnDuration = TickScaler.scale(config.burnDurationTicks(), mode);
         int scaledContactInterval = TickScaler.scale(config.contactDamageIntervalTicks(), mode);
-        player.removeTag(CONTACT_DAMAGE_COUNT);
-        setFireTicks(player, Math.max(getFireTicks(player), scaledBurnDuration));
-        if (intervalElapsed(player, LAST_CONTACT_TICK, currentTick, scaledContactInterval)) {
+        state.contactDamageCount = 0;
+        setFireTicks(player, state, Math.max(state.fireTicks, scaledBurnDuration));
+        if (intervalElapsed(state.lastContactTick, currentTick, scaledContactInterval)) {
+            state.lastContactTick = currentTick;
             player.damage(new Damage(DamageType.LAVA, null, null, pos, config.lavaDamage()));
         }
     }
 
-    private void handleFire(Player player, Config config, Pos pos, long currentTick) {
+    private void handleFire(Player player, MechanicsEntityState.Fire state, Config config, Pos pos, long currentTick) {
         var mode = TickScalingConfig.getMode();
         int scaledContactInterval = TickScaler.scale(config.contactDamageIntervalTicks(), mode);
         int scaledBurnDuration = TickScaler.scale(config.burnDurationTicks(), mode);
         int scaledIgnitionDelay = TickScaler.scale(config.ignitionDelayTicks(), mode);
         if (config.ignitionMode() == IgnitionMode.VANILLA) {
             // VANILLA: deal damage immediately, ignite on 2nd damage tick
-            if (intervalElapsed(player, LAST_CONTACT_TICK, currentTick, scaledContactInterval)) {
+            if (intervalElapsed(state.lastContactTick, currentTick, scaledContactInterval)) {
+                state.lastContactTick = currentTick;
                 player.damage(new Damage(DamageType.IN_FIRE, null, null, pos, config.fireDamage()));
-                int count = tagOr(player, CONTACT_DAMAGE_COUNT, 0) + 1;
-                player.setTag(CONTACT_DAMAGE_COUNT, count);
+                int count = ++state.contactDamageCount;
 
                 if (count >= 2) {
-                    setFireTicks(player, Math.max(getFireTicks(player), scaledBurnDuration));
+                    setFireTicks(player, state, Math.max(state.fireTicks, scaledBurnDuration));
                 }
             }
         } else {
             // DELAYED: no damage until ignition delay passes
-            int count = tagOr(player, CONTACT_DAMAGE_COUNT, 0) + 1;
-            player.setTag(CONTACT_DAMAGE_COUNT, count);
+            int count = ++state.contactDamageCount;
 
             if (count >= scaledIgnitionDelay) {
-                setFireTicks(player, Math.max(getFireTicks(player), scaledBurnDuration));
-                if (intervalElapsed(player, LAST_CONTACT_TICK, currentTick, scaledContactInterval)) {
+                setFireTicks(player, state, Math.max(state.fireTicks, scaledBurnDuration));
+                if (intervalElapsed(state.lastContactTick, currentTick, scaledContactInterval)) {
+                    state.lastContactTick = currentTick;
                     player.damage(new Damage(DamageType.IN_FIRE, null, null, pos, config.fireDamage()));
                 }
             }
         }
     }
 
-    private void handleBurning(Player player, Config config, Pos pos, long currentTick) {
-        player.removeTag(CONTACT_DAMAGE_COUNT);
-        player.removeTag(LAST_CONTACT_TICK);
+    private void handleBurning(Player player, MechanicsEntityState.Fire state, Config config, Pos pos, long currentTick) {
+        state.contactDamageCount = 0;
+        state.lastContactTick = MechanicsEntityState.NO_TICK;
 
-        int ticks = getFireTicks(player);
+        int ticks = state.fireTicks;
         if (ticks > 0) {
-            setFireTicks(player, ticks - 1);
+            setFireTicks(player, state, ticks - 1);
             int scaledBurnInterval = TickScaler.scale(config.burnDamageIntervalTicks(), TickScalingConfig.getMode());
-            if (intervalElapsed(player, LAST_BURN_TICK, currentTick, scaledBurnInterval)) {
+            if (intervalElapsed(state.lastBurnTick, currentTick, scaledBurnInterval)) {
+                state.lastBurnTick = currentTick;
                 player.damage(new Damage(DamageType.ON_FIRE, null, null, pos, config.onFireDamage()));
             }
         } else {
-            player.removeTag(LAST_BURN_TICK);
+            state.lastBurnTick = MechanicsEntityState.NO_TICK;
         }
     }
 
     @Override
     public void onPlayerDeath(Player player) {
-        setFireTicks(player, 0);
-        player.removeTag(CONTACT_DAMAGE_COUNT);
-        player.removeTag(LAST_CONTACT_TICK);
-        player.removeTag(LAST_BURN_TICK);
+        MechanicsEntityState.Fire state = PlayerStateManager.get(player).fire;
+        setFireTicks(player, state, 0);
+        state.reset();
     }
 
     @Override
     public void cleanup(LivingEntity entity) {
-        entity.removeTag(LAST_CONTACT_TICK);
-        entity.removeTag(LAST_BURN_TICK);
-        entity.removeTag(FIRE_TICKS);
-        entity.removeTag(CONTACT_DAMAGE_COUNT);
+        MechanicsEntityState state = PlayerStateManager.peek(entity);
+        if (state != null) state.fire.reset();
         if (entity.getEntityMeta() instanceof LivingEntityMeta meta) meta.setOnFire(false);
     }
 
@@ -173,36 +167,12 @@ public final class Fire extends DamageTracker {
     // HELPERS
     // ===========================
 
-    private boolean intervalElapsed(Player player, Tag<Long> tag, long currentTick, int interval) {
-        long last = tagOr(player, tag, -1L);
-        if (last < 0 || currentTick - last >= interval) {
-            player.setTag(tag, currentTick);
-            return true;
-        }
-        return false;
+    private static boolean intervalElapsed(long last, long currentTick, int interval) {
+        return last == MechanicsEntityState.NO_TICK || currentTick - last >= interval;
     }
 
-    private static int getFireTicks(Player player) { return tagOr(player, FIRE_TICKS, 0); }
-
-    private static void setFireTicks(Player player, int ticks) {
-        player.setTag(FIRE_TICKS, Math.max(0, ticks));
+    private static void setFireTicks(Player player, MechanicsEntityState.Fire state, int ticks) {
+        state.fireTicks = Math.max(0, ticks);
         if (player.getEntityMeta() instanceof LivingEntityMeta meta) meta.setOnFire(ticks > 0);
     }
-
-    private static boolean isFire(Block b) {
-        if (b.compare(Block.FIRE) || b.compare(Block.SOUL_FIRE)) return true;
-        String n = b.name();
-        return n != null && n.toLowerCase().contains("fire");
-    }
-
-    private static boolean isLava(Block b) {
-        if (b.compare(Block.LAVA)) return true;
-        String n = b.name();
-        return n != null && n.toLowerCase().contains("lava");
-    }
-
-    private static <T> T tagOr(Player p, Tag<T> tag, T def) {
-        T v = p.getTag(tag);
-        return v != null ? v : def;
-    }
 }
@@ -2,6 +2,7 @@ package com.minestom.mechanics.systems.health.damage.util;
 
 import com.minestom.mechanics.config.health.DamageTypeProperties;
 import com.minestom.mechanics.systems.health.HealthSystem;
+import com.minestom.mechanics.util.ItemTagCache;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.entity.Player;
@@ -117,19 +118,17 @@ public final class DamageCalculator {
                                                @Nullable ItemStack item) {
         double result = 1.0;
         DamageOverride override;
-        if (item != null && !item.isAir()) {
-            override = item.getTag(itemTag);
-            if (override != null && override.multiplier() != null) for (double m : override.multiplier()) result *= m;
-        }
+        override = ItemTagCache.get(item, itemTag);
+        if (override != null && override.getMultiplierValues() != null) for (double m : override.getMultiplierValues()) result *= m;
         if (attacker != null) {
             override = attacker.getTag(entityTag);
-            if (override != null && override.multiplier() != null) for (double m : override.multiplier()) result *= m;
+            if (override != null && override.getMultiplierValues() != null) for (double m : override.getMultiplierValues()) result *= m;
         }
         override = victim.getTag(entityTag);
-        if (override != null && override.multiplier() != null) for (double m : override.multiplier()) result *= m;
+        if (override != null && override.getMultiplierValues() != null) for (double m : override.getMultiplierValues()) result *= m;
         if (victim.getInstance() != null) {
             override = victim.getInstance().getTag(entityTag);
-            if (override != null && override.multiplier() != null) for (double m : override.multiplier()) result *= m;
+            if (override != null && override.getMultiplierValues() != null) for (double m : override.getMultiplierValues()) result *= m;
         }
         return result;
     }
@@ -139,19 +138,17 @@ public final class DamageCalculator {
                                            @Nullable ItemStack item) {
         double result = 0.0;
         DamageOverride override;
-        if (item != null && !item.isAir()) {
-            override = item.getTag(itemTag);
-            if (override != null && override.modify() != null) for (double m : override.modify()) result += m;
-        }
+        override = ItemTagCache.get(item, itemTag);
+        if (override != null && override.getModifyValues() != null) for (double m : override.getModifyValues()) result += m;
         if (attacker != null) {
             override = attacker.getTag(entityTag);
-            if (override != null && override.modify() != null) for (double m : override.modify()) result += m;
+            if (override != null && override.getModifyValues() != null) for (double m : override.getModifyValues()) result += m;
         }
         override = victim.getTag(entityTag);
-        if (override != null && override.modify() != null) for (double m : override.modify()) result += m;
+        if (override != null && override.getModifyValues() != null) for (double m : override.getModifyValues()) result += m;
         if (victim.getInstance() != null) {
             override = victim.getInstance().getTag(entityTag);
-            if (override != null && override.modify() != null) for (double m : override.modify()) result += m;
+            if (override != null && override.getModifyValues() != null) for (double m : override.getModifyValues()) result += m;
         }
         return result;
     }
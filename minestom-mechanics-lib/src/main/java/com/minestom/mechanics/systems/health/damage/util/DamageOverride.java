@@ -1,6 +1,7 @@
 package com.minestom.mechanics.systems.health.damage.util;
 
 import com.minestom.mechanics.systems.ConfigTagWrapper;
+import com.minestom.mechanics.systems.DoubleValues;
 import com.minestom.mechanics.config.health.DamageTypeProperties;
 import org.jetbrains.annotations.Nullable;
 
@@ -27,18 +28,24 @@ public record DamageOverride(
         @Nullable Object configOverride
 ) implements ConfigTagWrapper<DamageTypeProperties> {
 
+    /** Vectors are stored as {@link DoubleValues} so resolution reads them without unboxing. */
+    public DamageOverride {
+        multiplier = DoubleValues.of(multiplier);
+        modify = DoubleValues.of(modify);
+    }
+
     public DamageOverride(@Nullable List<Double> multiplier, @Nullable List<Double> modify, @Nullable DamageTypeProperties custom) {
         this(multiplier, modify, custom, null);
     }
 
-    public static DamageOverride mult(double multiplier) { return new DamageOverride(List.of(multiplier), null, null, null); }
-    public static DamageOverride add(double modify) { return new DamageOverride(null, List.of(modify), null, null); }
+    public static DamageOverride mult(double multiplier) { return new DamageOverride(DoubleValues.of(multiplier), null, null, null); }
+    public static DamageOverride add(double modify) { return new DamageOverride(null, DoubleValues.of(modify), null, null); }
     public static DamageOverride override(DamageTypeProperties properties) { return new DamageOverride(null, null, properties, null); }
     public static DamageOverride config(Object config) { return new DamageOverride(null, null, null, config); }
     public static DamageOverride disabled() { return override(DamageTypeProperties.DISABLED); }
 
-    public DamageOverride thenMult(double multiplier) { return new DamageOverride(List.of(multiplier), this.modify, this.custom, this.configOverride); }
-    public DamageOverride thenAdd(double modify) { return new DamageOverride(this.multiplier, List.of(modify), this.custom, this.configOverride); }
+    public DamageOverride thenMult(double multiplier) { return new DamageOverride(DoubleValues.of(multiplier), this.modify, this.custom, this.configOverride); }
+    public DamageOverride thenAdd(double modify) { return new DamageOverride(this.multiplier, DoubleValues.of(modify), this.custom, this.configOverride); }
     public DamageOverride thenOverride(DamageTypeProperties properties) { return new DamageOverride(this.multiplier, this.modify, properties, this.configOverride); }
     public DamageOverride withConfig(Object config) { return new DamageOverride(this.multiplier, this.modify, this.custom, config); }
 
@@ -1,6 +1,8 @@
 package com.minestom.mechanics.systems.health.damage.util;
 
 import com.minestom.mechanics.config.health.DamageTypeProperties;
+import com.minestom.mechanics.systems.DoubleValues;
+import com.minestom.mechanics.util.CompactTagCodec;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.tag.TagReadable;
 import net.minestom.server.tag.TagSerializer;
@@ -12,6 +14,7 @@ import java.util.List;
 /**
  * Serializer for {@link DamageOverride} on items.
  * Stores multiplier, modify, and custom properties. configOverride is NOT serialized (entity-only).
+ * Writes the {@link CompactTagCodec} format by default and still reads the legacy per-field layout.
  */
 public class DamageOverrideSerializer implements TagSerializer<DamageOverride> {
 
@@ -32,8 +35,88 @@ public class DamageOverrideSerializer implements TagSerializer<DamageOverride> {
     private static final Tag<Integer> CIB = Tag.Integer("cib");
     private static final Tag<Boolean> SIS = Tag.Boolean("sis"); // noReplacementSameItem
 
+    private static final int SCHEMA_VERSION = 1;
+    private static final int HAS_MULT = 1, HAS_MOD = 1 << 1, HAS_CUSTOM = 1 << 2;
+
+    // Custom property bits
+    private static final int P_ENABLED = 1, P_BLOCKABLE = 1 << 1, P_PENETRATES = 1 << 2, P_BYPASS_INVUL = 1 << 3,
+            P_BYPASS_CREATIVE = 1 << 4, P_REPLACEMENT = 1 << 5, P_KB_ON_REPLACEMENT = 1 << 6,
+            P_HURT_EFFECT = 1 << 7, P_NO_REPLACEMENT_SAME_ITEM = 1 << 8;
+
     @Override
     public DamageOverride read(@NotNull TagReadable r) {
+        return CompactTagCodec.read(r, "damage", SCHEMA_VERSION, DamageOverrideSerializer::readCompact, DamageOverrideSerializer::readLegacy);
+    }
+
+    @Override
+    public void write(@NotNull TagWritable w, @NotNull DamageOverride v) {
+        if (CompactTagCodec.isWriteCompact()) {
+            w.setTag(CompactTagCodec.DATA, writeCompact(v));
+        } else {
+            writeLegacy(w, v);
+        }
+    }
+
+    // ===========================
+    // COMPACT FORMAT
+    // ===========================
+
+    private static byte[] writeCompact(DamageOverride v) {
+        double[] mult = v.getMultiplierValues();
+        double[] mod = v.getModifyValues();
+        boolean hasMult = mult != null && mult.length > 0;
+        boolean hasMod = mod != null && mod.length > 0;
+        DamageTypeProperties p = v.custom();
+        CompactTagCodec.Writer out = CompactTagCodec.writer(SCHEMA_VERSION);
+        out.writeByte((hasMult ? HAS_MULT : 0) | (hasMod ? HAS_MOD : 0) | (p != null ? HAS_CUSTOM : 0));
+        if (hasMult) out.writeDouble(mult[0]);
+        if (hasMod) out.writeDouble(mod[0]);
+        if (p != null) {
+            out.writeShort((p.enabled() ? P_ENABLED : 0) | (p.blockable() ? P_BLOCKABLE : 0)
+                    | (p.penetratesArmor() ? P_PENETRATES : 0) | (p.bypassInvulnerability() ? P_BYPASS_INVUL : 0)
+                    | (p.bypassCreative() ? P_BYPASS_CREATIVE : 0) | (p.damageReplacement() ? P_REPLACEMENT : 0)
+                    | (p.knockbackOnReplacement() ? P_KB_ON_REPLACEMENT : 0) | (p.hurtEffect() ? P_HURT_EFFECT : 0)
+                    | (p.noReplacementSameItem() ? P_NO_REPLACEMENT_SAME_ITEM : 0));
+            out.writeFloat(p.multiplier());
+            out.writeFloat(p.replacementCutoff());
+            out.writeInt(p.invulnerabilityBufferTicks());
+        }
+        return out.toByteArray();
+    }
+
+    private static DamageOverride readCompact(CompactTagCodec.Reader in) {
+        int flags = in.readByte();
+        List<Double> mult = (flags & HAS_MULT) != 0 ? DoubleValues.of(in.readDouble()) : null;
+        List<Double> mod = (flags & HAS_MOD) != 0 ? DoubleValues.of(in.readDouble()) : null;
+        DamageTypeProperties custom = null;
+        if ((flags & HAS_CUSTOM) != 0) {
+            int bits = in.readShort();
+            float multiplier = in.readFloat();
+            float replacementCutoff = in.readFloat();
+            int bufferTicks = in.readInt();
+            custom = new DamageTypeProperties(
+                    (bits & P_ENABLED) != 0,
+                    multiplier,
+                    (bits & P_BLOCKABLE) != 0,
+                    (bits & P_PENETRATES) != 0,
+                    (bits & P_BYPASS_INVUL) != 0,
+                    (bits & P_BYPASS_CREATIVE) != 0,
+                    (bits & P_REPLACEMENT) != 0,
+                    (bits & P_KB_ON_REPLACEMENT) != 0,
+                    replacementCutoff,
+                    (bits & P_HURT_EFFECT) != 0,
+                    bufferTicks,
+                    (bits & P_NO_REPLACEMENT_SAME_ITEM) != 0
+            );
+        }
+        return new DamageOverride(mult, mod, custom, null);
+    }
+
+    // ===========================
+    // LEGACY FORMAT
+    // ===========================
+
+    private static DamageOverride readLegacy(TagReadable r) {
         Double mult = r.getTag(MULT);
         Double mod = r.getTag(MOD);
         DamageTypeProperties custom = null;
@@ -59,14 +142,13 @@ public class DamageOverrideSerializer implements TagSerializer<DamageOverride> {
             );
         }
         return new DamageOverride(
-                mult != null ? List.of(mult) : null,
-                mod != null ? List.of(mod) : null,
+                mult != null ? DoubleValues.of(mult) : null,
+                mod != null ? DoubleValues.of(mod) : null,
                 custom, null
         );
     }
 
-    @Override
-    public void write(@NotNull TagWritable w, @NotNull DamageOverride v) {
+    private static void writeLegacy(TagWritable w, DamageOverride v) {
         if (v.multiplier() != null && !v.multiplier().isEmpty()) w.setTag(MULT, v.multiplier().get(0));
         if (v.modify() != null && !v.modify().isEmpty()) w.setTag(MOD, v.modify().get(0));
         if (v.custom() != null) {
@@ -3,6 +3,7 @@ package com.minestom.mechanics.systems.knockback;
 import com.minestom.mechanics.config.knockback.KnockbackConfig;
 import com.minestom.mechanics.config.timing.TickScaler;
 import com.minestom.mechanics.config.timing.TickScalingConfig;
+import com.minestom.mechanics.systems.knockback.extras.KnockbackSyncHandler;
 import com.minestom.mechanics.util.LogUtil;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -70,6 +71,15 @@ public class KnockbackApplicator {
         var debugSink = KnockbackSystem.isDebugToChat() ? new KnockbackCalculator.DebugSink() : null;
         Vec finalVelocity = calculator.computeKnockbackVelocity(ctx, debugSink);
 
+        // Ping-compensated direction (opt-in per config): rotate toward where the attacker saw the victim
+        if (resolved.knockbackSyncSupported() && attacker != null && victim instanceof Player victimPlayer
+                && type != KnockbackSystem.KnockbackType.PROJECTILE) {
+            KnockbackSyncHandler sync = KnockbackSyncHandler.getInstance();
+            // Started at init for the server default; only custom overrides reach this the first time
+            if (!sync.isEnabled()) sync.initialize();
+            finalVelocity = sync.compensateKnockback(victimPlayer, finalVelocity, attacker, victim.isOnGround());
+        }
+
         log.debug("Final Velocity: {}", finalVelocity);
         victim.setVelocity(finalVelocity);
         if (victim instanceof Player player) {
@@ -2,19 +2,22 @@ package com.minestom.mechanics.systems.knockback;
 
 import com.minestom.mechanics.config.knockback.KnockbackConfig;
 import com.minestom.mechanics.systems.ConfigTagWrapper;
+import com.minestom.mechanics.systems.knockback.extras.KnockbackSyncHandler;
 import com.minestom.mechanics.systems.knockback.tags.KnockbackTagSerializer;
 import com.minestom.mechanics.systems.knockback.tags.KnockbackTagValue;
 import com.minestom.mechanics.ConfigurableSystem;
+import com.minestom.mechanics.MechanicsTickLoop;
 import com.minestom.mechanics.systems.misc.VelocityEstimator;
+import com.minestom.mechanics.systems.player.MechanicsEntityState;
+import com.minestom.mechanics.systems.player.PlayerStateManager;
 import com.minestom.mechanics.util.LogUtil;
 import com.minestom.mechanics.systems.projectile.tags.ProjectileTagRegistry;
-import net.minestom.server.MinecraftServer;
+import com.minestom.mechanics.util.ItemTagCache;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.*;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.tag.Tag;
-import net.minestom.server.timer.TaskSchedule;
 import org.jetbrains.annotations.Nullable;
 
 import static com.minestom.mechanics.config.constants.CombatConstants.FALLING_VELOCITY_THRESHOLD;
@@ -36,10 +39,8 @@ public class KnockbackSystem extends ConfigurableSystem<KnockbackConfig> {
     private static KnockbackSystem instance;
     private static final LogUtil.SystemLogger log = LogUtil.system("KnockbackSystem");
 
-    /** Last tick we observed player sprinting. Updated each tick when sprinting. */
-    public static final Tag<Long> LAST_SPRINT_TICK = Tag.Transient("knockback_last_sprint_tick");
-
-    private long currentTick = 0;
+    private final MechanicsTickLoop tickLoop = MechanicsTickLoop.getInstance();
+    private MechanicsTickLoop.Registration sprintTracking;
 
     private KnockbackSystem(KnockbackConfig config) {
         super(config);
@@ -58,13 +59,14 @@ public class KnockbackSystem extends ConfigurableSystem<KnockbackConfig> {
         instance = new KnockbackSystem(config);
         instance.markInitialized();
 
-        // Tick: update currentTick and last sprint tick for players
-        MinecraftServer.getSchedulerManager().buildTask(() -> {
-            instance.currentTick++;
-            for (Player p : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
-                if (p.isSprinting()) p.setTag(LAST_SPRINT_TICK, instance.currentTick);
-            }
-        }).repeat(TaskSchedule.tick(1)).schedule();
+        // Last tick we observed each player sprinting (sprint buffer)
+        instance.sprintTracking = instance.tickLoop.register(MechanicsTickLoop.Phase.ESTIMATE, "KnockbackSystem.sprint",
+                (p, tick) -> {
+                    if (p.isSprinting()) PlayerStateManager.get(p).knockback.lastSprintTick = tick;
+                });
+
+        // Record history from the start so the first synced hit already has a rewind target
+        if (config.knockbackSyncSupported()) KnockbackSyncHandler.getInstance().initialize();
 
         ProjectileTagRegistry.register(KnockbackSystem.class);
         LogUtil.logInit("KnockbackSystem");
@@ -75,11 +77,20 @@ public class KnockbackSystem extends ConfigurableSystem<KnockbackConfig> {
     public static boolean isSprintHit(Player attacker, int sprintBufferTicks, long currentTick) {
         if (attacker.isSprinting()) return true;
         if (sprintBufferTicks <= 0) return false;
-        Long last = attacker.getTag(LAST_SPRINT_TICK);
-        return last != null && (currentTick - last) <= sprintBufferTicks;
+        MechanicsEntityState state = PlayerStateManager.peek(attacker);
+        if (state == null) return false;
+        long last = state.knockback.lastSprintTick;
+        return last != MechanicsEntityState.NO_TICK && (currentTick - last) <= sprintBufferTicks;
     }
 
-    public long getCurrentTick() { return currentTick; }
+    public long getCurrentTick() { return tickLoop.getTick(); }
+
+    @Override
+    public void shutdown() {
+        if (sprintTracking != null) { sprintTracking.unregister(); sprintTracking = null; }
+        KnockbackSyncHandler.getInstance().shutdown();
+        super.shutdown();
+    }
 
     public static KnockbackSystem getInstance() {
         if (instance == null || !instance.initialized) {
@@ -113,7 +124,7 @@ public class KnockbackSystem extends ConfigurableSystem<KnockbackConfig> {
     protected ConfigTagWrapper<KnockbackConfig> getItemWrapper(@org.jetbrains.annotations.Nullable net.minestom.server.item.ItemStack item, Entity attacker) {
         if (item == null || item.isAir()) return null;
         return (ConfigTagWrapper<KnockbackConfig>) (ConfigTagWrapper<?>)
-                item.getTag(isProjectileAttacker(attacker) ? ITEM_PROJECTILE_CUSTOM : ITEM_CUSTOM);
+                ItemTagCache.get(item, isProjectileAttacker(attacker) ? ITEM_PROJECTILE_CUSTOM : ITEM_CUSTOM);
     }
 
     @Override
@@ -132,35 +143,23 @@ public class KnockbackSystem extends ConfigurableSystem<KnockbackConfig> {
             item = handUsed == EquipmentSlot.MAIN_HAND ? p.getItemInMainHand() : p.getItemInOffHand();
         }
 
-        KnockbackConfig base = resolveBaseConfig(attacker, victim, item);
-
-        double[] components = resolveComponents(
-                attacker,
-                victim,
-                item,
-                config -> new double[]{
-                        config.horizontal(),
-                        config.vertical(),
-                        config.sprintBonusHorizontal(),
-                        config.sprintBonusVertical(),
-                        config.airMultiplierHorizontal(),
-                        config.airMultiplierVertical()
-                }
-        );
+        return resolveEffective(attacker, victim, item);
+    }
+
+    @Override
+    protected KnockbackConfig buildEffectiveConfig(Resolution<KnockbackConfig> resolved) {
+        KnockbackConfig base = resolved.config();
 
         // Scale vertical limit when item/entity mult or modify amplifies vertical strength.
         // Otherwise high-vertical items (Sky Ball, Cannon Bow, KB_LAUNCHER) get crushed by base limit.
-        double baseLimit = base.verticalLimit();
-        double[] mults = getMultipliers(attacker, victim, item);
-        double verticalMult = mults.length > 1 ? mults[1] : 1.0;
-        double verticalModify = getModifyValue(attacker, victim, item, 1);
-        double effectiveVerticalLimit = baseLimit * Math.max(1.0, verticalMult) + Math.max(0, verticalModify);
+        double effectiveVerticalLimit = base.verticalLimit() * Math.max(1.0, resolved.multiplier(1))
+                + Math.max(0, resolved.modify(1));
 
         return new KnockbackConfig(
-                components[0], components[1],
+                resolved.apply(0, base.horizontal()), resolved.apply(1, base.vertical()),
                 effectiveVerticalLimit,
-                components[2], components[3],
-                components[4], components[5],
+                resolved.apply(2, base.sprintBonusHorizontal()), resolved.apply(3, base.sprintBonusVertical()),
+                resolved.apply(4, base.airMultiplierHorizontal()), resolved.apply(5, base.airMultiplierVertical()),
                 base.lookWeight(),
                 base.modern(),
                 base.knockbackSyncSupported(),
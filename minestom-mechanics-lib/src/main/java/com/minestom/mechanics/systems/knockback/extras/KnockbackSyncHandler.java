@@ -1,25 +1,35 @@
 package com.minestom.mechanics.systems.knockback.extras;
 
 import com.minestom.mechanics.InitializableSystem;
-import com.minestom.mechanics.systems.knockback.KnockbackSystem;
+import com.minestom.mechanics.MechanicsTickLoop;
+import com.minestom.mechanics.systems.player.MechanicsEntityState;
+import com.minestom.mechanics.systems.player.PlayerStateManager;
+import com.minestom.mechanics.systems.validation.LagCompensation;
+import com.minestom.mechanics.systems.validation.PositionHistory;
 import com.minestom.mechanics.util.LogUtil;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
-import net.minestom.server.event.player.PlayerMoveEvent;
-import net.minestom.server.event.player.PlayerDisconnectEvent;
-import net.minestom.server.timer.Task;
-import net.minestom.server.timer.TaskSchedule;
-
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-
-// TODO: Re-implement
 
 /**
- * Knockback synchronization handler for lag compensation
+ * Knockback synchronization for lag compensation.
+ * <p>
+ * Knockback direction is computed from where the victim is on the server, but the attacker aimed
+ * at where the victim was on their screen. While running, every player's position is recorded once
+ * per tick into the tick-indexed {@link PositionHistory} ring shared with {@link LagCompensation}
+ * (no allocation per move), and round-trip latency is smoothed with EWMA estimators (average and
+ * mean deviation, as in TCP's RTT estimate). On a hit, the victim is rewound by
+ * {@code (victim ping + attacker ping) * interpolationFactor}, looked up by binary search and
+ * interpolated between ticks, and the calculated knockback is rotated by the angle between the
+ * current and rewound attacker-to-victim directions. Magnitude and vertical are unchanged.
+ * </p>
+ *
+ * <p>Enabled per config with {@code KnockbackConfig.knockbackSyncSupported()}.
+ * {@link com.minestom.mechanics.systems.knockback.KnockbackSystem#initialize} starts the handler when
+ * the server default config asks for it, so history exists before the first hit; configs that only
+ * enable it through a custom override start it on their first hit.</p>
  */
 public class KnockbackSyncHandler extends InitializableSystem {
 
@@ -27,19 +37,20 @@ public class KnockbackSyncHandler extends InitializableSystem {
 
     private static final LogUtil.SystemLogger log = LogUtil.system("KnockbackSyncHandler");
 
+    /** Ticks between latency samples (latency only changes on keep-alive, so per-tick sampling is wasted). */
+    private static final int PING_SAMPLE_TICKS = 20;
+    /** EWMA gain for the latency average. */
+    private static final double PING_ALPHA = 0.125;
+    /** EWMA gain for the latency mean deviation (jitter). */
+    private static final double JITTER_BETA = 0.25;
+
     // Configuration
-    private boolean enabled = false;
     private boolean offGroundSyncEnabled = true;
-    // decrease to ~200-300ms
     private long maxRewindTime = 1000; // ms
-    // private int positionHistorySize = 30; // Unused field
     private double interpolationFactor = 0.75;
 
-    // Player data
-    private final Map<UUID, PlayerSyncData> syncDataMap = new ConcurrentHashMap<>();
-    private final Map<UUID, PingTracker> pingTrackers = new ConcurrentHashMap<>();
-
-    private Task pingTrackingTask;
+    private MechanicsTickLoop.Registration recording;
+    private final PositionHistory.Sample victimSample = new PositionHistory.Sample(); // tick-thread scratch
 
     private KnockbackSyncHandler() {}
 
@@ -51,466 +62,146 @@ public class KnockbackSyncHandler extends InitializableSystem {
     }
 
     /**
-     * Initialize the sync handler
+     * Start recording position history and latency. Idempotent.
      */
-    public void initialize() {
-        var eventHandler = MinecraftServer.getGlobalEventHandler();
-
-        // Track player movement for position history
-        eventHandler.addListener(PlayerMoveEvent.class, event -> {
-            if (!enabled) return;
-
-            Player player = event.getPlayer();
-            PlayerSyncData data = getOrCreateSyncData(player);
-            data.addPositionSnapshot(event.getNewPosition(), player.isOnGround());
-        });
-
-        this.markInitialized();
-
-        // Clean up on disconnect
-        eventHandler.addListener(PlayerDisconnectEvent.class, event -> {
-            removePlayer(event.getPlayer());
-        });
-
-        this.pingTrackingTask = MinecraftServer.getSchedulerManager()
-                .buildTask(() -> {
-                    if (!enabled) return;
-
-                    for (Player player : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
-                        updatePing(player);
-                    }
-                })
-                .repeat(TaskSchedule.seconds(1))
-                .schedule();
+    public synchronized void initialize() {
+        if (initialized) return;
+        recording = MechanicsTickLoop.getInstance().register(MechanicsTickLoop.Phase.ESTIMATE,
+                "KnockbackSyncHandler", (player, tick) -> {
+                    LagCompensation.record(player, tick);
+                    if (tick % PING_SAMPLE_TICKS == 0) samplePing(player);
+                });
+        markInitialized();
+        log.debug("Knockback sync enabled (max rewind {}ms, factor {:.2f})", maxRewindTime, interpolationFactor);
     }
 
+    // ===========================
+    // COMPENSATION
+    // ===========================
+
     /**
-     * Apply lag compensation to knockback
+     * Apply lag compensation to knockback. Rewinds beyond the maximum rewind time are clamped to it.
+     *
+     * @return {@code baseKnockback} when no compensation applies, otherwise the rotated knockback
      */
     public Vec compensateKnockback(Player victim, Vec baseKnockback, Entity attacker, boolean isGrounded) {
-        if (!enabled || !shouldSyncPlayer(victim)) {
-            return baseKnockback;
-        }
-
-        PlayerSyncData victimData = getSyncData(victim);
-        if (victimData == null) {
-            return baseKnockback;
-        }
+        if (!initialized) return baseKnockback;
 
         // Skip if off-ground sync is disabled and player is airborne
-        if (!offGroundSyncEnabled && !isGrounded) {
-            return baseKnockback;
-        }
-
-        // Calculate rewind time
-        long rewindTime = calculateRewindTime(victim, attacker, victimData);
-
-        if (rewindTime <= 0 || rewindTime > maxRewindTime) {
-            return baseKnockback;
-        }
-
-        // Get historical position
-        Pos victimHistoricalPos = getInterpolatedPosition(victimData, rewindTime);
+        if (!offGroundSyncEnabled && !isGrounded) return baseKnockback;
 
-        if (victimHistoricalPos == null || victimHistoricalPos.equals(Pos.ZERO)) {
-            return baseKnockback;
-        }
-
-        // Calculate compensated direction
-        return calculateCompensatedKnockback(baseKnockback, victimHistoricalPos, attacker.getPosition());
-    }
+        MechanicsEntityState state = PlayerStateManager.peek(victim);
+        PositionHistory history = state != null ? state.rewind.history : null;
+        if (history == null || history.size() == 0) return baseKnockback;
 
-    /**
-     * Calculate compensated knockback based on historical positions
-     */
-    private Vec calculateCompensatedKnockback(Vec baseKnockback, Pos victimHistoricalPos, Pos attackerPos) {
-        // Calculate direction from historical positions
-        double dx = victimHistoricalPos.x() - attackerPos.x();
-        double dz = victimHistoricalPos.z() - attackerPos.z();
-
-        double horizontalDistance = Math.sqrt(dx * dx + dz * dz);
-        if (horizontalDistance < 0.0001) {
-            return baseKnockback;
-        }
+        double rewindTime = Math.min(calculateRewindTime(state, attacker), maxRewindTime);
+        if (rewindTime <= 0) return baseKnockback;
 
-        // Normalize direction
-        dx /= horizontalDistance;
-        dz /= horizontalDistance;
+        double tick = MechanicsTickLoop.getInstance().getTick() - rewindTime / MinecraftServer.TICK_MS;
+        if (!history.sample(tick, victimSample)) return baseKnockback;
 
-        // Apply look weight if configured
-        double lookWeight = KnockbackSystem.getInstance().getConfig().lookWeight();
-        if (lookWeight > 0) {
-            double yaw = Math.toRadians(attackerPos.yaw());
-            double lookX = -Math.sin(yaw);
-            double lookZ = Math.cos(yaw);
-
-            // Blend directions
-            dx = dx * (1 - lookWeight) + lookX * lookWeight;
-            dz = dz * (1 - lookWeight) + lookZ * lookWeight;
-
-            // Renormalize
-            double newDist = Math.sqrt(dx * dx + dz * dz);
-            if (newDist > 0.001) {
-                dx /= newDist;
-                dz /= newDist;
-            }
-        }
-
-        // Extract original magnitude
-        double originalMagnitude = Math.sqrt(
-                baseKnockback.x() * baseKnockback.x() +
-                        baseKnockback.z() * baseKnockback.z()
-        );
-
-        // Apply to compensated direction
-        return new Vec(
-                dx * originalMagnitude,
-                baseKnockback.y(),
-                dz * originalMagnitude
-        );
+        Pos attackerPos = attacker.getPosition();
+        Pos victimPos = victim.getPosition();
+        return rotateTowards(baseKnockback,
+                victimPos.x() - attackerPos.x(), victimPos.z() - attackerPos.z(),
+                victimSample.x - attackerPos.x(), victimSample.z - attackerPos.z());
     }
 
     /**
-     * Get interpolated position at a specific rewind time
+     * Rotate the horizontal part of {@code knockback} by the angle from the current direction
+     * ({@code cx, cz}) to the rewound direction ({@code hx, hz}).
      */
-    private Pos getInterpolatedPosition(PlayerSyncData syncData, long rewindMs) {
-        if (syncData.positionHistory.isEmpty()) {
-            return syncData.currentPosition;
-        }
-
-        long targetTime = System.currentTimeMillis() - rewindMs;
-        PositionSnapshot before = null;
-        PositionSnapshot after = null;
-
-        // Find snapshots to interpolate between
-        for (PositionSnapshot snapshot : syncData.positionHistory) {
-            if (snapshot.timestamp <= targetTime) {
-                before = snapshot;
-            } else {
-                after = snapshot;
-                break;
-            }
-        }
-
-        // Return appropriate position
-        if (before == null) {
-            return after != null ? after.position : syncData.currentPosition;
-        }
-
-        if (after == null) {
-            return before.position;
-        }
+    private static Vec rotateTowards(Vec knockback, double cx, double cz, double hx, double hz) {
+        double lengths = Math.sqrt((cx * cx + cz * cz) * (hx * hx + hz * hz));
+        if (lengths < 1.0E-8) return knockback;
 
-        // Interpolate between snapshots
-        return interpolatePositions(before.position, after.position,
-                before.timestamp, after.timestamp, targetTime);
+        double cos = (cx * hx + cz * hz) / lengths;
+        double sin = (cx * hz - cz * hx) / lengths;
+        double x = knockback.x() * cos - knockback.z() * sin;
+        double z = knockback.x() * sin + knockback.z() * cos;
+        return new Vec(x, knockback.y(), z);
     }
 
     /**
-     * Linear interpolation between two positions
+     * Rewind in milliseconds: smoothed victim ping plus attacker ping, scaled by the interpolation factor.
      */
-    private Pos interpolatePositions(Pos from, Pos to, long fromTime, long toTime, long targetTime) {
-        long timeDiff = toTime - fromTime;
-        if (timeDiff == 0) {
-            return from;
+    private double calculateRewindTime(MechanicsEntityState victimState, Entity attacker) {
+        double totalPing = victimState.latency.average;
+        if (attacker instanceof Player) {
+            MechanicsEntityState attackerState = PlayerStateManager.peek(attacker);
+            if (attackerState != null) totalPing += attackerState.latency.average;
         }
-
-        double t = (double)(targetTime - fromTime) / timeDiff;
-        t = Math.max(0, Math.min(1, t));
-
-        // Manual linear interpolation for Minestom Pos
-        double x = from.x() + (to.x() - from.x()) * t;
-        double y = from.y() + (to.y() - from.y()) * t;
-        double z = from.z() + (to.z() - from.z()) * t;
-
-        // Handle angle interpolation properly for yaw
-        float yaw = interpolateAngle(from.yaw(), to.yaw(), (float)t);
-        float pitch = from.pitch() + (to.pitch() - from.pitch()) * (float)t;
-
-        return new Pos(x, y, z, yaw, pitch);
+        return totalPing * interpolationFactor;
     }
 
-    /**
-     * Properly interpolate angles (handles wrapping at 360 degrees)
-     */
-    private float interpolateAngle(float from, float to, float t) {
-        float diff = to - from;
-
-        // Handle wrapping
-        if (diff > 180) {
-            diff -= 360;
-        } else if (diff < -180) {
-            diff += 360;
-        }
-
-        return from + diff * t;
-    }
+    // ===========================
+    // LATENCY
+    // ===========================
 
     /**
-     * Calculate rewind time based on ping and interpolation
+     * Fold the player's current latency into the EWMA average and jitter.
      */
-    private long calculateRewindTime(Player victim, Entity attacker, PlayerSyncData victimData) {
-        double victimPing = victimData.averagePing;
-
-        // Add attacker ping if it's a player
-        double attackerPing = 0;
-        if (attacker instanceof Player attackerPlayer) {
-            PlayerSyncData attackerData = getSyncData(attackerPlayer);
-            if (attackerData != null) {
-                attackerPing = attackerData.averagePing;
-            }
+    private static void samplePing(Player player) {
+        MechanicsEntityState.Latency latency = PlayerStateManager.get(player).latency;
+        double ping = player.getLatency();
+        if (!latency.sampled) {
+            latency.sampled = true;
+            latency.average = ping;
+            latency.jitter = 0;
+            return;
         }
-
-        // Calculate total compensation
-        double totalPing = victimPing + attackerPing;
-
-        // Apply interpolation factor
-        return Math.round(totalPing * interpolationFactor);
+        // Deviation uses the previous average, then the average moves toward the sample
+        latency.jitter += JITTER_BETA * (Math.abs(ping - latency.average) - latency.jitter);
+        latency.average += PING_ALPHA * (ping - latency.average);
     }
 
-    /**
-     * Update player state for sync calculations
-     */
-    public void updatePlayerState(Player player) {
-        if (!enabled) return;
-
-        PlayerSyncData data = getOrCreateSyncData(player);
-        data.addVelocitySnapshot(player.getVelocity());
+    /** Smoothed round-trip latency in ms (0 until the first sample). */
+    public double getAveragePing(Player player) {
+        MechanicsEntityState state = PlayerStateManager.peek(player);
+        return state != null ? state.latency.average : 0;
     }
 
-    /**
-     * Update ping tracking
-     */
-    private void updatePing(Player player) {
-        PingTracker tracker = pingTrackers.computeIfAbsent(player.getUuid(), k -> new PingTracker());
-        long ping = player.getLatency();
-        tracker.recordPing(ping);
-
-        PlayerSyncData syncData = getSyncData(player);
-        if (syncData != null) {
-            syncData.averagePing = tracker.getAveragePing();
-            syncData.jitter = tracker.getJitter();
-        }
-
-        /*
-
-        // Update knockback handler
-        KnockbackSystem.PlayerKnockbackData kbData = KnockbackSystem.getInstance().getPlayerData(player);
-        if (kbData != null) {
-            kbData.lastPing = tracker.getAveragePing();
-        }
-
-         */
-    }
-
-    /**
-     * Record knockback application
-     */
-    public void recordKnockback(Player player, Vec knockback) {
-        if (!enabled) return;
-
-        PlayerSyncData data = getSyncData(player);
-        if (data != null) {
-            data.addVelocitySnapshot(knockback);
-        }
-    }
-
-    /**
-     * Check if player should be synced
-     */
-    private boolean shouldSyncPlayer(Player player) {
-        PlayerSyncData data = getSyncData(player);
-        return data != null && data.syncEnabled;
-    }
-
-    /**
-     * Remove player from sync tracking
-     */
-    public void removePlayer(Player player) {
-        UUID uuid = player.getUuid();
-
-        // Remove and clear sync data
-        PlayerSyncData data = syncDataMap.remove(uuid);
-        if (data != null) {
-            // CRITICAL: Clear the LinkedLists to free memory
-            data.positionHistory.clear();
-            data.velocityHistory.clear();
-            log.debug("Cleared {} position snapshots, {} velocity snapshots",
-                    data.positionHistory.size(), data.velocityHistory.size());
-        }
-
-        // Remove and clear ping tracker
-        PingTracker tracker = pingTrackers.remove(uuid);
-        if (tracker != null) {
-            tracker.recentPings.clear();
-        }
-
-        log.debug("Cleaned up sync data for: {}", player.getUsername());
+    /** Smoothed latency mean deviation in ms (0 until the second sample). */
+    public double getJitter(Player player) {
+        MechanicsEntityState state = PlayerStateManager.peek(player);
+        return state != null ? state.latency.jitter : 0;
     }
 
     // Getters and setters
 
-    public void setEnabled(boolean enabled) {
-        this.enabled = enabled;
-    }
-
     public boolean isEnabled() {
-        return enabled;
+        return initialized;
     }
 
     public void setOffGroundSyncEnabled(boolean enabled) {
         this.offGroundSyncEnabled = enabled;
     }
 
+    /**
+     * @param maxRewindTime maximum rewind in ms; history covers {@link LagCompensation#HISTORY_TICKS} ticks
+     */
     public void setMaxRewindTime(long maxRewindTime) {
-        this.maxRewindTime = maxRewindTime;
+        long historyMs = (long) LagCompensation.HISTORY_TICKS * MinecraftServer.TICK_MS;
+        this.maxRewindTime = Math.max(0, Math.min(maxRewindTime, historyMs));
     }
 
     public void setInterpolationFactor(double factor) {
         this.interpolationFactor = Math.max(0, Math.min(1, factor));
     }
 
-    private PlayerSyncData getOrCreateSyncData(Player player) {
-        return syncDataMap.computeIfAbsent(player.getUuid(), PlayerSyncData::new);
-    }
-
-    private PlayerSyncData getSyncData(Player player) {
-        return syncDataMap.get(player.getUuid());
-    }
-
-    public int getTrackedPlayerCount() {
-        return syncDataMap.size() + pingTrackers.size();
+    @Override
+    public void cleanupPlayer(Player player) {
+        MechanicsEntityState state = PlayerStateManager.peek(player);
+        if (state != null) state.latency.reset();
     }
 
-    public void shutdown() {
-        log.info("Shutting down KnockbackSyncHandler");
-
-        if (pingTrackingTask != null) {
-            pingTrackingTask.cancel();
-            pingTrackingTask = null;
-        }
-
-        syncDataMap.clear();
-        pingTrackers.clear();
-
-        log.info("KnockbackSyncHandler shutdown complete");
-    }
-
-    /**
-     * Player synchronization data
-     */
-    private static class PlayerSyncData {
-        @SuppressWarnings("unused")
-        public final UUID uuid;
-        public final LinkedList<PositionSnapshot> positionHistory = new LinkedList<>();
-        public final LinkedList<VelocitySnapshot> velocityHistory = new LinkedList<>();
-
-        public volatile double averagePing = 0;
-        @SuppressWarnings("unused")
-        public volatile double jitter = 0;
-        public volatile boolean syncEnabled = true;
-
-        public volatile Pos currentPosition = Pos.ZERO;
-        @SuppressWarnings("unused")
-        public volatile Vec currentVelocity = Vec.ZERO;
-
-        public PlayerSyncData(UUID uuid) {
-            this.uuid = uuid;
-        }
-
-        public void addPositionSnapshot(Pos position, boolean onGround) {
-            long now = System.currentTimeMillis();
-
-            // Skip duplicate positions
-            if (!positionHistory.isEmpty()) {
-                PositionSnapshot last = positionHistory.getLast();
-                if (last.position.equals(position)) {
-                    return;
-                }
-            }
-
-            positionHistory.add(new PositionSnapshot(position, onGround, now));
-
-            // Limit history size
-            while (positionHistory.size() > 30) {
-                positionHistory.removeFirst();
-            }
-
-            currentPosition = position;
-        }
-
-        public void addVelocitySnapshot(Vec velocity) {
-            long now = System.currentTimeMillis();
-            velocityHistory.add(new VelocitySnapshot(velocity, now));
-
-            // Limit history size
-            while (velocityHistory.size() > 30) {
-                velocityHistory.removeFirst();
-            }
-
-            currentVelocity = velocity;
-        }
-    }
-
-    /**
-     * Position snapshot
-     */
-    private static class PositionSnapshot {
-        public final Pos position;
-        @SuppressWarnings("unused")
-        public final boolean onGround;
-        public final long timestamp;
-
-        public PositionSnapshot(Pos position, boolean onGround, long timestamp) {
-            this.position = position;
-            this.onGround = onGround;
-            this.timestamp = timestamp;
-        }
-    }
-
-    /**
-     * Velocity snapshot
-     */
-    private static class VelocitySnapshot {
-        @SuppressWarnings("unused")
-        public final Vec velocity;
-        @SuppressWarnings("unused")
-        public final long timestamp;
-
-        public VelocitySnapshot(Vec velocity, long timestamp) {
-            this.velocity = velocity;
-            this.timestamp = timestamp;
-        }
-    }
-
-    /**
-     * Ping tracking
-     */
-    private static class PingTracker {
-        private final LinkedList<Long> recentPings = new LinkedList<>();
-
-        public void recordPing(long pingMs) {
-            recentPings.add(pingMs);
-            while (recentPings.size() > 10) {
-                recentPings.removeFirst();
-            }
-        }
-
-        public double getAveragePing() {
-            if (recentPings.isEmpty()) return 0;
-            return recentPings.stream().mapToLong(Long::longValue).average().orElse(0);
-        }
-
-        public double getJitter() {
-            if (recentPings.size() < 2) return 0;
-
-            double avg = getAveragePing();
-            double variance = recentPings.stream()
-                    .mapToDouble(ping -> Math.pow(ping - avg, 2))
-                    .average()
-                    .orElse(0);
-
-            return Math.sqrt(variance);
+    @Override
+    public synchronized void shutdown() {
+        if (recording != null) {
+            recording.unregister();
+            recording = null;
         }
+        resetInitialization();
+        log.debug("KnockbackSyncHandler shutdown complete");
     }
 }
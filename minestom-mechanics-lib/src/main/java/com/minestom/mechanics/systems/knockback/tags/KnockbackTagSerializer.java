@@ -2,6 +2,10 @@ package com.minestom.mechanics.systems.knockback.tags;
 
 import com.minestom.mechanics.config.knockback.KnockbackConfig;
 import com.minestom.mechanics.systems.knockback.KnockbackSystem;
+import com.minestom.mechanics.systems.DoubleValues;
+import com.minestom.mechanics.util.CompactTagCodec;
+import com.minestom.mechanics.util.DoubleArrayTagUtil;
+import net.kyori.adventure.nbt.BinaryTag;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.tag.TagReadable;
 import net.minestom.server.tag.TagSerializer;
@@ -14,9 +18,16 @@ import java.util.Map;
 
 /**
  * Serializer for {@link KnockbackTagValue} on items.
+ * <p>
+ * Writes the {@link CompactTagCodec} format by default; the legacy one-key-per-field layout is
+ * still read (and written when compact writes are disabled).
+ * </p>
  */
 public class KnockbackTagSerializer implements TagSerializer<KnockbackTagValue> {
 
+    private static final Tag<BinaryTag> MULT = Tag.NBT("m");
+    private static final Tag<BinaryTag> MOD = Tag.NBT("d");
+
     /** Legacy ATTACKER_LOOK mapped to ATTACKER_POSITION; use lookWeight=1 for equivalent effect. */
     private static KnockbackSystem.KnockbackDirectionMode parseDirectionMode(String name, KnockbackSystem.KnockbackDirectionMode defaultValue) {
         if (name == null) return defaultValue;
@@ -89,8 +100,151 @@ public class KnockbackTagSerializer implements TagSerializer<KnockbackTagValue>
 
     @Override
     public KnockbackTagValue read(@NotNull TagReadable r) {
-        List<Double> mult = r.getTag(Tag.Double("m").list());
-        List<Double> mod = r.getTag(Tag.Double("d").list());
+        return CompactTagCodec.read(r, "knockback", SCHEMA_VERSION, KnockbackTagSerializer::readCompact, KnockbackTagSerializer::readLegacy);
+    }
+
+    @Override
+    public void write(@NotNull TagWritable w, @NotNull KnockbackTagValue v) {
+        if (CompactTagCodec.isWriteCompact()) {
+            w.setTag(CompactTagCodec.DATA, writeCompact(v));
+        } else {
+            writeLegacy(w, v);
+        }
+    }
+
+    // ===========================
+    // COMPACT FORMAT
+    // ===========================
+
+    private static final int SCHEMA_VERSION = 1;
+
+    private static final int HAS_MULT = 1, HAS_MOD = 1 << 1, HAS_CUSTOM = 1 << 2;
+
+    private static final int C_MODERN = 1, C_SYNC = 1 << 1, C_SPRINT_LOOK = 1 << 2, C_SPRINT_HF = 1 << 3,
+            C_SPRINT_VF = 1 << 4, C_RANGE = 1 << 5, C_SPRINT_RANGE = 1 << 6, C_STATES = 1 << 7;
+
+    private static final int S_HF = 1, S_VF = 1 << 1, S_VAM = 1 << 2, S_HM = 1 << 3, S_VM = 1 << 4;
+
+    private static byte[] writeCompact(KnockbackTagValue v) {
+        KnockbackConfig c = v.custom();
+        CompactTagCodec.Writer out = CompactTagCodec.writer(SCHEMA_VERSION);
+        out.writeByte((v.getMultiplierValues() != null ? HAS_MULT : 0) | (v.getModifyValues() != null ? HAS_MOD : 0) | (c != null ? HAS_CUSTOM : 0));
+        if (v.getMultiplierValues() != null) out.writeDoubles(v.getMultiplierValues());
+        if (v.getModifyValues() != null) out.writeDoubles(v.getModifyValues());
+        if (c == null) return out.toByteArray();
+
+        var baseR = c.rangeReduction();
+        var sprintR = c.sprintRangeReduction();
+        boolean hasRange = baseR != null && !baseR.equals(KnockbackSystem.RangeReductionConfig.none());
+        boolean hasSprintRange = sprintR != null && !sprintR.equals(baseR);
+        boolean hasStates = c.stateOverrides() != null && !c.stateOverrides().isEmpty();
+        out.writeByte((c.modern() ? C_MODERN : 0) | (c.knockbackSyncSupported() ? C_SYNC : 0)
+                | (c.sprintLookWeight() != null ? C_SPRINT_LOOK : 0)
+                | (c.sprintHorizontalFriction() != null ? C_SPRINT_HF : 0)
+                | (c.sprintVerticalFriction() != null ? C_SPRINT_VF : 0)
+                | (hasRange ? C_RANGE : 0) | (hasSprintRange ? C_SPRINT_RANGE : 0) | (hasStates ? C_STATES : 0));
+
+        out.writeDouble(c.horizontal()).writeDouble(c.vertical()).writeDouble(c.verticalLimit())
+                .writeDouble(c.sprintBonusHorizontal()).writeDouble(c.sprintBonusVertical())
+                .writeDouble(c.airMultiplierHorizontal()).writeDouble(c.airMultiplierVertical())
+                .writeDouble(c.lookWeight())
+                .writeDouble(c.horizontalFriction()).writeDouble(c.verticalFriction());
+        out.writeByte(c.meleeDirection().ordinal()).writeByte(c.projectileDirection().ordinal())
+                .writeByte(c.degenerateFallback().ordinal()).writeByte(c.directionBlendMode().ordinal())
+                .writeByte(c.velocityApplyMode().ordinal());
+        if (c.sprintLookWeight() != null) out.writeDouble(c.sprintLookWeight());
+        if (c.sprintHorizontalFriction() != null) out.writeDouble(c.sprintHorizontalFriction());
+        if (c.sprintVerticalFriction() != null) out.writeDouble(c.sprintVerticalFriction());
+        if (hasRange) writeRange(out, baseR);
+        if (hasSprintRange) writeRange(out, sprintR);
+        out.writeShort(c.sprintBufferTicks());
+
+        if (hasStates) {
+            out.writeByte(c.stateOverrides().size());
+            for (var e : c.stateOverrides().entrySet()) {
+                var o = e.getValue();
+                out.writeByte(e.getKey().ordinal());
+                out.writeByte((o.horizontalFriction() != null ? S_HF : 0) | (o.verticalFriction() != null ? S_VF : 0)
+                        | (o.velocityApplyMode() != null ? S_VAM : 0)
+                        | (o.horizontalMultiplier() != null ? S_HM : 0) | (o.verticalMultiplier() != null ? S_VM : 0));
+                if (o.horizontalFriction() != null) out.writeDouble(o.horizontalFriction());
+                if (o.verticalFriction() != null) out.writeDouble(o.verticalFriction());
+                if (o.velocityApplyMode() != null) out.writeByte(o.velocityApplyMode().ordinal());
+                if (o.horizontalMultiplier() != null) out.writeDouble(o.horizontalMultiplier());
+                if (o.verticalMultiplier() != null) out.writeDouble(o.verticalMultiplier());
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static KnockbackTagValue readCompact(CompactTagCodec.Reader in) {
+        int flags = in.readByte();
+        List<Double> mult = (flags & HAS_MULT) != 0 ? DoubleValues.of(in.readDoubles()) : null;
+        List<Double> mod = (flags & HAS_MOD) != 0 ? DoubleValues.of(in.readDoubles()) : null;
+        KnockbackConfig custom = null;
+        if ((flags & HAS_CUSTOM) != 0) {
+            int cf = in.readByte();
+            double h = in.readDouble(), v = in.readDouble(), vl = in.readDouble();
+            double sh = in.readDouble(), sv = in.readDouble();
+            double ah = in.readDouble(), av = in.readDouble();
+            double lw = in.readDouble();
+            double hf = in.readDouble(), vf = in.readDouble();
+            var melee = CompactTagCodec.enumOf(KnockbackSystem.KnockbackDirectionMode.values(), in.readByte(), KnockbackSystem.KnockbackDirectionMode.ATTACKER_POSITION);
+            var proj = CompactTagCodec.enumOf(KnockbackSystem.KnockbackDirectionMode.values(), in.readByte(), KnockbackSystem.KnockbackDirectionMode.SHOOTER_ORIGIN);
+            var df = CompactTagCodec.enumOf(KnockbackSystem.DegenerateFallback.values(), in.readByte(), KnockbackSystem.DegenerateFallback.LOOK);
+            var dbm = CompactTagCodec.enumOf(KnockbackSystem.DirectionBlendMode.values(), in.readByte(), KnockbackSystem.DirectionBlendMode.BLEND_DIRECTION);
+            var vam = CompactTagCodec.enumOf(KnockbackSystem.VelocityApplyMode.values(), in.readByte(), KnockbackSystem.VelocityApplyMode.SET);
+            Double slw = (cf & C_SPRINT_LOOK) != 0 ? in.readDouble() : null;
+            Double shf = (cf & C_SPRINT_HF) != 0 ? in.readDouble() : null;
+            Double svf = (cf & C_SPRINT_VF) != 0 ? in.readDouble() : null;
+            var baseRange = (cf & C_RANGE) != 0 ? readRange(in) : KnockbackSystem.RangeReductionConfig.none();
+            var sprintRange = (cf & C_SPRINT_RANGE) != 0 ? readRange(in) : baseRange;
+            int sbt = in.readShort();
+
+            Map<KnockbackSystem.KnockbackVictimState, KnockbackSystem.KnockbackStateOverride> states = Map.of();
+            if ((cf & C_STATES) != 0) {
+                states = new HashMap<>();
+                for (int i = in.readByte(); i > 0; i--) {
+                    int ordinal = in.readByte();
+                    int sf = in.readByte();
+                    Double ohf = (sf & S_HF) != 0 ? in.readDouble() : null;
+                    Double ovf = (sf & S_VF) != 0 ? in.readDouble() : null;
+                    var ovam = (sf & S_VAM) != 0 ? CompactTagCodec.enumOf(KnockbackSystem.VelocityApplyMode.values(), in.readByte(), null) : null;
+                    Double ohm = (sf & S_HM) != 0 ? in.readDouble() : null;
+                    Double ovm = (sf & S_VM) != 0 ? in.readDouble() : null;
+                    var state = CompactTagCodec.enumOf(KnockbackSystem.KnockbackVictimState.values(), ordinal, null);
+                    if (state != null) states.put(state, new KnockbackSystem.KnockbackStateOverride(ohf, ovf, ovam, ohm, ovm, null));
+                }
+            }
+
+            custom = new KnockbackConfig(h, v, vl, sh, sv, ah, av, lw,
+                    (cf & C_MODERN) != 0, (cf & C_SYNC) != 0,
+                    melee, proj, df, dbm, slw,
+                    hf, vf, shf, svf, vam,
+                    states, baseRange, sprintRange, sbt);
+        }
+        if (mult == null && mod == null && custom == null) return null;
+        return new KnockbackTagValue(mult, mod, custom);
+    }
+
+    private static void writeRange(CompactTagCodec.Writer out, KnockbackSystem.RangeReductionConfig r) {
+        out.writeDouble(r.startDistanceHorizontal()).writeDouble(r.startDistanceVertical())
+                .writeDouble(r.factorHorizontal()).writeDouble(r.factorVertical())
+                .writeDouble(r.maxHorizontal()).writeDouble(r.maxVertical());
+    }
+
+    private static KnockbackSystem.RangeReductionConfig readRange(CompactTagCodec.Reader in) {
+        return new KnockbackSystem.RangeReductionConfig(in.readDouble(), in.readDouble(),
+                in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+    }
+
+    // ===========================
+    // LEGACY FORMAT
+    // ===========================
+
+    private static KnockbackTagValue readLegacy(TagReadable r) {
+        List<Double> mult = DoubleValues.of(DoubleArrayTagUtil.read(r, MULT));
+        List<Double> mod = DoubleValues.of(DoubleArrayTagUtil.read(r, MOD));
         KnockbackConfig custom = null;
         if (Boolean.TRUE.equals(r.getTag(Tag.Boolean("hc")))) {
             // Read direction modes (default to standard if not present)
@@ -152,10 +306,9 @@ public class KnockbackTagSerializer implements TagSerializer<KnockbackTagValue>
         return new KnockbackTagValue(mult, mod, custom);
     }
 
-    @Override
-    public void write(@NotNull TagWritable w, @NotNull KnockbackTagValue v) {
-        if (v.multiplier() != null) w.setTag(Tag.Double("m").list(), v.multiplier());
-        if (v.modify() != null) w.setTag(Tag.Double("d").list(), v.modify());
+    private static void writeLegacy(TagWritable w, KnockbackTagValue v) {
+        DoubleArrayTagUtil.write(w, MULT, v.getMultiplierValues());
+        DoubleArrayTagUtil.write(w, MOD, v.getModifyValues());
         if (v.custom() != null) {
             w.setTag(Tag.Boolean("hc"), true);
             KnockbackConfig c = v.custom();
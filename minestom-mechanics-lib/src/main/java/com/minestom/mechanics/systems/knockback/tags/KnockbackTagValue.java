@@ -3,6 +3,7 @@ package com.minestom.mechanics.systems.knockback.tags;
 import com.minestom.mechanics.config.knockback.KnockbackConfig;
 import com.minestom.mechanics.config.knockback.KnockbackPresets;
 import com.minestom.mechanics.systems.ConfigTagWrapper;
+import com.minestom.mechanics.systems.DoubleValues;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
@@ -30,6 +31,12 @@ public record KnockbackTagValue(
         @Nullable KnockbackConfig custom
 ) implements ConfigTagWrapper<KnockbackConfig> {
 
+    /** Vectors are stored as {@link DoubleValues} so resolution reads them without unboxing. */
+    public KnockbackTagValue {
+        multiplier = DoubleValues.of(multiplier);
+        modify = DoubleValues.of(modify);
+    }
+
     // ===========================
     // STATIC FACTORY METHODS
     // ===========================
@@ -38,7 +45,7 @@ public record KnockbackTagValue(
      * Multiplier for all 6 components: [h, v, sprintH, sprintV, airH, airV]
      */
     public static KnockbackTagValue kbMult(double h, double v, double sprintH, double sprintV, double airH, double airV) {
-        return new KnockbackTagValue(List.of(h, v, sprintH, sprintV, airH, airV), null, null);
+        return new KnockbackTagValue(DoubleValues.of(h, v, sprintH, sprintV, airH, airV), null, null);
     }
 
     /** Multiplier for horizontal and vertical (others = 1.0) */
@@ -55,7 +62,7 @@ public record KnockbackTagValue(
      * Modify all 6 components: [h, v, sprintH, sprintV, airH, airV]
      */
     public static KnockbackTagValue kbAdd(double h, double v, double sprintH, double sprintV, double airH, double airV) {
-        return new KnockbackTagValue(null, List.of(h, v, sprintH, sprintV, airH, airV), null);
+        return new KnockbackTagValue(null, DoubleValues.of(h, v, sprintH, sprintV, airH, airV), null);
     }
 
     /** Modify horizontal and vertical (others = 0) */
@@ -74,7 +81,7 @@ public record KnockbackTagValue(
 
     /** Chain: add multiplier (returns new record) */
     public KnockbackTagValue thenMult(double h, double v, double sprintH, double sprintV, double airH, double airV) {
-        return new KnockbackTagValue(List.of(h, v, sprintH, sprintV, airH, airV), this.modify, this.custom);
+        return new KnockbackTagValue(DoubleValues.of(h, v, sprintH, sprintV, airH, airV), this.modify, this.custom);
     }
 
     public KnockbackTagValue thenMult(double horizontal, double vertical) {
@@ -83,7 +90,7 @@ public record KnockbackTagValue(
 
     /** Chain: add modify (returns new record) */
     public KnockbackTagValue thenAdd(double h, double v, double sprintH, double sprintV, double airH, double airV) {
-        return new KnockbackTagValue(this.multiplier, List.of(h, v, sprintH, sprintV, airH, airV), this.custom);
+        return new KnockbackTagValue(this.multiplier, DoubleValues.of(h, v, sprintH, sprintV, airH, airV), this.custom);
     }
 
     public KnockbackTagValue thenAdd(double horizontal, double vertical) {
@@ -140,4 +147,4 @@ public record KnockbackTagValue(
     public KnockbackConfig getCustom() {
         return custom;
     }
-}
\ No newline at end of file
+}
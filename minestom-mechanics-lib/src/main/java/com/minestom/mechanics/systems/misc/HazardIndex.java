@@ -0,0 +1,253 @@
+package com.minestom.mechanics.systems.misc;
+
+import com.minestom.mechanics.MechanicsTickLoop;
+import com.minestom.mechanics.util.BlockClassifier;
+import com.minestom.mechanics.util.LogUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.event.Event;
+import net.minestom.server.event.EventNode;
+import net.minestom.server.event.instance.InstanceChunkLoadEvent;
+import net.minestom.server.event.instance.InstanceChunkUnloadEvent;
+import net.minestom.server.event.instance.InstanceUnregisterEvent;
+import net.minestom.server.event.player.PlayerBlockBreakEvent;
+import net.minestom.server.event.player.PlayerBlockInteractEvent;
+import net.minestom.server.event.player.PlayerBlockPlaceEvent;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.palette.Palette;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-instance count of hazard blocks ({@link #CLASSES}) in each 16x16x16 chunk section.
+ * <p>
+ * Environmental damage trackers ask {@link #isClear} before scanning the blocks around a player;
+ * on a map with no lava, fire or cactus near the player the answer comes from at most eight
+ * section counts and the block scan is skipped entirely. A section is counted from its block
+ * palette ({@link BlockClassifier} lookup per state id) the first time it is queried and again
+ * after it is marked dirty.
+ * </p>
+ *
+ * <p>Sections are marked dirty by chunk load/unload and by player block place, break and interact
+ * events. Minestom has no event for {@code Instance.setBlock}, so hazards placed directly stay
+ * invisible until {@link #markDirty} is called or the section is recounted, which happens when it
+ * is queried more than {@value #RECOUNT_TICKS} ticks after its last count. Skipping the scan is
+ * therefore opt-in ({@code HealthConfig.hazardIndexScanSkip()}); by default the index is not used.</p>
+ *
+ * Usage:
+ * <pre>
+ * instance.setBlock(x, y, z, Block.LAVA);
+ * HazardIndex.getInstance().markDirty(instance, x, y, z);
+ * </pre>
+ */
+public final class HazardIndex {
+
+    private static volatile HazardIndex instance;
+    private static final LogUtil.SystemLogger log = LogUtil.system("HazardIndex");
+
+    /** Block classes counted per section. */
+    public static final int CLASSES = BlockClassifier.FIRE | BlockClassifier.LAVA | BlockClassifier.CACTUS;
+
+    /** Ticks after which a queried section is recounted even if nothing marked it dirty. */
+    public static final int RECOUNT_TICKS = 100;
+
+    private static final long UNCOUNTED = Long.MIN_VALUE;
+
+    private final Map<Instance, Sections> sections = new ConcurrentHashMap<>();
+    private EventNode<Event> eventNode;
+
+    private HazardIndex() {}
+
+    /**
+     * Get the index, starting it on first access.
+     */
+    public static HazardIndex getInstance() {
+        HazardIndex index = instance;
+        if (index != null) return index;
+        synchronized (HazardIndex.class) {
+            if (instance == null) {
+                HazardIndex created = new HazardIndex();
+                created.start();
+                instance = created;
+            }
+            return instance;
+        }
+    }
+
+    private void start() {
+        BlockClassifier.initialize();
+
+        eventNode = EventNode.all("hazard-index");
+        eventNode.addListener(InstanceChunkLoadEvent.class, event ->
+                dropColumn(event.getInstance(), event.getChunkX(), event.getChunkZ()));
+        eventNode.addListener(InstanceChunkUnloadEvent.class, event ->
+                dropColumn(event.getInstance(), event.getChunkX(), event.getChunkZ()));
+        eventNode.addListener(InstanceUnregisterEvent.class, event -> sections.remove(event.getInstance()));
+
+        // Block events fire before the change, so the section is only marked and recounted on the next query
+        eventNode.addListener(PlayerBlockPlaceEvent.class, event ->
+                markDirty(event.getPlayer().getInstance(), event.getBlockPosition()));
+        eventNode.addListener(PlayerBlockBreakEvent.class, event ->
+                markDirty(event.getPlayer().getInstance(), event.getBlockPosition()));
+        eventNode.addListener(PlayerBlockInteractEvent.class, event -> {
+            // Interactions can light the clicked block or the one in front of the clicked face
+            Instance inst = event.getPlayer().getInstance();
+            markDirty(inst, event.getBlockPosition());
+            markDirty(inst, event.getBlockPosition().relative(event.getBlockFace()));
+        });
+        MinecraftServer.getGlobalEventHandler().addChild(eventNode);
+        log.debug("Hazard index started");
+    }
+
+    // ===========================
+    // QUERIES
+    // ===========================
+
+    /**
+     * Whether no section overlapping the block range {@code [min, max]} (inclusive block coordinates)
+     * contains a hazard block. Unloaded chunks are never reported clear.
+     */
+    public boolean isClear(Instance inst, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        return sections(inst).isClear(minX >> 4, minY >> 4, minZ >> 4, maxX >> 4, maxY >> 4, maxZ >> 4,
+                MechanicsTickLoop.getInstance().getTick());
+    }
+
+    /**
+     * Hazard blocks in the section holding block {@code (x, y, z)}, or -1 if its chunk is not loaded.
+     */
+    public int count(Instance inst, int x, int y, int z) {
+        return sections(inst).count(x >> 4, y >> 4, z >> 4, MechanicsTickLoop.getInstance().getTick());
+    }
+
+    // ===========================
+    // INVALIDATION
+    // ===========================
+
+    /**
+     * Mark the section holding block {@code (x, y, z)} for recounting. Call after placing or removing
+     * hazard blocks with {@code Instance.setBlock}.
+     */
+    public void markDirty(Instance inst, int x, int y, int z) {
+        Sections s = sections.get(inst);
+        if (s != null) s.markDirty(x >> 4, y >> 4, z >> 4);
+    }
+
+    private void markDirty(Instance inst, Point pos) {
+        if (inst != null) markDirty(inst, pos.blockX(), pos.blockY(), pos.blockZ());
+    }
+
+    private void dropColumn(Instance inst, int chunkX, int chunkZ) {
+        Sections s = sections.get(inst);
+        if (s != null) s.dropColumn(chunkX, chunkZ);
+    }
+
+    private Sections sections(Instance inst) {
+        return sections.computeIfAbsent(inst, Sections::new);
+    }
+
+    private static long key(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    /** Section counts for one chunk column. */
+    private static final class Column {
+        final int minSection;
+        final int[] counts;
+        final long[] countedAt;
+
+        Column(int minSection, int sectionCount) {
+            this.minSection = minSection;
+            this.counts = new int[sectionCount];
+            this.countedAt = new long[sectionCount];
+            Arrays.fill(countedAt, UNCOUNTED);
+        }
+    }
+
+    /**
+     * Section counts for one instance. Chunk events can arrive off the tick thread, so access is
+     * synchronized; a query holds the lock for at most a few section counts.
+     */
+    private static final class Sections implements Palette.EntryConsumer {
+        final Instance owner;
+        final Long2ObjectOpenHashMap<Column> columns = new Long2ObjectOpenHashMap<>();
+        private int hazards; // scratch for accept, guarded by this
+
+        Sections(Instance owner) {
+            this.owner = owner;
+        }
+
+        synchronized boolean isClear(int sMinX, int sMinY, int sMinZ, int sMaxX, int sMaxY, int sMaxZ, long tick) {
+            for (int cx = sMinX; cx <= sMaxX; cx++) {
+                for (int cz = sMinZ; cz <= sMaxZ; cz++) {
+                    for (int sy = sMinY; sy <= sMaxY; sy++) {
+                        if (count(cx, sy, cz, tick) != 0) return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /** Hazard count of a section, recounting it if dirty or stale; 0 outside the world, -1 if unloaded. */
+        synchronized int count(int cx, int sy, int cz, long tick) {
+            long key = key(cx, cz);
+            Column column = columns.get(key);
+            Chunk chunk = null;
+            if (column == null) {
+                chunk = owner.getChunk(cx, cz);
+                if (chunk == null) return -1;
+                column = new Column(chunk.getMinSection(), chunk.getMaxSection() - chunk.getMinSection());
+                columns.put(key, column);
+            }
+
+            int i = sy - column.minSection;
+            if (i < 0 || i >= column.counts.length) return 0;
+            long countedAt = column.countedAt[i];
+            if (countedAt != UNCOUNTED && tick - countedAt < RECOUNT_TICKS) return column.counts[i];
+
+            if (chunk == null) chunk = owner.getChunk(cx, cz);
+            if (chunk == null) return -1;
+            Palette palette = chunk.getSection(sy).blockPalette();
+            hazards = 0;
+            if (palette.count() > 0) palette.getAllPresent(this);
+            column.counts[i] = hazards;
+            column.countedAt[i] = tick;
+            return hazards;
+        }
+
+        @Override
+        public void accept(int x, int y, int z, int stateId) {
+            if ((BlockClassifier.classes(stateId) & CLASSES) != 0) hazards++;
+        }
+
+        synchronized void markDirty(int cx, int sy, int cz) {
+            Column column = columns.get(key(cx, cz));
+            if (column == null) return;
+            int i = sy - column.minSection;
+            if (i >= 0 && i < column.countedAt.length) column.countedAt[i] = UNCOUNTED;
+        }
+
+        synchronized void dropColumn(int cx, int cz) {
+            columns.remove(key(cx, cz));
+        }
+    }
+
+    // ===========================
+    // SHUTDOWN
+    // ===========================
+
+    /**
+     * Stop indexing and drop all counts. The next {@link #getInstance()} restarts the index.
+     */
+    public static synchronized void shutdown() {
+        HazardIndex index = instance;
+        if (index == null) return;
+        if (index.eventNode != null) MinecraftServer.getGlobalEventHandler().removeChild(index.eventNode);
+        index.sections.clear();
+        instance = null;
+        log.debug("Hazard index stopped");
+    }
+}
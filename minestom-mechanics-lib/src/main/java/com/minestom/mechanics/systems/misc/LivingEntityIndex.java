@@ -0,0 +1,490 @@
+package com.minestom.mechanics.systems.misc;
+
+import com.minestom.mechanics.MechanicsTickLoop;
+import com.minestom.mechanics.systems.validation.RaycastUtils;
+import com.minestom.mechanics.util.LogUtil;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.Event;
+import net.minestom.server.event.EventNode;
+import net.minestom.server.event.entity.EntityTeleportEvent;
+import net.minestom.server.event.instance.AddEntityToInstanceEvent;
+import net.minestom.server.event.instance.InstanceUnregisterEvent;
+import net.minestom.server.event.instance.RemoveEntityFromInstanceEvent;
+import net.minestom.server.event.player.PlayerMoveEvent;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Per-instance spatial hash of {@link LivingEntity} positions.
+ * <p>
+ * Entities are bucketed into {@value #CELL_SIZE}-block XZ columns. Membership follows instance
+ * add/remove events; cells are updated incrementally — players immediately on
+ * {@code PlayerMoveEvent}/{@code EntityTeleportEvent} (in a node that runs after the others, so a
+ * cancelled move is not applied), other entities once per tick in
+ * {@link MechanicsTickLoop.Phase#ESTIMATE}, skipping those whose position did not change since the
+ * last sweep. Queries therefore only visit the columns around the query, so target search scales
+ * with local density rather than with the instance's entity count.
+ * </p>
+ *
+ * <p>Queries test the entity's current position, so results are exact; the bucket an entity sits
+ * in may lag by at most one tick of movement, which {@link #STALE_MARGIN} absorbs. Box queries are
+ * also padded by the widest bounding box indexed in the instance. Like the rest of the mechanics
+ * state, the index is only touched from the tick thread.</p>
+ *
+ * Usage:
+ * <pre>
+ * List&lt;LivingEntity&gt; near = LivingEntityIndex.getInstance().nearby(instance, eyePos, 6.0);
+ * LivingEntity victim = LivingEntityIndex.getInstance().find(instance, uuid);
+ * </pre>
+ */
+public final class LivingEntityIndex {
+
+    private static volatile LivingEntityIndex instance;
+    private static final LogUtil.SystemLogger log = LogUtil.system("LivingEntityIndex");
+
+    /** Column edge length in blocks. */
+    public static final int CELL_SIZE = 4;
+    private static final int CELL_SHIFT = 2;
+
+    /** Extra search distance covering movement not yet re-bucketed this tick. */
+    private static final double STALE_MARGIN = 2.0;
+
+    private final Map<Instance, Grid> grids = new ConcurrentHashMap<>();
+    private EventNode<Event> eventNode;
+    private MechanicsTickLoop.Registration sweep;
+
+    private LivingEntityIndex() {}
+
+    /**
+     * Get the index, starting it (and indexing every living entity already spawned) on first access.
+     */
+    public static LivingEntityIndex getInstance() {
+        LivingEntityIndex index = instance;
+        if (index != null) return index;
+        synchronized (LivingEntityIndex.class) {
+            if (instance == null) {
+                LivingEntityIndex created = new LivingEntityIndex();
+                created.start();
+                instance = created;
+            }
+            return instance;
+        }
+    }
+
+    private void start() {
+        // Runs after every other node (lowest priority first), so moves see other listeners' cancellations
+        eventNode = EventNode.all("living-entity-index");
+        eventNode.setPriority(Integer.MAX_VALUE);
+        eventNode.addListener(AddEntityToInstanceEvent.class, event -> {
+            if (event.getEntity() instanceof LivingEntity living) {
+                grid(event.getInstance()).add(living);
+            }
+        });
+        eventNode.addListener(RemoveEntityFromInstanceEvent.class, event -> {
+            Grid grid = grids.get(event.getInstance());
+            if (grid != null) grid.remove(event.getEntity().getEntityId());
+        });
+        eventNode.addListener(PlayerMoveEvent.class, event -> {
+            if (event.isCancelled()) return; // The player stays where they were
+            Player player = event.getPlayer();
+            Instance playerInstance = player.getInstance();
+            Grid grid = playerInstance != null ? grids.get(playerInstance) : null;
+            if (grid != null) grid.move(player.getEntityId(), event.getNewPosition());
+        });
+        eventNode.addListener(EntityTeleportEvent.class, event -> {
+            // Server-side teleports fire no PlayerMoveEvent; other entities are caught by the sweep
+            if (!(event.getEntity() instanceof Player player)) return;
+            Instance playerInstance = player.getInstance();
+            Grid grid = playerInstance != null ? grids.get(playerInstance) : null;
+            if (grid != null) grid.move(player.getEntityId(), event.getNewPosition());
+        });
+        eventNode.addListener(InstanceUnregisterEvent.class, event -> grids.remove(event.getInstance()));
+        MinecraftServer.getGlobalEventHandler().addChild(eventNode);
+
+        for (Instance existing : MinecraftServer.getInstanceManager().getInstances()) {
+            for (Entity entity : existing.getEntities()) {
+                if (entity instanceof LivingEntity living) grid(existing).add(living);
+            }
+        }
+
+        sweep = MechanicsTickLoop.getInstance().registerTick(MechanicsTickLoop.Phase.ESTIMATE,
+                "LivingEntityIndex", tick -> {
+                    for (Grid grid : grids.values()) grid.sweep();
+                });
+        log.debug("Living entity index started");
+    }
+
+    private Grid grid(Instance inst) {
+        return grids.computeIfAbsent(inst, Grid::new);
+    }
+
+    // ===========================
+    // QUERIES
+    // ===========================
+
+    /**
+     * Find an indexed living entity by UUID.
+     *
+     * @return the entity, or null if it is not a living entity in this instance
+     */
+    public @Nullable LivingEntity find(Instance inst, UUID uuid) {
+        Grid grid = grids.get(inst);
+        if (grid == null) return null;
+        Slot slot = grid.byUuid.get(uuid);
+        return slot != null ? slot.entity : null;
+    }
+
+    /**
+     * Find an indexed living entity by entity id.
+     *
+     * @return the entity, or null if it is not a living entity in this instance
+     */
+    public @Nullable LivingEntity find(Instance inst, int entityId) {
+        Grid grid = grids.get(inst);
+        if (grid == null) return null;
+        Slot slot = grid.byId.get(entityId);
+        return slot != null ? slot.entity : null;
+    }
+
+    /**
+     * Living entities whose position is within {@code radius} of {@code center}.
+     */
+    public List<LivingEntity> nearby(Instance inst, Point center, double radius) {
+        List<LivingEntity> out = new ArrayList<>();
+        collectNearby(inst, center.x(), center.y(), center.z(), radius, out);
+        return out;
+    }
+
+    /**
+     * Append living entities whose position is within {@code radius} of the given point to {@code out}.
+     */
+    public void collectNearby(Instance inst, double x, double y, double z, double radius, List<LivingEntity> out) {
+        Grid grid = grids.get(inst);
+        if (grid == null || grid.count == 0) return;
+
+        double reach = radius + STALE_MARGIN;
+        double radiusSq = radius * radius;
+        int minCx = cell(x - reach), maxCx = cell(x + reach);
+        int minCz = cell(z - reach), maxCz = cell(z + reach);
+
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                Cell cell = grid.cells.get(key(cx, cz));
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size; i++) {
+                    LivingEntity entity = cell.slots[i].entity;
+                    if (entity.isRemoved()) continue;
+                    Pos pos = entity.getPosition();
+                    double dx = pos.x() - x, dy = pos.y() - y, dz = pos.z() - z;
+                    if (dx * dx + dy * dy + dz * dz <= radiusSq) out.add(entity);
+                }
+            }
+        }
+    }
+
+    /**
+     * Append living entities whose bounding box comes within {@code reach} of the given point to
+     * {@code out}. Unlike {@link #collectNearby}, wide or tall boxes are found even when the entity's
+     * position is farther than {@code reach}: columns are padded by the widest indexed box.
+     */
+    public void collectInReach(Instance inst, double x, double y, double z, double reach, List<LivingEntity> out) {
+        Grid grid = grids.get(inst);
+        if (grid == null || grid.count == 0) return;
+
+        double pad = reach + STALE_MARGIN + grid.maxHalfWidth;
+        double reachSq = reach * reach;
+        int minCx = cell(x - pad), maxCx = cell(x + pad);
+        int minCz = cell(z - pad), maxCz = cell(z + pad);
+
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                Cell cell = grid.cells.get(key(cx, cz));
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size; i++) {
+                    LivingEntity entity = cell.slots[i].entity;
+                    if (entity.isRemoved()) continue;
+                    Pos pos = entity.getPosition();
+                    BoundingBox box = entity.getBoundingBox();
+                    // Distance from the point to the nearest point of the box (0 inside)
+                    double dx = Math.max(0, Math.max(pos.x() + box.minX() - x, x - pos.x() - box.maxX()));
+                    double dy = Math.max(0, Math.max(pos.y() + box.minY() - y, y - pos.y() - box.maxY()));
+                    double dz = Math.max(0, Math.max(pos.z() + box.minZ() - z, z - pos.z() - box.maxZ()));
+                    if (dx * dx + dy * dy + dz * dz <= reachSq) out.add(entity);
+                }
+            }
+        }
+    }
+
+    /**
+     * Living entities whose bounding box, grown by {@code expansion} on every side, intersects the
+     * ray segment from {@code origin} along {@code direction} up to {@code maxDistance}.
+     */
+    public List<LivingEntity> alongRay(Instance inst, Pos origin, Vec direction, double maxDistance, double expansion) {
+        List<LivingEntity> out = new ArrayList<>();
+        collectAlongRay(inst, origin, direction, maxDistance, expansion, out);
+        return out;
+    }
+
+    /**
+     * Append living entities whose expanded bounding box intersects the ray segment to {@code out}.
+     *
+     * @see #alongRay(Instance, Pos, Vec, double, double)
+     */
+    public void collectAlongRay(Instance inst, Pos origin, Vec direction, double maxDistance,
+                                double expansion, List<LivingEntity> out) {
+        Grid grid = grids.get(inst);
+        if (grid == null || grid.count == 0) return;
+
+        double len = Math.sqrt(direction.x() * direction.x() + direction.y() * direction.y() + direction.z() * direction.z());
+        if (len == 0) return;
+        double ox = origin.x(), oy = origin.y(), oz = origin.z();
+        double dx = direction.x() / len, dy = direction.y() / len, dz = direction.z() / len;
+        double invDx = 1.0 / dx, invDy = 1.0 / dy, invDz = 1.0 / dz;
+        double endX = ox + dx * maxDistance;
+        double endZ = oz + dz * maxDistance;
+        double pad = expansion + STALE_MARGIN + grid.maxHalfWidth;
+        int minCx = cell(Math.min(ox, endX) - pad), maxCx = cell(Math.max(ox, endX) + pad);
+        int minCz = cell(Math.min(oz, endZ) - pad), maxCz = cell(Math.max(oz, endZ) + pad);
+
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                Cell cell = grid.cells.get(key(cx, cz));
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size; i++) {
+                    LivingEntity entity = cell.slots[i].entity;
+                    if (entity.isRemoved()) continue;
+                    Pos pos = entity.getPosition();
+                    BoundingBox box = entity.getBoundingBox();
+                    double distance = RaycastUtils.rayBoxDistance(ox, oy, oz, invDx, invDy, invDz,
+                            pos.x() + box.minX() - expansion, pos.y() + box.minY() - expansion, pos.z() + box.minZ() - expansion,
+                            pos.x() + box.maxX() + expansion, pos.y() + box.maxY() + expansion, pos.z() + box.maxZ() + expansion,
+                            maxDistance);
+                    if (!Double.isNaN(distance)) out.add(entity);
+                }
+            }
+        }
+    }
+
+    /**
+     * Run {@code action} for every indexed living entity in every instance (no allocation).
+     */
+    public void forEach(Consumer<LivingEntity> action) {
+        for (Grid grid : grids.values()) {
+            Slot[] all = grid.all;
+            for (int i = 0, n = grid.count; i < n; i++) {
+                LivingEntity entity = all[i].entity;
+                if (!entity.isRemoved()) action.accept(entity);
+            }
+        }
+    }
+
+    /** Number of living entities currently indexed in an instance. */
+    public int size(Instance inst) {
+        Grid grid = grids.get(inst);
+        return grid == null ? 0 : grid.count;
+    }
+
+    // ===========================
+    // GRID
+    // ===========================
+
+    private static int cell(double coord) {
+        return ((int) Math.floor(coord)) >> CELL_SHIFT;
+    }
+
+    private static long key(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private static long key(Point pos) {
+        return key(cell(pos.x()), cell(pos.z()));
+    }
+
+    /** Horizontal distance from an entity's position to the farthest side of its bounding box. */
+    private static double halfWidth(LivingEntity entity) {
+        BoundingBox box = entity.getBoundingBox();
+        return Math.max(Math.max(-box.minX(), box.maxX()), Math.max(-box.minZ(), box.maxZ()));
+    }
+
+    /**
+     * Index entry for one entity: its current column, its positions in the cell and dense arrays, and
+     * the position the sweep last bucketed it at (non-players only).
+     */
+    private static final class Slot {
+        final LivingEntity entity;
+        long cellKey;
+        Cell cell;
+        int cellIndex;
+        int allIndex;
+        int sweptIndex = -1;
+        Pos sweptPos;
+
+        Slot(LivingEntity entity) {
+            this.entity = entity;
+        }
+    }
+
+    /** One column's entities (swap-remove array). */
+    private static final class Cell {
+        Slot[] slots = new Slot[4];
+        int size;
+
+        void add(Slot slot) {
+            if (size == slots.length) slots = Arrays.copyOf(slots, size * 2);
+            slot.cellIndex = size;
+            slots[size++] = slot;
+        }
+
+        void remove(Slot slot) {
+            int last = --size;
+            Slot moved = slots[last];
+            slots[slot.cellIndex] = moved;
+            moved.cellIndex = slot.cellIndex;
+            slots[last] = null;
+        }
+    }
+
+    /** Spatial hash for one instance. */
+    private static final class Grid {
+        final Instance owner;
+        final Long2ObjectOpenHashMap<Cell> cells = new Long2ObjectOpenHashMap<>();
+        final Int2ObjectOpenHashMap<Slot> byId = new Int2ObjectOpenHashMap<>();
+        final Map<UUID, Slot> byUuid = new HashMap<>();
+        Slot[] all = new Slot[0];
+        int count;
+        /** Non-player entities, re-bucketed by {@link #sweep()}; players move with their events. */
+        Slot[] swept = new Slot[0];
+        int sweptCount;
+        /** Widest {@link #halfWidth} seen in this instance; only grows, so box queries stay conservative. */
+        double maxHalfWidth;
+
+        Grid(Instance owner) {
+            this.owner = owner;
+        }
+
+        void add(LivingEntity entity) {
+            if (byId.containsKey(entity.getEntityId())) return;
+            Slot slot = new Slot(entity);
+            byId.put(entity.getEntityId(), slot);
+            byUuid.put(entity.getUuid(), slot);
+            if (count == all.length) all = Arrays.copyOf(all, Math.max(8, count * 2));
+            slot.allIndex = count;
+            all[count++] = slot;
+            if (!(entity instanceof Player)) {
+                if (sweptCount == swept.length) swept = Arrays.copyOf(swept, Math.max(8, sweptCount * 2));
+                slot.sweptIndex = sweptCount;
+                swept[sweptCount++] = slot;
+            }
+            maxHalfWidth = Math.max(maxHalfWidth, halfWidth(entity));
+            slot.sweptPos = entity.getPosition();
+            place(slot, key(slot.sweptPos));
+        }
+
+        void remove(int entityId) {
+            Slot slot = byId.remove(entityId);
+            if (slot == null) return;
+            byUuid.remove(slot.entity.getUuid());
+            unplace(slot);
+            int last = --count;
+            Slot moved = all[last];
+            all[slot.allIndex] = moved;
+            moved.allIndex = slot.allIndex;
+            all[last] = null;
+            if (slot.sweptIndex >= 0) {
+                int lastSwept = --sweptCount;
+                Slot movedSwept = swept[lastSwept];
+                swept[slot.sweptIndex] = movedSwept;
+                movedSwept.sweptIndex = slot.sweptIndex;
+                swept[lastSwept] = null;
+            }
+        }
+
+        void move(int entityId, Point newPosition) {
+            Slot slot = byId.get(entityId);
+            if (slot == null) return;
+            maxHalfWidth = Math.max(maxHalfWidth, halfWidth(slot.entity));
+            long newKey = key(newPosition);
+            if (newKey != slot.cellKey) {
+                unplace(slot);
+                place(slot, newKey);
+            }
+        }
+
+        /**
+         * Re-bucket non-player entities that moved since the last sweep and drop removed or transferred
+         * ones. An unmoved entity keeps the same {@code Pos} instance, so it costs one reference compare.
+         */
+        void sweep() {
+            for (int i = sweptCount - 1; i >= 0; i--) {
+                Slot slot = swept[i];
+                LivingEntity entity = slot.entity;
+                if (entity.isRemoved() || entity.getInstance() != owner) {
+                    remove(entity.getEntityId());
+                    continue;
+                }
+                Pos pos = entity.getPosition();
+                if (pos == slot.sweptPos) continue;
+                slot.sweptPos = pos;
+                maxHalfWidth = Math.max(maxHalfWidth, halfWidth(entity));
+                long newKey = key(pos);
+                if (newKey != slot.cellKey) {
+                    unplace(slot);
+                    place(slot, newKey);
+                }
+            }
+        }
+
+        private void place(Slot slot, long cellKey) {
+            Cell cell = cells.get(cellKey);
+            if (cell == null) {
+                cell = new Cell();
+                cells.put(cellKey, cell);
+            }
+            cell.add(slot);
+            slot.cell = cell;
+            slot.cellKey = cellKey;
+        }
+
+        private void unplace(Slot slot) {
+            Cell cell = slot.cell;
+            cell.remove(slot);
+            if (cell.size == 0) cells.remove(slot.cellKey);
+            slot.cell = null;
+        }
+    }
+
+    // ===========================
+    // SHUTDOWN
+    // ===========================
+
+    /**
+     * Stop indexing and drop all grids. The next {@link #getInstance()} rebuilds the index.
+     */
+    public static synchronized void shutdown() {
+        LivingEntityIndex index = instance;
+        if (index == null) return;
+        if (index.sweep != null) index.sweep.unregister();
+        if (index.eventNode != null) MinecraftServer.getGlobalEventHandler().removeChild(index.eventNode);
+        index.grids.clear();
+        instance = null;
+        log.debug("Living entity index stopped");
+    }
+}
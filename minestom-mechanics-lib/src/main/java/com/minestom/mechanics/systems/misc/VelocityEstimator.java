@@ -1,57 +1,65 @@
 package com.minestom.mechanics.systems.misc;
 
-import net.minestom.server.MinecraftServer;
+import com.minestom.mechanics.MechanicsTickLoop;
+import com.minestom.mechanics.systems.player.MechanicsEntityState;
+import com.minestom.mechanics.systems.player.PlayerStateManager;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
-import net.minestom.server.event.player.PlayerTickEvent;
-import net.minestom.server.tag.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Estimates entity velocity from position deltas (PlayerTickEvent). More accurate than
+ * Estimates entity velocity from position deltas ({@link MechanicsTickLoop.Phase#ESTIMATE}). More accurate than
  * Minestom's built-in velocity, especially for Y. Improves with higher TPS.
  * <p>
  * Must call {@link #initialize()} before use (e.g. when knockback is initialized).
+ * State lives in {@link MechanicsEntityState.Motion}; the tick listener does not allocate.
  */
 public final class VelocityEstimator {
 
-    private static final Tag<Vec> ESTIMATED_VELOCITY = Tag.Transient("estimated_velocity");
-    private static final Tag<Pos> LAST_POSITION = Tag.Transient("estimated_velocity_last_pos");
     private static final Logger log = LoggerFactory.getLogger(VelocityEstimator.class);
 
+    private static MechanicsTickLoop.Registration registration;
+
     private VelocityEstimator() {}
 
-    public static void initialize() {
-        MinecraftServer.getGlobalEventHandler().addListener(PlayerTickEvent.class, event -> {
-            Player player = event.getPlayer();
+    public static synchronized void initialize() {
+        if (registration != null) return;
+        registration = MechanicsTickLoop.getInstance().register(MechanicsTickLoop.Phase.ESTIMATE, "VelocityEstimator", (player, tick) -> {
             Pos currentPos = player.getPosition();
-            Pos lastPos = player.getTag(LAST_POSITION);
+            MechanicsEntityState.Motion motion = PlayerStateManager.get(player).motion;
 
-            if (lastPos != null) {
+            if (motion.hasLastPosition) {
                 // Position delta per tick = velocity in blocks/tick (same units as Minestom)
-                Vec estimated = new Vec(
-                        currentPos.x() - lastPos.x(),
-                        currentPos.y() - lastPos.y(),
-                        currentPos.z() - lastPos.z()
-                );
-                player.setTag(ESTIMATED_VELOCITY, estimated);
+                motion.velocityX = currentPos.x() - motion.lastX;
+                motion.velocityY = currentPos.y() - motion.lastY;
+                motion.velocityZ = currentPos.z() - motion.lastZ;
+                motion.hasEstimate = true;
             }
 
-            player.setTag(LAST_POSITION, currentPos);
+            motion.lastX = currentPos.x();
+            motion.lastY = currentPos.y();
+            motion.lastZ = currentPos.z();
+            motion.hasLastPosition = true;
         });
     }
 
+    public static synchronized void shutdown() {
+        if (registration != null) { registration.unregister(); registration = null; }
+    }
+
     /**
      * Get estimated velocity for an entity. For players, uses position-based estimation.
      * For others, falls back to entity.getVelocity() with a ground fix for phantom Y.
      */
     public static Vec getVelocity(Entity entity) {
         if (entity instanceof Player player) {
-            Vec est = player.getTag(ESTIMATED_VELOCITY);
-            if (est != null) return est;
+            MechanicsEntityState state = PlayerStateManager.peek(player);
+            if (state != null && state.motion.hasEstimate) {
+                return new Vec(state.motion.velocityX, state.motion.velocityY, state.motion.velocityZ);
+            }
         }
 
         Vec vel = entity.getVelocity();
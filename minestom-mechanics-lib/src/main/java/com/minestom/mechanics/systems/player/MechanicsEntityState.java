@@ -0,0 +1,183 @@
+package com.minestom.mechanics.systems.player;
+
+import com.minestom.mechanics.systems.attack.HitWindow;
+import com.minestom.mechanics.systems.health.damage.BlockContact;
+import com.minestom.mechanics.systems.validation.PositionHistory;
+import com.minestom.mechanics.systems.validation.hits.HitAnalytics;
+import com.minestom.mechanics.systems.validation.hits.ServerSideDetector;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Per-entity mechanics state, attached once per entity by {@link PlayerStateManager}.
+ * <p>
+ * Replaces the per-tick transient tags that each subsystem used to read and rewrite
+ * (boxed {@code Double}/{@code Long}, {@code Pos}, small records). Every subsystem owns one
+ * nested block of primitive, mutable fields, so hot paths update state in place without
+ * allocating.
+ * </p>
+ *
+ * <p>Fields are only touched from the entity's tick thread (or the damage event it triggers),
+ * the same threading model the tags had. Unset tick fields hold {@link #NO_TICK}.</p>
+ */
+public final class MechanicsEntityState {
+
+    /** Sentinel for "no tick recorded". */
+    public static final long NO_TICK = Long.MIN_VALUE;
+
+    public final Motion motion = new Motion();
+    public final Knockback knockback = new Knockback();
+    public final Fall fall = new Fall();
+    public final Fire fire = new Fire();
+    public final Gravity gravity = new Gravity();
+    public final Invulnerability invulnerability = new Invulnerability();
+    public final DamagePipeline damage = new DamagePipeline();
+    public final Swing swing = new Swing();
+    public final LookTarget lookTarget = new LookTarget();
+    public final Rewind rewind = new Rewind();
+    public final Latency latency = new Latency();
+    public final Analytics analytics = new Analytics();
+    public final Contact contact = new Contact();
+
+    MechanicsEntityState() {}
+
+    // ===========================
+    // STATE BLOCKS
+    // ===========================
+
+    /** {@code VelocityEstimator}: last position and position-delta velocity (blocks/tick). */
+    public static final class Motion {
+        public boolean hasLastPosition;
+        public double lastX, lastY, lastZ;
+        public boolean hasEstimate;
+        public double velocityX, velocityY, velocityZ;
+    }
+
+    /** {@code KnockbackSystem}: last tick the player was seen sprinting (sprint buffer). */
+    public static final class Knockback {
+        public long lastSprintTick = NO_TICK;
+    }
+
+    /** {@code Fall} damage tracker. */
+    public static final class Fall {
+        public double distance;
+        public boolean wasGrounded = true;
+        public double lastY;
+
+        public void reset() {
+            distance = 0;
+            wasGrounded = true;
+            lastY = 0;
+        }
+    }
+
+    /** {@code Fire} damage tracker. */
+    public static final class Fire {
+        public long lastContactTick = NO_TICK;
+        public long lastBurnTick = NO_TICK;
+        public int fireTicks;
+        public int contactDamageCount;
+
+        public void reset() {
+            lastContactTick = NO_TICK;
+            lastBurnTick = NO_TICK;
+            fireTicks = 0;
+            contactDamageCount = 0;
+        }
+    }
+
+    /** Legacy {@code GravitySystem}: its own position tracking and smoothed Y velocity. */
+    public static final class Gravity {
+        public boolean hasLastPosition;
+        public double lastX, lastY, lastZ;
+        public double smoothedVy;
+
+        public void reset() {
+            hasLastPosition = false;
+            smoothedVy = 0;
+        }
+    }
+
+    /** {@code InvulnerabilityTracker}: i-frame window state. */
+    public static final class Invulnerability {
+        public long lastDamageTick = NO_TICK;
+        public float lastDamageAmount;
+        public boolean wasReplacement;
+        public @Nullable ItemStack lastMeleeItem;
+
+        public void reset() {
+            lastDamageTick = NO_TICK;
+            lastDamageAmount = 0f;
+            wasReplacement = false;
+            lastMeleeItem = null;
+        }
+    }
+
+    /** {@code HealthSystem}: last tick a damage event was processed for this entity (at most one per tick). */
+    public static final class DamagePipeline {
+        public long lastProcessedTick = NO_TICK;
+    }
+
+    /** {@code SwingWindowTracker}: last swing, last swing consumed by a window hit, and hit windows. */
+    public static final class Swing {
+        public long lastSwingTick = NO_TICK;
+        public long lastConsumedSwingTick = NO_TICK;
+        /** Entities this player recently hit (melee/projectile), created on first hit. */
+        public @Nullable HitWindow victims;
+        /** Entities that recently hit this player, created on first hit. */
+        public @Nullable HitWindow attackers;
+    }
+
+    /**
+     * {@code ServerSideDetector}: look target resolved this tick, keyed on the eye position and view
+     * it was computed from. Reused by every swing-window check and the swing path in the same tick.
+     */
+    public static final class LookTarget {
+        public long tick = NO_TICK;
+        public double eyeX, eyeY, eyeZ;
+        public float yaw, pitch;
+        /** Distance the block trace covered. */
+        public double traceDistance;
+        /** First block hit along the look ray, +inf if none within {@link #traceDistance}. */
+        public double blockDistance;
+        /** Nearest unobstructed living entity (no block filter applied), or null. */
+        public @Nullable LivingEntity target;
+
+        public boolean matches(long tick, double eyeX, double eyeY, double eyeZ, float yaw, float pitch, double minTrace) {
+            return this.tick == tick && this.eyeX == eyeX && this.eyeY == eyeY && this.eyeZ == eyeZ
+                    && this.yaw == yaw && this.pitch == pitch && traceDistance >= minTrace;
+        }
+    }
+
+    /** {@code LagCompensation}: tick-indexed position history, created on first record. */
+    public static final class Rewind {
+        public @Nullable PositionHistory history;
+    }
+
+    /** {@code KnockbackSyncHandler}: smoothed round-trip latency and jitter (ms). */
+    public static final class Latency {
+        public boolean sampled;
+        public double average;
+        public double jitter;
+
+        public void reset() {
+            sampled = false;
+            average = 0;
+            jitter = 0;
+        }
+    }
+
+    /** {@code HitSnapshotTracker}: hit analytics, recorded only while analytics are enabled. */
+    public static final class Analytics {
+        /** Rolling hits this entity landed, created on its first hit. */
+        public @Nullable HitAnalytics hits;
+        /** Latest hit this entity took. */
+        public @Nullable ServerSideDetector.HitSnapshot lastTaken;
+    }
+
+    /** {@code BlockContact}: this tick's block contact snapshot, created on the first tracker tick. */
+    public static final class Contact {
+        public @Nullable BlockContact snapshot;
+    }
+}
@@ -1,80 +1,58 @@
 package com.minestom.mechanics.systems.player;
 
-import net.minestom.server.entity.Player;
-
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-
-// TODO: I like the idea here, but as of now, A. it isn't being used,
-//  and B. we should move it to the aformentioned player package
+import net.minestom.server.entity.Entity;
+import net.minestom.server.tag.Tag;
+import org.jetbrains.annotations.Nullable;
 
 /**
- * Abstract base class for managing player-specific state.
- * ✅ ABSTRACTION: Provides common pattern for state management across different systems.
- * 
- * @param <T> The type of state to manage for each player
+ * Registry for {@link MechanicsEntityState}: one state object per entity, attached through a
+ * single transient tag.
+ * <p>
+ * The state is created on first access and lives exactly as long as the entity (the tag dies
+ * with it), so there is no external map to leak and no disconnect cleanup is required.
+ * </p>
+ *
+ * Usage:
+ * <pre>
+ * MechanicsEntityState.Fall fall = PlayerStateManager.get(player).fall;
+ * fall.distance += dy;
+ * </pre>
  */
-public abstract class PlayerStateManager<T> {
-    protected final Map<UUID, T> playerStates = new ConcurrentHashMap<>();
-    
-    /**
-     * Get the current state for a player.
-     * 
-     * @param player The player to get state for
-     * @return The player's current state, or null if not set
-     */
-    public T getState(Player player) {
-        return playerStates.get(player.getUuid());
-    }
-    
-    /**
-     * Set the state for a player.
-     * 
-     * @param player The player to set state for
-     * @param state The new state
-     */
-    public void setState(Player player, T state) {
-        if (state == null) {
-            playerStates.remove(player.getUuid());
-        } else {
-            playerStates.put(player.getUuid(), state);
-        }
-    }
-    
+public final class PlayerStateManager {
+
+    private static final Tag<MechanicsEntityState> STATE = Tag.Transient("mechanics_entity_state");
+
+    private PlayerStateManager() {}
+
     /**
-     * Clear the state for a player.
-     * 
-     * @param player The player to clear state for
+     * Get the state for an entity, creating and attaching it on first access.
      */
-    public void clearState(Player player) {
-        playerStates.remove(player.getUuid());
+    public static MechanicsEntityState get(Entity entity) {
+        MechanicsEntityState state = entity.getTag(STATE);
+        if (state != null) return state;
+        return entity.updateAndGetTag(STATE, existing -> existing != null ? existing : new MechanicsEntityState());
     }
-    
+
     /**
-     * Check if a player has a state set.
-     * 
-     * @param player The player to check
-     * @return true if the player has a state, false otherwise
+     * Get the state for an entity without creating it.
+     *
+     * @return the state, or null if no subsystem has touched this entity yet
      */
-    public boolean hasState(Player player) {
-        return playerStates.containsKey(player.getUuid());
+    public static @Nullable MechanicsEntityState peek(Entity entity) {
+        return entity.getTag(STATE);
     }
-    
+
     /**
-     * Get the number of players with active states.
-     * 
-     * @return The number of active states
+     * Whether the entity has a state attached.
      */
-    public int getActiveStateCount() {
-        return playerStates.size();
+    public static boolean hasState(Entity entity) {
+        return entity.hasTag(STATE);
     }
-    
+
     /**
-     * Clear all states (useful for shutdown).
+     * Detach the state from an entity (all subsystems start fresh on next access).
      */
-    public void clearAllStates() {
-        playerStates.clear();
+    public static void clearState(Entity entity) {
+        entity.removeTag(STATE);
     }
 }
-
@@ -6,6 +6,7 @@ import com.minestom.mechanics.systems.projectile.tags.VelocityTagValue;
 import com.minestom.mechanics.ConfigurableSystem;
 import com.minestom.mechanics.util.LogUtil;
 import com.minestom.mechanics.systems.projectile.tags.ProjectileTagRegistry;
+import com.minestom.mechanics.util.ItemTagCache;
 import net.minestom.server.entity.*;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.tag.Tag;
@@ -83,7 +84,7 @@ public class ProjectileVelocity extends ConfigurableSystem<ProjectileVelocityCon
     @SuppressWarnings("unchecked")
     protected ConfigTagWrapper<ProjectileVelocityConfig> getItemWrapper(@org.jetbrains.annotations.Nullable net.minestom.server.item.ItemStack item, Entity attacker) {
         if (item == null || item.isAir()) return null;
-        return (ConfigTagWrapper<ProjectileVelocityConfig>) (ConfigTagWrapper<?>) item.getTag(ITEM_CUSTOM);
+        return (ConfigTagWrapper<ProjectileVelocityConfig>) (ConfigTagWrapper<?>) ItemTagCache.get(item, ITEM_CUSTOM);
     }
 
     @Override
@@ -96,11 +97,7 @@ public class ProjectileVelocity extends ConfigurableSystem<ProjectileVelocityCon
     // ===========================
 
     @Override
-    protected ProjectileVelocityConfig resolveBaseConfig(
-            Entity attacker,
-            @Nullable LivingEntity victim,
-            @Nullable ItemStack item) {  // ← Fixed signature to match parent!
-
+    protected @Nullable ProjectileVelocityConfig resolveFixedBaseConfig(Entity attacker) {
         // Projectiles get velocity from registry
         if (isProjectileAttacker(attacker)) {
             try {
@@ -117,8 +114,8 @@ public class ProjectileVelocity extends ConfigurableSystem<ProjectileVelocityCon
             }
         }
 
-        // Fallback to server default
-        return super.resolveBaseConfig(attacker, victim, item);  // ← Pass item, not handUsed!
+        // Fallback to the tag chain / server default
+        return null;
     }
 
     // ===========================
@@ -132,24 +129,22 @@ public class ProjectileVelocity extends ConfigurableSystem<ProjectileVelocityCon
      * Priority: Item > Projectile > Shooter (if player) > World > Registry
      */
     public ProjectileVelocityConfig resolveConfig(Entity shooter, Entity projectile, ItemStack item) {
-        // Use base class method that handles item priority!
-        double[] components = resolveComponents(
-                projectile,  // Pass projectile as "attacker" for registry lookup
-                null,        // No victim for velocity resolution
-                item,        // Item gets checked first!
-                config -> new double[]{
-                        config.horizontalMultiplier(),
-                        config.verticalMultiplier(),
-                        config.spreadMultiplier(),
-                        config.gravity(),
-                        config.horizontalAirResistance(),
-                        config.verticalAirResistance()
-                }
-        );
+        // Projectile passed as "attacker" for registry lookup, no victim. Not cached: every
+        // launch is a new projectile entity, so the key would never repeat.
+        return buildEffectiveConfig(resolve(projectile, null, item));
+    }
+
+    @Override
+    protected ProjectileVelocityConfig buildEffectiveConfig(Resolution<ProjectileVelocityConfig> resolved) {
+        ProjectileVelocityConfig base = resolved.config();
 
         return new ProjectileVelocityConfig(
-                components[0], components[1], components[2],
-                components[3], components[4], components[5]
+                resolved.apply(0, base.horizontalMultiplier()),
+                resolved.apply(1, base.verticalMultiplier()),
+                resolved.apply(2, base.spreadMultiplier()),
+                resolved.apply(3, base.gravity()),
+                resolved.apply(4, base.horizontalAirResistance()),
+                resolved.apply(5, base.verticalAirResistance())
         );
     }
 }
\ No newline at end of file
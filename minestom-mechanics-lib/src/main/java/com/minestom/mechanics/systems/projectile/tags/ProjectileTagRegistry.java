@@ -3,6 +3,7 @@ package com.minestom.mechanics.systems.projectile.tags;
 import com.minestom.mechanics.systems.knockback.KnockbackSystem;
 import com.minestom.mechanics.systems.knockback.tags.KnockbackTagValue;
 import com.minestom.mechanics.systems.projectile.components.ProjectileVelocity;
+import com.minestom.mechanics.util.ItemTagCache;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.item.ItemStack;
 
@@ -23,13 +24,15 @@ public class ProjectileTagRegistry {
 
     /**
      * Copy projectile-relevant data from item tags to entity transient tags.
+     * Writes tags directly: the projectile is freshly created, so no cached resolution
+     * depends on it yet and the global override epoch is left untouched.
      */
     public static void copyAllProjectileTags(ItemStack item, Entity projectile) {
         if (item == null || item.isAir()) return;
 
         // Knockback: item's ITEM_PROJECTILE_CUSTOM → entity's PROJECTILE_CUSTOM
         if (registeredSystems.contains(KnockbackSystem.class)) {
-            KnockbackTagValue pkb = item.getTag(KnockbackSystem.ITEM_PROJECTILE_CUSTOM);
+            KnockbackTagValue pkb = ItemTagCache.get(item, KnockbackSystem.ITEM_PROJECTILE_CUSTOM);
             if (pkb != null) {
                 projectile.setTag(KnockbackSystem.PROJECTILE_CUSTOM, pkb);
             }
@@ -37,7 +40,7 @@ public class ProjectileTagRegistry {
 
         // Velocity: item's ITEM_CUSTOM → entity's CUSTOM
         if (registeredSystems.contains(ProjectileVelocity.class)) {
-            VelocityTagValue vel = item.getTag(ProjectileVelocity.ITEM_CUSTOM);
+            VelocityTagValue vel = ItemTagCache.get(item, ProjectileVelocity.ITEM_CUSTOM);
             if (vel != null) {
                 projectile.setTag(ProjectileVelocity.CUSTOM, vel);
             }
@@ -1,6 +1,10 @@
 package com.minestom.mechanics.systems.projectile.tags;
 
 import com.minestom.mechanics.config.projectiles.advanced.ProjectileVelocityConfig;
+import com.minestom.mechanics.systems.DoubleValues;
+import com.minestom.mechanics.util.CompactTagCodec;
+import com.minestom.mechanics.util.DoubleArrayTagUtil;
+import net.kyori.adventure.nbt.BinaryTag;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.tag.TagReadable;
 import net.minestom.server.tag.TagSerializer;
@@ -11,13 +15,67 @@ import java.util.List;
 
 /**
  * Serializer for {@link VelocityTagValue} on items.
+ * Writes the {@link CompactTagCodec} format by default and still reads the legacy per-field layout.
  */
 public class VelocityTagSerializer implements TagSerializer<VelocityTagValue> {
 
+    private static final Tag<BinaryTag> MULT = Tag.NBT("m");
+    private static final Tag<BinaryTag> MOD = Tag.NBT("d");
+
+    private static final int SCHEMA_VERSION = 1;
+    private static final int HAS_MULT = 1, HAS_MOD = 1 << 1, HAS_CUSTOM = 1 << 2;
+
     @Override
     public VelocityTagValue read(@NotNull TagReadable r) {
-        List<Double> mult = r.getTag(Tag.Double("m").list());
-        List<Double> mod = r.getTag(Tag.Double("d").list());
+        return CompactTagCodec.read(r, "velocity", SCHEMA_VERSION, VelocityTagSerializer::readCompact, VelocityTagSerializer::readLegacy);
+    }
+
+    @Override
+    public void write(@NotNull TagWritable w, @NotNull VelocityTagValue v) {
+        if (CompactTagCodec.isWriteCompact()) {
+            w.setTag(CompactTagCodec.DATA, writeCompact(v));
+        } else {
+            writeLegacy(w, v);
+        }
+    }
+
+    // ===========================
+    // COMPACT FORMAT
+    // ===========================
+
+    private static byte[] writeCompact(VelocityTagValue v) {
+        ProjectileVelocityConfig c = v.custom();
+        CompactTagCodec.Writer out = CompactTagCodec.writer(SCHEMA_VERSION);
+        out.writeByte((v.getMultiplierValues() != null ? HAS_MULT : 0) | (v.getModifyValues() != null ? HAS_MOD : 0) | (c != null ? HAS_CUSTOM : 0));
+        if (v.getMultiplierValues() != null) out.writeDoubles(v.getMultiplierValues());
+        if (v.getModifyValues() != null) out.writeDoubles(v.getModifyValues());
+        if (c != null) {
+            out.writeDouble(c.horizontalMultiplier()).writeDouble(c.verticalMultiplier())
+                    .writeDouble(c.spreadMultiplier()).writeDouble(c.gravity())
+                    .writeDouble(c.horizontalAirResistance()).writeDouble(c.verticalAirResistance());
+        }
+        return out.toByteArray();
+    }
+
+    private static VelocityTagValue readCompact(CompactTagCodec.Reader in) {
+        int flags = in.readByte();
+        List<Double> mult = (flags & HAS_MULT) != 0 ? DoubleValues.of(in.readDoubles()) : null;
+        List<Double> mod = (flags & HAS_MOD) != 0 ? DoubleValues.of(in.readDoubles()) : null;
+        ProjectileVelocityConfig custom = (flags & HAS_CUSTOM) != 0
+                ? new ProjectileVelocityConfig(in.readDouble(), in.readDouble(), in.readDouble(),
+                        in.readDouble(), in.readDouble(), in.readDouble())
+                : null;
+        if (mult == null && mod == null && custom == null) return null;
+        return new VelocityTagValue(mult, mod, custom);
+    }
+
+    // ===========================
+    // LEGACY FORMAT
+    // ===========================
+
+    private static VelocityTagValue readLegacy(TagReadable r) {
+        List<Double> mult = DoubleValues.of(DoubleArrayTagUtil.read(r, MULT));
+        List<Double> mod = DoubleValues.of(DoubleArrayTagUtil.read(r, MOD));
         ProjectileVelocityConfig custom = null;
         if (Boolean.TRUE.equals(r.getTag(Tag.Boolean("hc")))) {
             custom = new ProjectileVelocityConfig(
@@ -30,10 +88,9 @@ public class VelocityTagSerializer implements TagSerializer<VelocityTagValue> {
         return new VelocityTagValue(mult, mod, custom);
     }
 
-    @Override
-    public void write(@NotNull TagWritable w, @NotNull VelocityTagValue v) {
-        if (v.multiplier() != null) w.setTag(Tag.Double("m").list(), v.multiplier());
-        if (v.modify() != null) w.setTag(Tag.Double("d").list(), v.modify());
+    private static void writeLegacy(TagWritable w, VelocityTagValue v) {
+        DoubleArrayTagUtil.write(w, MULT, v.getMultiplierValues());
+        DoubleArrayTagUtil.write(w, MOD, v.getModifyValues());
         if (v.custom() != null) {
             w.setTag(Tag.Boolean("hc"), true);
             ProjectileVelocityConfig c = v.custom();
@@ -2,6 +2,7 @@ package com.minestom.mechanics.systems.projectile.tags;
 
 import com.minestom.mechanics.config.projectiles.advanced.ProjectileVelocityConfig;
 import com.minestom.mechanics.systems.ConfigTagWrapper;
+import com.minestom.mechanics.systems.DoubleValues;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
@@ -30,6 +31,12 @@ public record VelocityTagValue(
         @Nullable ProjectileVelocityConfig custom
 ) implements ConfigTagWrapper<ProjectileVelocityConfig> {
 
+    /** Vectors are stored as {@link DoubleValues} so resolution reads them without unboxing. */
+    public VelocityTagValue {
+        multiplier = DoubleValues.of(multiplier);
+        modify = DoubleValues.of(modify);
+    }
+
     // ===========================
     // STATIC FACTORY METHODS
     // ===========================
@@ -38,7 +45,7 @@ public record VelocityTagValue(
      * Multiplier for all 6 components: [hMult, vMult, spread, gravity, hAirRes, vAirRes]
      */
     public static VelocityTagValue velMult(double h, double v, double spread, double gravity, double hAirRes, double vAirRes) {
-        return new VelocityTagValue(List.of(h, v, spread, gravity, hAirRes, vAirRes), null, null);
+        return new VelocityTagValue(DoubleValues.of(h, v, spread, gravity, hAirRes, vAirRes), null, null);
     }
 
     /** Multiplier for horizontal and vertical (others = 1.0) */
@@ -55,7 +62,7 @@ public record VelocityTagValue(
      * Modify all 6 components: [hMult, vMult, spread, gravity, hAirRes, vAirRes]
      */
     public static VelocityTagValue velAdd(double h, double v, double spread, double gravity, double hAirRes, double vAirRes) {
-        return new VelocityTagValue(null, List.of(h, v, spread, gravity, hAirRes, vAirRes), null);
+        return new VelocityTagValue(null, DoubleValues.of(h, v, spread, gravity, hAirRes, vAirRes), null);
     }
 
     /** Full config override */
@@ -69,7 +76,7 @@ public record VelocityTagValue(
 
     /** Chain: add multiplier (returns new record) */
     public VelocityTagValue thenMult(double h, double v, double spread, double gravity, double hAirRes, double vAirRes) {
-        return new VelocityTagValue(List.of(h, v, spread, gravity, hAirRes, vAirRes), this.modify, this.custom);
+        return new VelocityTagValue(DoubleValues.of(h, v, spread, gravity, hAirRes, vAirRes), this.modify, this.custom);
     }
 
     public VelocityTagValue thenMult(double horizontal, double vertical) {
@@ -78,7 +85,7 @@ public record VelocityTagValue(
 
     /** Chain: add modify (returns new record) */
     public VelocityTagValue thenAdd(double h, double v, double spread, double gravity, double hAirRes, double vAirRes) {
-        return new VelocityTagValue(this.multiplier, List.of(h, v, spread, gravity, hAirRes, vAirRes), this.custom);
+        return new VelocityTagValue(this.multiplier, DoubleValues.of(h, v, spread, gravity, hAirRes, vAirRes), this.custom);
     }
 
     /** Chain: set full config (returns new record) */
@@ -123,4 +130,4 @@ public record VelocityTagValue(
     public ProjectileVelocityConfig getCustom() {
         return custom;
     }
-}
\ No newline at end of file
+}
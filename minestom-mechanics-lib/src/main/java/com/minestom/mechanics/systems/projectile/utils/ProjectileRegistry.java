@@ -1,5 +1,6 @@
 package com.minestom.mechanics.systems.projectile.utils;
 
+import com.minestom.mechanics.ConfigurableSystem;
 import com.minestom.mechanics.config.knockback.KnockbackConfig;
 import com.minestom.mechanics.config.projectiles.ProjectileConfig;
 import com.minestom.mechanics.config.projectiles.advanced.ProjectileKnockbackConfig;
@@ -106,6 +107,7 @@ public class ProjectileRegistry {
         ProjectileData data = new ProjectileData(knockback, velocity);
         if (!data.isEmpty()) {
             entityData.put(entityType, data);
+            ConfigurableSystem.markOverridesChanged();
         }
     }
 
@@ -119,6 +121,7 @@ public class ProjectileRegistry {
         ProjectileData data = new ProjectileData(knockback, velocity);
         if (!data.isEmpty()) {
             entityData.put(entityType, data);
+            ConfigurableSystem.markOverridesChanged();
         }
     }
 
@@ -0,0 +1,151 @@
+package com.minestom.mechanics.systems.validation;
+
+import com.minestom.mechanics.MechanicsTickLoop;
+import com.minestom.mechanics.systems.misc.LivingEntityIndex;
+import com.minestom.mechanics.systems.player.MechanicsEntityState;
+import com.minestom.mechanics.systems.player.PlayerStateManager;
+import com.minestom.mechanics.util.LogUtil;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.entity.Player;
+
+import java.util.function.Consumer;
+
+/**
+ * Server-side position rewind for lag-compensated hit validation.
+ * <p>
+ * While enabled, every indexed living entity's position and bounding box is recorded once per tick
+ * ({@link MechanicsTickLoop.Phase#ESTIMATE}) into a fixed-size {@link PositionHistory} on its
+ * {@link MechanicsEntityState}. Reach and ray validation then test the victim as the attacker saw
+ * it: at {@code now - attacker latency}, interpolated between ticks and capped at the configured
+ * maximum rewind. Disabled by default ({@code HitDetectionConfig.maxRewindTicks() == 0}).
+ * </p>
+ *
+ * Usage:
+ * <pre>
+ * PositionHistory.Sample victimThen = new PositionHistory.Sample(); // reuse per caller
+ * LagCompensation.sample(victim, attacker, victimThen);
+ * </pre>
+ */
+public final class LagCompensation {
+
+    private static final LogUtil.SystemLogger log = LogUtil.system("LagCompensation");
+
+    /** History length per entity (2 seconds); the configured maximum rewind cannot exceed this. */
+    public static final int HISTORY_TICKS = 40;
+
+    private static MechanicsTickLoop.Registration registration;
+    private static volatile int maxRewindTicks;
+
+    // Tick being recorded; read by RECORD so the per-entity callback captures nothing
+    private static long recordTick;
+    private static double recordDisplacement;
+    private static final Consumer<LivingEntity> RECORD = entity -> {
+        PositionHistory history = recordInto(entity, recordTick);
+        recordDisplacement = Math.max(recordDisplacement, history.maxDisplacement(maxRewindTicks + 1));
+    };
+
+    // Largest per-entity displacement over the rewind window, published after each recording pass
+    private static volatile double maxDisplacement;
+
+    private LagCompensation() {}
+
+    /**
+     * Start recording history. Calling again updates the maximum rewind.
+     *
+     * @param maxRewind maximum rewind in ticks (1 to {@link #HISTORY_TICKS})
+     */
+    public static synchronized void initialize(int maxRewind) {
+        if (maxRewind < 1 || maxRewind > HISTORY_TICKS) {
+            throw new IllegalArgumentException("Max rewind must be 1-" + HISTORY_TICKS + " ticks: " + maxRewind);
+        }
+        maxRewindTicks = maxRewind;
+        if (registration != null) return;
+        LivingEntityIndex index = LivingEntityIndex.getInstance();
+        registration = MechanicsTickLoop.getInstance().registerTick(MechanicsTickLoop.Phase.ESTIMATE,
+                "LagCompensation", tick -> {
+                    recordTick = tick;
+                    recordDisplacement = 0;
+                    index.forEach(RECORD);
+                    maxDisplacement = recordDisplacement;
+                });
+        log.debug("Lag compensation enabled (max rewind {} ticks)", maxRewind);
+    }
+
+    public static synchronized void shutdown() {
+        if (registration != null) { registration.unregister(); registration = null; }
+        maxDisplacement = 0;
+    }
+
+    public static boolean isEnabled() {
+        return registration != null;
+    }
+
+    /**
+     * Record the entity's current position and bounding box at {@code tick} into its history.
+     * Other systems that need a rewindable history (knockback sync) record through here so each
+     * entity keeps a single ring; recording the same tick twice just overwrites it.
+     */
+    public static void record(LivingEntity entity, long tick) {
+        recordInto(entity, tick);
+    }
+
+    private static PositionHistory recordInto(LivingEntity entity, long tick) {
+        MechanicsEntityState.Rewind rewind = PlayerStateManager.get(entity).rewind;
+        PositionHistory history = rewind.history;
+        if (history == null) rewind.history = history = new PositionHistory(HISTORY_TICKS);
+        Pos pos = entity.getPosition();
+        BoundingBox box = entity.getBoundingBox();
+        history.record(tick, pos.x(), pos.y(), pos.z(), box.width(), box.height());
+        return history;
+    }
+
+    // ===========================
+    // QUERIES
+    // ===========================
+
+    /**
+     * How far (in ticks, fractional) to rewind for an attacker: their round-trip latency, capped at the maximum rewind.
+     */
+    public static double rewindTicks(Player attacker) {
+        if (!isEnabled()) return 0;
+        double ticks = attacker.getLatency() / (double) MinecraftServer.TICK_MS;
+        return Math.max(0, Math.min(ticks, maxRewindTicks));
+    }
+
+    /**
+     * Extra search distance so a query around entities' current boxes still finds the boxes
+     * {@link #sample} returns for this attacker: the furthest any recorded box moved or grew within
+     * the rewind window (0 when nothing is rewound).
+     */
+    public static double rewindDisplacement(Player attacker) {
+        return rewindTicks(attacker) > 0 ? maxDisplacement : 0;
+    }
+
+    /**
+     * Fill {@code out} with the victim's position and bounding box as the attacker saw it.
+     * Falls back to the victim's current state when disabled or no history exists yet.
+     *
+     * @return true if the result was rewound from history
+     */
+    public static boolean sample(LivingEntity victim, Player attacker, PositionHistory.Sample out) {
+        if (isEnabled()) {
+            MechanicsEntityState state = PlayerStateManager.peek(victim);
+            PositionHistory history = state != null ? state.rewind.history : null;
+            if (history != null) {
+                double tick = MechanicsTickLoop.getInstance().getTick() - rewindTicks(attacker);
+                if (history.sample(tick, out)) return true;
+            }
+        }
+        Pos pos = victim.getPosition();
+        BoundingBox box = victim.getBoundingBox();
+        out.x = pos.x();
+        out.y = pos.y();
+        out.z = pos.z();
+        out.width = box.width();
+        out.height = box.height();
+        return false;
+    }
+}
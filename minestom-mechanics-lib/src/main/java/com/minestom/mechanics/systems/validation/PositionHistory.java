@@ -0,0 +1,145 @@
+package com.minestom.mechanics.systems.validation;
+
+/**
+ * Fixed-size, tick-indexed ring buffer of an entity's position and bounding box.
+ * <p>
+ * Parallel primitive arrays are allocated once; {@link #record} overwrites the oldest entry when
+ * full, so recording allocates nothing. Ticks are recorded in increasing order, which lets
+ * {@link #sample} binary-search the ring and interpolate between the two surrounding entries.
+ * </p>
+ *
+ * <p>Tick thread only, like the rest of {@code MechanicsEntityState}.</p>
+ */
+public final class PositionHistory {
+
+    private final long[] ticks;
+    private final double[] x, y, z;
+    private final double[] width, height;
+    private int head; // oldest entry
+    private int size;
+
+    public PositionHistory(int capacity) {
+        if (capacity < 2) throw new IllegalArgumentException("Capacity must be at least 2: " + capacity);
+        ticks = new long[capacity];
+        x = new double[capacity];
+        y = new double[capacity];
+        z = new double[capacity];
+        width = new double[capacity];
+        height = new double[capacity];
+    }
+
+    /**
+     * Record the entity's state at {@code tick}. Recording the same tick twice overwrites it;
+     * ticks older than the newest entry are ignored.
+     */
+    public void record(long tick, double px, double py, double pz, double w, double h) {
+        int capacity = ticks.length;
+        int slot;
+        if (size > 0) {
+            int newest = (head + size - 1) % capacity;
+            if (tick < ticks[newest]) return;
+            if (tick == ticks[newest]) {
+                slot = newest;
+            } else if (size == capacity) {
+                slot = head;
+                head = (head + 1) % capacity;
+            } else {
+                slot = (head + size++) % capacity;
+            }
+        } else {
+            slot = head;
+            size = 1;
+        }
+        ticks[slot] = tick;
+        x[slot] = px;
+        y[slot] = py;
+        z[slot] = pz;
+        width[slot] = w;
+        height[slot] = h;
+    }
+
+    /**
+     * Interpolated state at a (fractional) tick, clamped to the recorded range.
+     *
+     * @return false if nothing has been recorded
+     */
+    public boolean sample(double tick, Sample out) {
+        if (size == 0) return false;
+        int capacity = ticks.length;
+
+        // First logical index whose tick is > the requested tick
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ticks[(head + mid) % capacity] <= tick) lo = mid + 1;
+            else hi = mid;
+        }
+
+        if (lo == 0) return copy(head, out);
+        if (lo == size) return copy((head + size - 1) % capacity, out);
+
+        int a = (head + lo - 1) % capacity;
+        int b = (head + lo) % capacity;
+        double alpha = (tick - ticks[a]) / (double) (ticks[b] - ticks[a]);
+        out.x = x[a] + (x[b] - x[a]) * alpha;
+        out.y = y[a] + (y[b] - y[a]) * alpha;
+        out.z = z[a] + (z[b] - z[a]) * alpha;
+        out.width = width[a] + (width[b] - width[a]) * alpha;
+        out.height = height[a] + (height[b] - height[a]) * alpha;
+        return true;
+    }
+
+    private boolean copy(int slot, Sample out) {
+        out.x = x[slot];
+        out.y = y[slot];
+        out.z = z[slot];
+        out.width = width[slot];
+        out.height = height[slot];
+        return true;
+    }
+
+    /**
+     * How far any box recorded in the last {@code window} ticks reaches beyond the newest one:
+     * the distance between their positions plus how much wider (per side) and taller it was.
+     * Bounds the extra search distance needed to find a rewound box around the current one.
+     */
+    public double maxDisplacement(int window) {
+        if (size == 0) return 0;
+        int capacity = ticks.length;
+        int newest = (head + size - 1) % capacity;
+        long since = ticks[newest] - window;
+        double max = 0;
+        for (int i = size - 2; i >= 0; i--) {
+            int slot = (head + i) % capacity;
+            if (ticks[slot] < since) break;
+            double dx = x[slot] - x[newest], dy = y[slot] - y[newest], dz = z[slot] - z[newest];
+            double offset = Math.sqrt(dx * dx + dy * dy + dz * dz)
+                    + Math.max(0, (width[slot] - width[newest]) / 2) + Math.max(0, height[slot] - height[newest]);
+            max = Math.max(max, offset);
+        }
+        return max;
+    }
+
+    /** Newest recorded tick, or {@code Long.MIN_VALUE} if empty. */
+    public long newestTick() {
+        return size == 0 ? Long.MIN_VALUE : ticks[(head + size - 1) % ticks.length];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return ticks.length;
+    }
+
+    public void clear() {
+        head = size = 0;
+    }
+
+    /** Reusable result of {@link #sample}: feet position and bounding box size. */
+    public static final class Sample {
+        public double x, y, z;
+        public double width, height;
+    }
+}
@@ -1,22 +1,32 @@
 package com.minestom.mechanics.systems.validation;
 
 import com.minestom.mechanics.config.ServerConfig;
-import net.minestom.server.coordinate.Point;
+import com.minestom.mechanics.util.BlockClassifier;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.collision.ShapeImpl;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.GameMode;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import org.jetbrains.annotations.Nullable;
 
-/**
- * Raycasting utilities for block and entity intersection (block raycast, voxel traversal, ray-AABB).
- */
+import java.util.Arrays;
+import java.util.List;
 
-// TODO: Switch to real raycast (no step, use block box thing (check cactus damage type))
+import static com.minestom.mechanics.config.constants.CombatConstants.PLAYER_HEIGHT;
+import static com.minestom.mechanics.config.constants.CombatConstants.PLAYER_WIDTH;
 
+/**
+ * Raycasting utilities for block and entity intersection (shape-aware voxel traversal, ray-AABB).
+ */
 public class RaycastUtils {
 
+    private static final double RAY_EPSILON = 1e-9;
+    private static final int MAX_VOXEL_STEPS = 1000;
+
     private final com.minestom.mechanics.config.world.WorldInteractionConfig worldConfig;
 
     public RaycastUtils(com.minestom.mechanics.config.world.WorldInteractionConfig worldConfig) {
@@ -37,12 +47,8 @@ public class RaycastUtils {
     // BLOCK RAYCASTING
     // ===========================
 
-    private static boolean isSolidBlock(Block block) {
-        return !block.isAir() && block.isSolid();
-    }
-
     /**
-     * Check if player is looking at a solid block within reach.
+     * Check if player is looking at a block within reach.
      * Uses gamemode-appropriate reach distances.
      *
      * @param player Player to check
@@ -54,85 +60,111 @@ public class RaycastUtils {
         Instance instance = player.getInstance();
         if (instance == null) return false;
 
-        // Determine reach based on gamemode
-        double maxReach = player.getGameMode() == GameMode.CREATIVE
-                ? worldConfig.creativeBlockReach()
-                : worldConfig.survivalBlockReach();
-
-        return isLookingAtBlock(instance, origin, direction, maxReach);
+        return isLookingAtBlock(instance, origin, direction, getBlockReach(player));
     }
 
-
     /**
-     * Check if ray intersects a solid block within specified distance.
+     * Check if ray hits a block's collision shape within specified distance.
      *
      * @param instance World instance
      * @param origin Ray origin
-     * @param direction Ray direction (normalized)
+     * @param direction Ray direction (will be normalized)
      * @param maxDistance Maximum distance to check
-     * @return true if solid block found, false otherwise
+     * @return true if a block is hit, false otherwise
      */
     public boolean isLookingAtBlock(Instance instance, Pos origin, Vec direction, double maxDistance) {
-        Vec normalizedDir = direction.normalize();
-        double stepSize = worldConfig.blockRaycastStep();
-        int steps = (int) (maxDistance / stepSize);
-        Vec stepVec = normalizedDir.mul(stepSize);
-
-        Point current = origin;
+        double len = Math.sqrt(direction.x() * direction.x() + direction.y() * direction.y() + direction.z() * direction.z());
+        if (len < RAY_EPSILON) return false;
+        return !Double.isNaN(raycastBlocks(instance, origin.x(), origin.y(), origin.z(),
+                direction.x() / len, direction.y() / len, direction.z() / len, maxDistance, null));
+    }
 
-        for (int i = 0; i < steps; i++) {
-            if (isSolidBlock(instance.getBlock(current))) {
-                return true;
-            }
+    /**
+     * Block reach for the player's gamemode.
+     */
+    public double getBlockReach(Player player) {
+        return worldConfig.getBlockReachForMode(player.getGameMode() == GameMode.CREATIVE);
+    }
 
-            current = current.add(stepVec);
+    /**
+     * Raycast against block collision shapes, filling a reusable result holder.
+     *
+     * @param instance World instance
+     * @param origin Ray origin (e.g. eye position)
+     * @param direction Ray direction (will be normalized)
+     * @param maxDistance Maximum distance to check
+     * @param out Result holder, reset before tracing
+     * @return true if a block was hit within maxDistance
+     */
+    public static boolean raycastBlocks(Instance instance, Pos origin, Vec direction, double maxDistance, BlockHit out) {
+        double len = Math.sqrt(direction.x() * direction.x() + direction.y() * direction.y() + direction.z() * direction.z());
+        if (len < RAY_EPSILON) {
+            out.reset();
+            return false;
         }
-
-        return false;
+        return !Double.isNaN(raycastBlocks(instance, origin.x(), origin.y(), origin.z(),
+                direction.x() / len, direction.y() / len, direction.z() / len, maxDistance, out));
     }
 
     /**
-     * Find the first solid block along a ray using voxel (block-by-block) traversal.
-     * Visits every block the ray passes through so corners and edges are not missed.
-     * Used for swing obstruction detection.
+     * Exact voxel (DDA) traversal against each visited block's collision shape.
+     * <p>
+     * Visits every block the ray passes through, so corners and edges are not missed, and tests
+     * the ray against the block's actual collision boxes, so slabs, stairs, fences and other
+     * partial blocks are hit where their shape is rather than as full cubes. Blocks with an empty
+     * collision shape (air, plants, ...) are passed through. Allocates nothing.
+     * </p>
+     * <p>
+     * The direction ({@code dx, dy, dz}) must be normalized. Shapes taller than their block (fences, walls) are tested when the ray visits the block's
+     * own voxel; a ray that only clips the part above it is not reported.
+     * </p>
      *
-     * @param instance   World instance
-     * @param origin     Ray origin (e.g. eye position)
-     * @param direction  Ray direction (will be normalized)
-     * @param maxDistance Maximum distance to check
-     * @return Position of first solid block, or null if none within maxDistance
+     * @param out Optional result holder (reset before tracing), may be null
+     * @return distance to the hit (0 if the origin is inside a collision box), or {@link Double#NaN} if none within maxDistance
      */
-    public Pos findFirstSolidBlockAlongRayVoxel(Instance instance, Pos origin, Vec direction, double maxDistance) {
-        Vec d = direction.normalize();
-        double ox = origin.x(), oy = origin.y(), oz = origin.z();
-        double dx = d.x(), dy = d.y(), dz = d.z();
+    public static double raycastBlocks(Instance instance, double ox, double oy, double oz,
+                                       double dx, double dy, double dz,
+                                       double maxDistance, @Nullable BlockHit out) {
+        if (out != null) out.reset();
 
         int bx = (int) Math.floor(ox);
         int by = (int) Math.floor(oy);
         int bz = (int) Math.floor(oz);
 
-        int stepX = dx > 1e-9 ? 1 : (dx < -1e-9 ? -1 : 0);
-        int stepY = dy > 1e-9 ? 1 : (dy < -1e-9 ? -1 : 0);
-        int stepZ = dz > 1e-9 ? 1 : (dz < -1e-9 ? -1 : 0);
+        int stepX = dx > RAY_EPSILON ? 1 : (dx < -RAY_EPSILON ? -1 : 0);
+        int stepY = dy > RAY_EPSILON ? 1 : (dy < -RAY_EPSILON ? -1 : 0);
+        int stepZ = dz > RAY_EPSILON ? 1 : (dz < -RAY_EPSILON ? -1 : 0);
 
-        double tDeltaX = (Math.abs(dx) >= 1e-9) ? (1.0 / Math.abs(dx)) : Double.MAX_VALUE;
-        double tDeltaY = (Math.abs(dy) >= 1e-9) ? (1.0 / Math.abs(dy)) : Double.MAX_VALUE;
-        double tDeltaZ = (Math.abs(dz) >= 1e-9) ? (1.0 / Math.abs(dz)) : Double.MAX_VALUE;
+        double tDeltaX = stepX != 0 ? (1.0 / Math.abs(dx)) : Double.MAX_VALUE;
+        double tDeltaY = stepY != 0 ? (1.0 / Math.abs(dy)) : Double.MAX_VALUE;
+        double tDeltaZ = stepZ != 0 ? (1.0 / Math.abs(dz)) : Double.MAX_VALUE;
 
         double tMaxX = stepX > 0 ? (bx + 1 - ox) / dx : (stepX < 0 ? (bx - ox) / dx : Double.MAX_VALUE);
         double tMaxY = stepY > 0 ? (by + 1 - oy) / dy : (stepY < 0 ? (by - oy) / dy : Double.MAX_VALUE);
         double tMaxZ = stepZ > 0 ? (bz + 1 - oz) / dz : (stepZ < 0 ? (bz - oz) / dz : Double.MAX_VALUE);
 
-        int maxSteps = 1000;
-        for (int i = 0; i < maxSteps; i++) {
-            Point cellPoint = new Pos(bx + 0.5, by + 0.5, bz + 0.5, 0, 0);
-            if (isSolidBlock(instance.getBlock(cellPoint))) {
-                return new Pos(bx, by, bz, 0, 0);
+        double invX = stepX != 0 ? 1.0 / dx : Double.POSITIVE_INFINITY;
+        double invY = stepY != 0 ? 1.0 / dy : Double.POSITIVE_INFINITY;
+        double invZ = stepZ != 0 ? 1.0 / dz : Double.POSITIVE_INFINITY;
+
+        for (int i = 0; i < MAX_VOXEL_STEPS; i++) {
+            Block block = instance.getBlock(bx, by, bz);
+            if (!block.isAir()) {
+                double hit = intersectShape(block, bx, by, bz, ox, oy, oz, invX, invY, invZ, maxDistance, out);
+                if (!Double.isNaN(hit)) {
+                    if (out != null) {
+                        out.block = block;
+                        out.blockX = bx;
+                        out.blockY = by;
+                        out.blockZ = bz;
+                    }
+                    return hit;
+                }
             }
 
             double tNext = Math.min(Math.min(tMaxX, tMaxY), tMaxZ);
             if (tNext > maxDistance) {
-                return null;
+                return Double.NaN;
             }
 
             if (tNext == tMaxX) {
@@ -146,31 +178,163 @@ public class RaycastUtils {
                 tMaxZ += tDeltaZ;
             }
         }
-        return null;
+        return Double.NaN;
+    }
+
+    /** Nearest ray hit against a block's collision boxes, or NaN. Writes distance and face to {@code out}. */
+    private static double intersectShape(Block block, int bx, int by, int bz,
+                                         double ox, double oy, double oz,
+                                         double invX, double invY, double invZ,
+                                         double maxDistance, @Nullable BlockHit out) {
+        int classes = BlockClassifier.classes(block);
+        double best = Double.NaN;
+        double minX = 0, minY = 0, minZ = 0, maxX = 0, maxY = 0, maxZ = 0;
+
+        if ((classes & BlockClassifier.FULL_CUBE) != 0) {
+            minX = bx; minY = by; minZ = bz;
+            maxX = bx + 1; maxY = by + 1; maxZ = bz + 1;
+            best = rayBoxDistance(ox, oy, oz, invX, invY, invZ, minX, minY, minZ, maxX, maxY, maxZ, maxDistance);
+        } else if (BlockClassifier.collisionShape(block) instanceof ShapeImpl shapeImpl) {
+            List<BoundingBox> boxes = shapeImpl.boundingBoxes();
+            for (int i = 0; i < boxes.size(); i++) {
+                BoundingBox box = boxes.get(i);
+                double x0 = bx + box.minX(), y0 = by + box.minY(), z0 = bz + box.minZ();
+                double x1 = bx + box.maxX(), y1 = by + box.maxY(), z1 = bz + box.maxZ();
+                double t = rayBoxDistance(ox, oy, oz, invX, invY, invZ, x0, y0, z0, x1, y1, z1, maxDistance);
+                if (!Double.isNaN(t) && (Double.isNaN(best) || t < best)) {
+                    best = t;
+                    minX = x0; minY = y0; minZ = z0;
+                    maxX = x1; maxY = y1; maxZ = z1;
+                }
+            }
+        } else if ((classes & BlockClassifier.SOLID) != 0) {
+            // Unknown shape implementation: treat solid blocks as full cubes
+            minX = bx; minY = by; minZ = bz;
+            maxX = bx + 1; maxY = by + 1; maxZ = bz + 1;
+            best = rayBoxDistance(ox, oy, oz, invX, invY, invZ, minX, minY, minZ, maxX, maxY, maxZ, maxDistance);
+        }
+
+        if (out != null && !Double.isNaN(best)) {
+            out.hit = true;
+            out.distance = best;
+            out.face = best == 0.0 ? null : entryFace(ox, oy, oz, invX, invY, invZ, minX, minY, minZ, maxX, maxY, maxZ);
+        }
+        return best;
+    }
+
+    // Zero direction component: inv is infinite; the origin is either inside the slab (never limits) or outside (miss)
+    private static double slabEnter(double o, double inv, double lo, double hi) {
+        if (Double.isInfinite(inv)) return (o >= lo && o <= hi) ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        return Math.min((lo - o) * inv, (hi - o) * inv);
+    }
+
+    private static double slabExit(double o, double inv, double lo, double hi) {
+        if (Double.isInfinite(inv)) return (o >= lo && o <= hi) ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        return Math.max((lo - o) * inv, (hi - o) * inv);
+    }
+
+    /** Face of the box the ray enters through (the slab with the latest entry). */
+    private static BlockFace entryFace(double ox, double oy, double oz,
+                                       double invX, double invY, double invZ,
+                                       double minX, double minY, double minZ,
+                                       double maxX, double maxY, double maxZ) {
+        double ex = slabEnter(ox, invX, minX, maxX);
+        double ey = slabEnter(oy, invY, minY, maxY);
+        double ez = slabEnter(oz, invZ, minZ, maxZ);
+        if (ex >= ey && ex >= ez) return invX > 0 ? BlockFace.WEST : BlockFace.EAST;
+        if (ey >= ez) return invY > 0 ? BlockFace.BOTTOM : BlockFace.TOP;
+        return invZ > 0 ? BlockFace.NORTH : BlockFace.SOUTH;
+    }
+
+    /**
+     * Reusable block raycast result. Keep one per caller (e.g. per detector) and pass it to
+     * {@link #raycastBlocks} to trace without allocating.
+     */
+    public static final class BlockHit {
+        /** Whether the last trace hit a block. */
+        public boolean hit;
+        /** Distance along the ray to the hit; NaN on a miss. */
+        public double distance = Double.NaN;
+        /** Face the ray entered through; null if the origin was inside the shape or on a miss. */
+        public @Nullable BlockFace face;
+        /** The block hit, or null on a miss. */
+        public @Nullable Block block;
+        public int blockX, blockY, blockZ;
+
+        public void reset() {
+            hit = false;
+            distance = Double.NaN;
+            face = null;
+            block = null;
+            blockX = blockY = blockZ = 0;
+        }
     }
 
     // ===========================
     // AABB RAYCASTING
     // ===========================
 
-    private static final double RAY_EPSILON = 1e-9;
+    /**
+     * Primitive ray-AABB kernel (slab test). Allocates nothing.
+     * <p>
+     * Takes the inverse of a normalized direction so callers testing many boxes against one ray
+     * divide once ({@code 1.0 / 0.0} yields an infinity, which is handled as an axis-parallel ray).
+     * </p>
+     *
+     * @return entry distance along the ray (0 if the origin is inside the box), or {@link Double#NaN}
+     *         on a miss or if the entry is beyond maxDistance
+     */
+    public static double rayBoxDistance(double ox, double oy, double oz,
+                                        double invDx, double invDy, double invDz,
+                                        double minX, double minY, double minZ,
+                                        double maxX, double maxY, double maxZ,
+                                        double maxDistance) {
+        double tEnter = Math.max(Math.max(slabEnter(ox, invDx, minX, maxX), slabEnter(oy, invDy, minY, maxY)),
+                slabEnter(oz, invDz, minZ, maxZ));
+        double tExit = Math.min(Math.min(slabExit(ox, invDx, minX, maxX), slabExit(oy, invDy, minY, maxY)),
+                slabExit(oz, invDz, minZ, maxZ));
+        if (tEnter > tExit || tExit < 0 || tEnter > maxDistance) return Double.NaN;
+        return Math.max(0.0, tEnter);
+    }
 
-    /** One axis of the slab test: updates tMinTMax[0] and tMinTMax[1]. Returns false if ray misses the slab. */
-    private static boolean intersectSlab(double originComp, double dirComp, double boxLo, double boxHi, double[] tMinTMax) {
-        if (Math.abs(dirComp) > RAY_EPSILON) {
-            double t1 = (boxLo - originComp) / dirComp;
-            double t2 = (boxHi - originComp) / dirComp;
-            double tEnter = Math.min(t1, t2);
-            double tExit = Math.max(t1, t2);
-            tMinTMax[0] = Math.max(tMinTMax[0], tEnter);
-            tMinTMax[1] = Math.min(tMinTMax[1], tExit);
-            return tMinTMax[0] <= tMinTMax[1];
-        }
-        return originComp >= boxLo && originComp <= boxHi;
+    /**
+     * Primitive ray test against an entity hitbox (base 0.6x1.8 player box centered on the feet
+     * position, widened by {@code expansionXZ} on each side and raised by {@code expansionY} at the top).
+     *
+     * @return entry distance, or {@link Double#NaN} on a miss
+     * @see #rayBoxDistance
+     */
+    public static double rayHitboxDistance(double ox, double oy, double oz,
+                                           double invDx, double invDy, double invDz,
+                                           double entityX, double entityY, double entityZ,
+                                           double expansionXZ, double expansionY,
+                                           double maxDistance) {
+        return rayHitboxDistance(ox, oy, oz, invDx, invDy, invDz, entityX, entityY, entityZ,
+                PLAYER_WIDTH, PLAYER_HEIGHT, expansionXZ, expansionY, maxDistance);
+    }
+
+    /**
+     * Primitive ray test against a {@code width x height} entity hitbox (e.g. a rewound
+     * {@link PositionHistory.Sample}), centered on the feet position and expanded the same way.
+     *
+     * @return entry distance, or {@link Double#NaN} on a miss
+     */
+    public static double rayHitboxDistance(double ox, double oy, double oz,
+                                           double invDx, double invDy, double invDz,
+                                           double entityX, double entityY, double entityZ,
+                                           double width, double height,
+                                           double expansionXZ, double expansionY,
+                                           double maxDistance) {
+        double halfWidth = (width / 2.0) + expansionXZ;
+        return rayBoxDistance(ox, oy, oz, invDx, invDy, invDz,
+                entityX - halfWidth, entityY, entityZ - halfWidth,
+                entityX + halfWidth, entityY + height + expansionY, entityZ + halfWidth,
+                maxDistance);
     }
 
     /**
      * Performs ray-AABB intersection test with distance calculation.
+     * Object wrapper over {@link #rayBoxDistance}; prefer the kernel on hot paths.
      *
      * @param origin Ray origin (typically eye position)
      * @param direction Ray direction (will be normalized)
@@ -182,26 +346,18 @@ public class RaycastUtils {
     public static RayHitResult raycastAABB(Pos origin, Vec direction,
                                            Vec boxMin, Vec boxMax,
                                            double maxDistance) {
-        Vec dir = direction.normalize();
-        double[] tMinTMax = new double[]{0.0, maxDistance};
-
-        if (!intersectSlab(origin.x(), dir.x(), boxMin.x(), boxMax.x(), tMinTMax)) return null;
-        if (!intersectSlab(origin.y(), dir.y(), boxMin.y(), boxMax.y(), tMinTMax)) return null;
-        if (!intersectSlab(origin.z(), dir.z(), boxMin.z(), boxMax.z(), tMinTMax)) return null;
+        double len = Math.sqrt(direction.x() * direction.x() + direction.y() * direction.y() + direction.z() * direction.z());
+        if (len < RAY_EPSILON) return null;
+        double dx = direction.x() / len, dy = direction.y() / len, dz = direction.z() / len;
 
-        double tMin = tMinTMax[0];
-        double tMax = tMinTMax[1];
-        if (tMin > tMax || tMax < 0) return null;
-
-        double hitDistance = (tMin < 0) ? 0.001 : tMin;
-        if (hitDistance > maxDistance) return null;
-
-        Vec hitPoint = origin.asVec().add(dir.mul(hitDistance));
-        return new RayHitResult(hitPoint, hitDistance);
+        double distance = rayBoxDistance(origin.x(), origin.y(), origin.z(), 1.0 / dx, 1.0 / dy, 1.0 / dz,
+                boxMin.x(), boxMin.y(), boxMin.z(), boxMax.x(), boxMax.y(), boxMax.z(), maxDistance);
+        return toResult(origin, dx, dy, dz, distance);
     }
+
     /**
      * Performs ray-AABB intersection test with hitbox expansion.
-     * This is a convenience method for hit detection with expansion values.
+     * Object wrapper over {@link #rayHitboxDistance}; prefer the kernel on hot paths.
      *
      * @param origin Ray origin (typically eye position)
      * @param direction Ray direction (will be normalized)
@@ -213,27 +369,119 @@ public class RaycastUtils {
     public static RayHitResult raycastToHitbox(Pos origin, Vec direction,
                                                Pos entityPos, Vec expansion,
                                                double maxDistance) {
-        // Base player hitbox dimensions (0.6x1.8x0.6)
-        final double PLAYER_WIDTH = 0.6;
-        final double PLAYER_HEIGHT = 1.8;
-        
-        // Calculate half-width with expansion
-        double halfWidth = (PLAYER_WIDTH / 2.0) + expansion.x();
-        
-        // Calculate world-space AABB bounds with expansion added to base hitbox
-        Vec boxMin = new Vec(
-                entityPos.x() - halfWidth,
-                entityPos.y(),
-                entityPos.z() - halfWidth
-        );
-
-        Vec boxMax = new Vec(
-                entityPos.x() + halfWidth,
-                entityPos.y() + PLAYER_HEIGHT + expansion.y(),
-                entityPos.z() + halfWidth
-        );
-
-        return raycastAABB(origin, direction, boxMin, boxMax, maxDistance);
+        double len = Math.sqrt(direction.x() * direction.x() + direction.y() * direction.y() + direction.z() * direction.z());
+        if (len < RAY_EPSILON) return null;
+        double dx = direction.x() / len, dy = direction.y() / len, dz = direction.z() / len;
+
+        double distance = rayHitboxDistance(origin.x(), origin.y(), origin.z(), 1.0 / dx, 1.0 / dy, 1.0 / dz,
+                entityPos.x(), entityPos.y(), entityPos.z(), expansion.x(), expansion.y(), maxDistance);
+        return toResult(origin, dx, dy, dz, distance);
+    }
+
+    private static RayHitResult toResult(Pos origin, double dx, double dy, double dz, double distance) {
+        if (Double.isNaN(distance)) return null;
+        Vec hitPoint = new Vec(origin.x() + dx * distance, origin.y() + dy * distance, origin.z() + dz * distance);
+        return new RayHitResult(hitPoint, distance);
+    }
+
+    // ===========================
+    // BATCH RAYCASTING
+    // ===========================
+
+    /**
+     * Structure-of-arrays batch of boxes tested against one ray in a single pass.
+     * <p>
+     * Bounds are packed into parallel {@code double[]} buffers and {@link #nearest} runs the slab
+     * test for every box in one branch-free loop (min/max only), a shape C2 can vectorize.
+     * Keep one batch per caller and {@link #clear()} it per query; buffers grow and are reused.
+     * </p>
+     */
+    public static final class RayBatch {
+        private double[] minX = new double[16], minY = new double[16], minZ = new double[16];
+        private double[] maxX = new double[16], maxY = new double[16], maxZ = new double[16];
+        private double[] distance = new double[16];
+        private int size;
+
+        public void clear() {
+            size = 0;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /** Add a world-space box; returns its index. */
+        public int add(double x0, double y0, double z0, double x1, double y1, double z1) {
+            if (size == minX.length) grow();
+            int i = size++;
+            minX[i] = x0; minY[i] = y0; minZ[i] = z0;
+            maxX[i] = x1; maxY[i] = y1; maxZ[i] = z1;
+            return i;
+        }
+
+        /** Add a player-sized hitbox with the same layout as {@link #rayHitboxDistance}; returns its index. */
+        public int addHitbox(double entityX, double entityY, double entityZ, double expansionXZ, double expansionY) {
+            return addHitbox(entityX, entityY, entityZ, PLAYER_WIDTH, PLAYER_HEIGHT, expansionXZ, expansionY);
+        }
+
+        /** Add a {@code width x height} hitbox centered on the feet position; returns its index. */
+        public int addHitbox(double entityX, double entityY, double entityZ, double width, double height,
+                             double expansionXZ, double expansionY) {
+            double halfWidth = (width / 2.0) + expansionXZ;
+            return add(entityX - halfWidth, entityY, entityZ - halfWidth,
+                    entityX + halfWidth, entityY + height + expansionY, entityZ + halfWidth);
+        }
+
+        /**
+         * Intersect the ray with every box in the batch.
+         *
+         * The direction ({@code dx, dy, dz}) must be normalized.
+         *
+         * @return index of the box with the smallest entry distance, or -1 if none is hit within maxDistance
+         */
+        public int nearest(double ox, double oy, double oz, double dx, double dy, double dz, double maxDistance) {
+            // Finite inverses keep the loop free of NaN/branch handling for axis-parallel rays
+            double invDx = safeInverse(dx), invDy = safeInverse(dy), invDz = safeInverse(dz);
+            int n = size;
+            double[] d = distance;
+
+            for (int i = 0; i < n; i++) {
+                double tx1 = (minX[i] - ox) * invDx, tx2 = (maxX[i] - ox) * invDx;
+                double ty1 = (minY[i] - oy) * invDy, ty2 = (maxY[i] - oy) * invDy;
+                double tz1 = (minZ[i] - oz) * invDz, tz2 = (maxZ[i] - oz) * invDz;
+                double tEnter = Math.max(Math.max(Math.min(tx1, tx2), Math.min(ty1, ty2)), Math.min(tz1, tz2));
+                double tExit = Math.min(Math.min(Math.max(tx1, tx2), Math.max(ty1, ty2)), Math.max(tz1, tz2));
+                tEnter = Math.max(tEnter, 0.0);
+                // Misses get +inf so the reduction below needs no hit flags
+                d[i] = (tEnter <= tExit && tEnter <= maxDistance) ? tEnter : Double.POSITIVE_INFINITY;
+            }
+
+            int best = -1;
+            double bestDistance = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                if (d[i] < bestDistance) {
+                    bestDistance = d[i];
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        /** Entry distance computed for a box by the last {@link #nearest} call (+inf on a miss). */
+        public double distance(int index) {
+            return distance[index];
+        }
+
+        private void grow() {
+            int n = minX.length * 2;
+            minX = Arrays.copyOf(minX, n); minY = Arrays.copyOf(minY, n); minZ = Arrays.copyOf(minZ, n);
+            maxX = Arrays.copyOf(maxX, n); maxY = Arrays.copyOf(maxY, n); maxZ = Arrays.copyOf(maxZ, n);
+            distance = Arrays.copyOf(distance, n);
+        }
+
+        private static double safeInverse(double d) {
+            return Math.abs(d) > RAY_EPSILON ? 1.0 / d : Math.copySign(1.0 / RAY_EPSILON, d);
+        }
     }
 
     // ===========================
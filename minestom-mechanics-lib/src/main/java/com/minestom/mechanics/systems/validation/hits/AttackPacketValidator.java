@@ -3,13 +3,13 @@ package com.minestom.mechanics.systems.validation.hits;
 import com.minestom.mechanics.systems.compatibility.ClientVersionDetector;
 import com.minestom.mechanics.config.combat.HitDetectionConfig;
 import com.minestom.mechanics.systems.compatibility.hitbox.EyeHeightSystem;
+import com.minestom.mechanics.systems.validation.LagCompensation;
+import com.minestom.mechanics.systems.validation.PositionHistory;
 import com.minestom.mechanics.util.LogUtil;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.entity.Player;
 
-import static com.minestom.mechanics.config.constants.CombatConstants.PLAYER_HEIGHT;
-
 // TODO: This is pretty solid actually,
 //  may change with potential update to how we handle
 //  disabling modern sneaking though. Right now
@@ -25,6 +25,7 @@ public class AttackPacketValidator {
     private static final LogUtil.SystemLogger log = LogUtil.system("AttackPacketValidator");
     
     private final HitDetectionConfig hitDetectionConfig;
+    private final PositionHistory.Sample victimSample = new PositionHistory.Sample(); // tick-thread scratch
 
     public AttackPacketValidator(HitDetectionConfig hitDetectionConfig) {
         this.hitDetectionConfig = hitDetectionConfig;
@@ -40,10 +41,11 @@ public class AttackPacketValidator {
      */
     public boolean isReachValid(Player attacker, LivingEntity victim) {
         Pos attackerEye = EyeHeightSystem.getInstance().getEyePosition(attacker);
-        Pos victimPos = victim.getPosition();
+        // Victim as the attacker saw it (rewound by latency when lag compensation is enabled)
+        LagCompensation.sample(victim, attacker, victimSample);
 
-        double dx = victimPos.x() - attackerEye.x();
-        double dz = victimPos.z() - attackerEye.z();
+        double dx = victimSample.x - attackerEye.x();
+        double dz = victimSample.z - attackerEye.z();
         double horizontalDist = Math.sqrt(dx * dx + dz * dz);
 
         double maxReach = hitDetectionConfig.attackPacketReach();
@@ -55,9 +57,8 @@ public class AttackPacketValidator {
             return false;
         }
 
-        double victimCenterY = victimPos.y() + (PLAYER_HEIGHT / 2.0);
-        Pos victimCenter = victimPos.withY(victimCenterY);
-        double effectiveDistance = calculateEffectiveDistance(attackerEye, victimCenter, expansion);
+        double dy = victimSample.y + (victimSample.height / 2.0) - attackerEye.y();
+        double effectiveDistance = calculateEffectiveDistance(horizontalDist, dy, expansion);
 
         if (effectiveDistance > maxReach) {
             logRejection(attacker, victim, attackerEye, effectiveDistance, maxReach);
@@ -76,8 +77,8 @@ public class AttackPacketValidator {
      * Calculate effective distance considering hitbox expansion.
      * This gives the distance to the edge of the expanded hitbox.
      */
-    private double calculateEffectiveDistance(Pos attackerEye, Pos victimCenter, double expansion) {
-        double distance = attackerEye.distance(victimCenter);
+    private static double calculateEffectiveDistance(double horizontalDist, double dy, double expansion) {
+        double distance = Math.sqrt(horizontalDist * horizontalDist + dy * dy);
         // Subtract expansion to get distance to edge of expanded hitbox
         return Math.max(0, distance - expansion);
     }
@@ -0,0 +1,143 @@
+package com.minestom.mechanics.systems.validation.hits;
+
+import java.util.Arrays;
+
+/**
+ * Rolling hit analytics for one attacker: the last {@link #CAPACITY} validated hits and a reach
+ * histogram over exactly those hits.
+ * <p>
+ * Samples live in parallel primitive arrays used as a ring; the histogram and the per-tier counts
+ * are updated incrementally as samples enter and leave the ring, so recording is O(1) and allocates
+ * nothing. Percentiles are read from the histogram at {@link #BIN_WIDTH} resolution.
+ * </p>
+ *
+ * <p>Tick thread only, like the rest of {@code MechanicsEntityState}.</p>
+ *
+ * Usage:
+ * <pre>
+ * HitAnalytics hits = HitDetection.getInstance().getHitAnalytics(player);
+ * if (hits != null && hits.percentile(0.99) > 3.1) flagForReview(player);
+ * </pre>
+ */
+public final class HitAnalytics {
+
+    /** Hits kept per attacker. */
+    public static final int CAPACITY = 128;
+    /** Histogram bin width in blocks. */
+    public static final double BIN_WIDTH = 0.05;
+    /** Distances at or beyond this land in the last (overflow) bin. */
+    public static final double MAX_DISTANCE = 8.0;
+
+    private static final int BINS = (int) Math.round(MAX_DISTANCE / BIN_WIDTH) + 1;
+    private static final ServerSideDetector.ValidationTier[] TIERS = ServerSideDetector.ValidationTier.values();
+
+    private final long[] ticks = new long[CAPACITY];
+    private final double[] distances = new double[CAPACITY];
+    private final byte[] tiers = new byte[CAPACITY];
+    private final int[] victimIds = new int[CAPACITY];
+    private int head; // oldest entry
+    private int size;
+
+    private final int[] bins = new int[BINS];
+    private final int[] tierCounts = new int[TIERS.length];
+
+    /**
+     * Record a validated hit.
+     */
+    public void record(long tick, int victimId, double distance, ServerSideDetector.ValidationTier tier) {
+        int slot;
+        if (size == CAPACITY) {
+            slot = head;
+            head = (head + 1) % CAPACITY;
+            bins[bin(distances[slot])]--;
+            tierCounts[tiers[slot]]--;
+        } else {
+            slot = (head + size++) % CAPACITY;
+        }
+        ticks[slot] = tick;
+        distances[slot] = distance;
+        tiers[slot] = (byte) tier.ordinal();
+        victimIds[slot] = victimId;
+        bins[bin(distance)]++;
+        tierCounts[tier.ordinal()]++;
+    }
+
+    private static int bin(double distance) {
+        if (!(distance > 0)) return 0;
+        return Math.min((int) (distance / BIN_WIDTH), BINS - 1);
+    }
+
+    // ===========================
+    // QUERIES
+    // ===========================
+
+    /**
+     * Reach at quantile {@code q} (0-1) over the recorded hits: the upper edge of the histogram bin
+     * holding that rank, so the result is within {@link #BIN_WIDTH} above the true value.
+     *
+     * @return the quantile in blocks, or NaN if nothing has been recorded
+     */
+    public double percentile(double q) {
+        if (size == 0) return Double.NaN;
+        int rank = (int) Math.ceil(Math.max(0, Math.min(1, q)) * size);
+        if (rank < 1) rank = 1;
+        int seen = 0;
+        for (int i = 0; i < BINS; i++) {
+            seen += bins[i];
+            if (seen >= rank) return i == BINS - 1 ? MAX_DISTANCE : (i + 1) * BIN_WIDTH;
+        }
+        return MAX_DISTANCE;
+    }
+
+    /** Number of recorded hits validated at {@code tier}. */
+    public int tierCount(ServerSideDetector.ValidationTier tier) {
+        return tierCounts[tier.ordinal()];
+    }
+
+    /** Fraction (0-1) of recorded hits validated at {@code tier}, 0 if nothing has been recorded. */
+    public double tierFraction(ServerSideDetector.ValidationTier tier) {
+        return size == 0 ? 0 : (double) tierCounts[tier.ordinal()] / size;
+    }
+
+    /** Largest recorded reach in blocks, or NaN if nothing has been recorded. */
+    public double maxDistance() {
+        if (size == 0) return Double.NaN;
+        double max = 0;
+        for (int i = 0; i < size; i++) max = Math.max(max, distances[(head + i) % CAPACITY]);
+        return max;
+    }
+
+    /** Reach of the latest hit in blocks, or NaN if nothing has been recorded. */
+    public double lastDistance() {
+        return size == 0 ? Double.NaN : distances[newest()];
+    }
+
+    /** Tier of the latest hit, or null if nothing has been recorded. */
+    public ServerSideDetector.ValidationTier lastTier() {
+        return size == 0 ? null : TIERS[tiers[newest()]];
+    }
+
+    /** Mechanics tick of the latest hit, or {@code Long.MIN_VALUE} if nothing has been recorded. */
+    public long lastTick() {
+        return size == 0 ? Long.MIN_VALUE : ticks[newest()];
+    }
+
+    /** Entity id of the latest victim, or -1 if nothing has been recorded. */
+    public int lastVictimId() {
+        return size == 0 ? -1 : victimIds[newest()];
+    }
+
+    private int newest() {
+        return (head + size - 1) % CAPACITY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        head = size = 0;
+        Arrays.fill(bins, 0);
+        Arrays.fill(tierCounts, 0);
+    }
+}
@@ -1,73 +1,86 @@
 package com.minestom.mechanics.systems.validation.hits;
 
+import com.minestom.mechanics.systems.player.MechanicsEntityState;
+import com.minestom.mechanics.systems.player.PlayerStateManager;
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.LivingEntity;
-
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-
-// TODO: Necessary? I think maybe, but unsure
+import net.minestom.server.entity.Player;
+import org.jetbrains.annotations.Nullable;
 
 /**
- * Tracks hit snapshots for analytics and logging.
- * Stores and retrieves hit data for competitive analysis.
+ * Tracks hit analytics per attacker for anti-cheat review, plus the latest hit each victim took.
+ * <p>
+ * Each attacker's {@link HitAnalytics} ring lives on its {@link MechanicsEntityState}, so it is
+ * created on the first recorded hit and dies with the entity; there is no map to clean up.
+ * Only used when {@code HitDetectionConfig.trackHitSnapshots()} is enabled.
+ * </p>
  */
 public class HitSnapshotTracker {
 
-    private final Map<UUID, ServerSideDetector.HitSnapshot> lastHitSnapshots = new ConcurrentHashMap<>();
-
     /**
-     * Store a hit snapshot for an entity
+     * Record a validated hit for an attacker.
      */
-    public void storeHitSnapshot(LivingEntity entity, ServerSideDetector.HitSnapshot snapshot) {
-        lastHitSnapshots.put(entity.getUuid(), snapshot);
+    public void record(LivingEntity attacker, LivingEntity victim, long tick,
+                       double distance, ServerSideDetector.ValidationTier tier) {
+        MechanicsEntityState.Analytics analytics = PlayerStateManager.get(attacker).analytics;
+        HitAnalytics hits = analytics.hits;
+        if (hits == null) analytics.hits = hits = new HitAnalytics();
+        hits.record(tick, victim.getEntityId(), distance, tier);
     }
 
     /**
-     * Get the last hit snapshot for an entity.
-     * Contains precise ray distance and validation tier.
+     * Store the latest hit a victim took (victim-keyed view kept for the deprecated accessors).
      */
-    public ServerSideDetector.HitSnapshot getLastHitSnapshot(LivingEntity entity) {
-        return lastHitSnapshots.get(entity.getUuid());
+    public void storeHitSnapshot(LivingEntity victim, ServerSideDetector.HitSnapshot snapshot) {
+        PlayerStateManager.get(victim).analytics.lastTaken = snapshot;
     }
 
     /**
-     * Get the precise ray distance from the last hit.
-     * Falls back to approximate distance if ray missed.
+     * Get the latest hit a victim took, or null if none has been recorded.
      */
-    public double getLastHitDistance(LivingEntity entity) {
-        ServerSideDetector.HitSnapshot snapshot = lastHitSnapshots.get(entity.getUuid());
-        return snapshot != null ? snapshot.rayDistance : -1.0;
+    public @Nullable ServerSideDetector.HitSnapshot getLastHitSnapshot(LivingEntity victim) {
+        MechanicsEntityState state = PlayerStateManager.peek(victim);
+        return state != null ? state.analytics.lastTaken : null;
     }
 
     /**
-     * Get the validation tier used for the last hit.
-     * Useful for competitive analysis (track ratio of PRIMARY vs FALLBACK).
+     * Get the rolling analytics for an attacker.
+     *
+     * @return the analytics, or null if no hit has been recorded for it
      */
-    public ServerSideDetector.ValidationTier getLastHitTier(LivingEntity entity) {
-        ServerSideDetector.HitSnapshot snapshot = lastHitSnapshots.get(entity.getUuid());
-        return snapshot != null ? snapshot.tier : null;
+    public @Nullable HitAnalytics get(LivingEntity attacker) {
+        MechanicsEntityState state = PlayerStateManager.peek(attacker);
+        return state != null ? state.analytics.hits : null;
     }
 
     /**
      * Clean up tracking data for an entity
      */
     public void cleanup(LivingEntity entity) {
-        lastHitSnapshots.remove(entity.getUuid());
-        // Cleanup complete
+        MechanicsEntityState state = PlayerStateManager.peek(entity);
+        if (state != null) {
+            state.analytics.hits = null;
+            state.analytics.lastTaken = null;
+        }
     }
 
     /**
-     * Clean up all tracking data
+     * Clean up all tracking data (online players; other entities drop theirs when removed)
      */
     public void clearAll() {
-        lastHitSnapshots.clear();
+        for (Player player : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
+            cleanup(player);
+        }
     }
 
     /**
-     * Get all tracked entities
+     * Number of online players with recorded hits
      */
-    public java.util.Set<UUID> getTrackedEntities() {
-        return lastHitSnapshots.keySet();
+    public int getTrackedCount() {
+        int count = 0;
+        for (Player player : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
+            if (get(player) != null) count++;
+        }
+        return count;
     }
-}
\ No newline at end of file
+}
@@ -1,20 +1,28 @@
 package com.minestom.mechanics.systems.validation.hits;
 
+import com.minestom.mechanics.MechanicsTickLoop;
 import com.minestom.mechanics.systems.compatibility.ClientVersionDetector;
 import com.minestom.mechanics.systems.compatibility.hitbox.HitboxExpansion;
 import com.minestom.mechanics.config.combat.HitDetectionConfig;
+import com.minestom.mechanics.systems.validation.LagCompensation;
+import com.minestom.mechanics.systems.validation.PositionHistory;
 import com.minestom.mechanics.systems.validation.RaycastUtils;
 import com.minestom.mechanics.systems.compatibility.hitbox.EyeHeightSystem;
+import com.minestom.mechanics.systems.misc.LivingEntityIndex;
+import com.minestom.mechanics.systems.player.MechanicsEntityState;
+import com.minestom.mechanics.systems.player.PlayerStateManager;
 import com.minestom.mechanics.util.LogUtil;
-import com.minestom.mechanics.systems.validation.RaycastUtils.RayHitResult;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
-import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Instance;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.minestom.mechanics.config.constants.CombatConstants.PLAYER_HEIGHT;
+import static com.minestom.mechanics.config.constants.CombatConstants.PLAYER_WIDTH;
 
 // TODO: This is pretty solid. Again,
 //  could change with the eye height thing mentioned
@@ -29,11 +37,17 @@ public class ServerSideDetector {
     private final HitDetectionConfig hitDetectionConfig;
     private final HitboxExpansion hitboxExpansion;
     private final RaycastUtils raycastUtils;
+    // Tick-thread scratch reused by every swing query
+    private final RaycastUtils.BlockHit blockHit = new RaycastUtils.BlockHit();
+    private final RaycastUtils.RayBatch rayBatch = new RaycastUtils.RayBatch();
+    private final List<LivingEntity> candidates = new ArrayList<>();
+    private final PositionHistory.Sample victimSample = new PositionHistory.Sample();
 
     public ServerSideDetector(HitDetectionConfig hitDetectionConfig) {
         this.hitDetectionConfig = hitDetectionConfig;
         this.hitboxExpansion = new HitboxExpansion(hitDetectionConfig);
         this.raycastUtils = RaycastUtils.create(); // Use ServerConfig
+        LivingEntityIndex.getInstance(); // start indexing before the first swing
     }
 
     /**
@@ -49,65 +63,105 @@ public class ServerSideDetector {
 
     /**
      * Performs server-side raycasting to find entity the player is aiming at.
+     * <p>
+     * The look target is resolved at most once per player per tick (for an unchanged eye position
+     * and view) and reused by every swing-window check and the swing path in that tick.
+     * </p>
      *
      * @param filterBlocks When true, returns null if looking at a block (avoids entity hit when mining). When false, skips this check (for combat swing window where crosshair-over-ground can reject valid hits).
      */
     public LivingEntity findTargetFromSwing(Player attacker, boolean filterBlocks) {
+        Instance instance = attacker.getInstance();
+        if (instance == null) {
+            return null;
+        }
+
         Pos eyePos = EyeHeightSystem.getInstance().getEyePosition(attacker);
-        Vec direction = eyePos.direction();
-        Vec normalizedDir = direction.normalize();
+        double blockReach = raycastUtils.getBlockReach(attacker);
+        MechanicsEntityState.LookTarget look = resolveLookTarget(attacker, instance, eyePos, blockReach);
 
-        if (filterBlocks && raycastUtils.isLookingAtBlock(attacker, eyePos, normalizedDir)) {
+        if (filterBlocks && look.blockDistance <= blockReach) {
             return null;
         }
 
-        Vec expansion = hitboxExpansion.getPrimary();
-        return findClosestEntityTarget(attacker, eyePos, normalizedDir, expansion);
+        LivingEntity target = look.target;
+        return target != null && !target.isRemoved() ? target : null;
+    }
+
+    private MechanicsEntityState.LookTarget resolveLookTarget(Player attacker, Instance instance, Pos eyePos, double blockReach) {
+        double maxReach = hitDetectionConfig.serverSideReach();
+        double traceDistance = Math.max(maxReach, blockReach);
+        long tick = MechanicsTickLoop.getInstance().getTick();
+
+        MechanicsEntityState.LookTarget look = PlayerStateManager.get(attacker).lookTarget;
+        if (look.matches(tick, eyePos.x(), eyePos.y(), eyePos.z(), eyePos.yaw(), eyePos.pitch(), traceDistance)) {
+            return look;
+        }
+
+        Vec normalizedDir = eyePos.direction().normalize();
+
+        // One block trace, shared by the block filter and every candidate's obstruction check
+        double blockDistance = RaycastUtils.raycastBlocks(instance, eyePos.x(), eyePos.y(), eyePos.z(),
+                normalizedDir.x(), normalizedDir.y(), normalizedDir.z(), traceDistance, blockHit);
+        if (Double.isNaN(blockDistance)) blockDistance = Double.POSITIVE_INFINITY;
+
+        look.tick = tick;
+        look.eyeX = eyePos.x();
+        look.eyeY = eyePos.y();
+        look.eyeZ = eyePos.z();
+        look.yaw = eyePos.yaw();
+        look.pitch = eyePos.pitch();
+        look.traceDistance = traceDistance;
+        look.blockDistance = blockDistance;
+        look.target = findClosestEntityTarget(attacker, instance, eyePos, normalizedDir,
+                hitboxExpansion.getPrimaryValue(), maxReach, blockDistance);
+        return look;
     }
 
     /**
      * Find the closest entity target within reach.
-     * Only returns entities that are not obstructed by a solid block between eye and hit point.
+     * Only returns an entity that is not obstructed by a solid block between eye and hit point.
+     * <p>
+     * Obstruction is monotonic along the ray, so only the nearest hit needs to be compared
+     * against the traced block distance.
+     * </p>
      */
-    private LivingEntity findClosestEntityTarget(Player attacker, Pos eyePos, Vec direction, Vec expansion) {
-        Instance instance = attacker.getInstance();
-        if (instance == null) {
+    private LivingEntity findClosestEntityTarget(Player attacker, Instance instance, Pos eyePos, Vec direction,
+                                                 double expansion, double maxReach, double blockDistance) {
+        // Any hitbox the ray can reach lies within reach + expansion of the eye, whatever its size
+        // (plus how far recorded boxes moved or grew when lag compensation tests past positions)
+        double searchRadius = maxReach + expansion + LagCompensation.rewindDisplacement(attacker);
+        candidates.clear();
+        LivingEntityIndex.getInstance().collectInReach(instance, eyePos.x(), eyePos.y(), eyePos.z(), searchRadius, candidates);
+        candidates.remove(attacker);
+        if (candidates.isEmpty()) {
             return null;
         }
 
-        double maxReach = hitDetectionConfig.serverSideReach();
-        LivingEntity closestTarget = null;
-        double closestDistance = Double.MAX_VALUE;
-
-        for (Entity entity : instance.getEntities()) {
-            if (!(entity instanceof LivingEntity livingEntity) || entity == attacker) {
-                continue;
-            }
-
-            RayHitResult result = RaycastUtils.raycastToHitbox(
-                    eyePos, direction, livingEntity.getPosition(),
-                    expansion, maxReach
-            );
-
-            if (result != null) {
-                double distance = result.getDistance();
-                // Obstruction: reject hit if any solid block is between eye and hit point (voxel traversal so corners are not missed)
-                double obstructionCheckDistance = Math.max(1e-6, distance - 0.01);
-                if (raycastUtils.findFirstSolidBlockAlongRayVoxel(instance, eyePos, direction, obstructionCheckDistance) != null) {
-                    continue; // Block in the way, skip this entity
-                }
-                if (distance < closestDistance) {
-                    closestDistance = distance;
-                    closestTarget = livingEntity;
-                }
-            }
+        // Test every candidate hitbox against the ray in one batched pass
+        rayBatch.clear();
+        for (LivingEntity candidate : candidates) {
+            LagCompensation.sample(candidate, attacker, victimSample);
+            rayBatch.addHitbox(victimSample.x, victimSample.y, victimSample.z,
+                    victimSample.width, victimSample.height, expansion, expansion);
         }
+        int nearest = rayBatch.nearest(eyePos.x(), eyePos.y(), eyePos.z(),
+                direction.x(), direction.y(), direction.z(), maxReach);
+        LivingEntity closestTarget = nearest >= 0 ? candidates.get(nearest) : null;
+        candidates.clear();
+        if (closestTarget == null) {
+            return null;
+        }
+        double closestDistance = rayBatch.distance(nearest);
 
-        if (closestTarget != null) {
-            log.debug("Server-side target found: {} at distance {:.2f}",
-                    closestTarget.getEntityType(), closestDistance);
+        // Obstruction: reject hit if any solid block is between eye and hit point (shape-aware voxel traversal)
+        double obstructionCheckDistance = Math.max(1e-6, closestDistance - 0.01);
+        if (blockDistance <= obstructionCheckDistance) {
+            return null; // Block in the way; every farther candidate is behind it too
         }
 
+        log.debug("Server-side target found: {} at distance {:.2f}",
+                closestTarget.getEntityType(), closestDistance);
         return closestTarget;
     }
 
@@ -121,40 +175,53 @@ public class ServerSideDetector {
      */
     public HitSnapshot calculatePreciseDistance(Player attacker, Pos eyePos, Vec direction,
                                                 Pos victimPos, double maxReach) {
-        Vec rayDirection = direction.normalize();
-        Vec primary = isModernAttacker(attacker) ? hitboxExpansion.getPrimary() : Vec.ZERO;
-        Vec limit = isModernAttacker(attacker) ? hitboxExpansion.getLimit() : Vec.ZERO;
-
-        RayHitResult primaryResult = RaycastUtils.raycastToHitbox(
-                eyePos, rayDirection, victimPos, primary, maxReach
-        );
-
-        if (primaryResult != null) {
-            Vec hitPoint = primaryResult.getHitPoint();
-            double actualDistance = eyePos.distance(hitPoint);
-            return new HitSnapshot(
-                    actualDistance, ValidationTier.PRIMARY, eyePos, victimPos
-            );
-        }
+        HitMeasurement m = new HitMeasurement();
+        measureHit(attacker, eyePos, direction, victimPos.x(), victimPos.y(), victimPos.z(), maxReach, m);
+        return new HitSnapshot(m.distance, m.tier, eyePos, victimPos);
+    }
+
+    /**
+     * Allocation-free form of {@link #calculatePreciseDistance}: writes the distance and tier into {@code out}.
+     */
+    public void measureHit(Player attacker, Pos eyePos, Vec direction,
+                           double vx, double vy, double vz, double maxReach, HitMeasurement out) {
+        measureHit(attacker, eyePos, direction, vx, vy, vz, PLAYER_WIDTH, PLAYER_HEIGHT, maxReach, out);
+    }
+
+    /**
+     * {@link #measureHit} against a {@code width x height} victim box (e.g. a rewound sample).
+     */
+    public void measureHit(Player attacker, Pos eyePos, Vec direction,
+                           double vx, double vy, double vz, double width, double height,
+                           double maxReach, HitMeasurement out) {
+        boolean modern = isModernAttacker(attacker);
+        double primary = modern ? hitboxExpansion.getPrimaryValue() : 0.0;
+        double limit = modern ? hitboxExpansion.getLimitValue() : 0.0;
+
+        double len = Math.sqrt(direction.x() * direction.x() + direction.y() * direction.y() + direction.z() * direction.z());
+        double ox = eyePos.x(), oy = eyePos.y(), oz = eyePos.z();
 
-        RayHitResult limitResult = RaycastUtils.raycastToHitbox(
-                eyePos, rayDirection, victimPos, limit, maxReach
-        );
+        if (len > 0) {
+            // Direction is normalized, so the ray distance is the eye-to-hit-point distance
+            double invDx = len / direction.x(), invDy = len / direction.y(), invDz = len / direction.z();
 
-        if (limitResult != null) {
-            Vec hitPoint = limitResult.getHitPoint();
-            double actualDistance = eyePos.distance(hitPoint);
-            return new HitSnapshot(
-                    actualDistance, ValidationTier.LIMIT, eyePos, victimPos
-            );
+            double primaryDistance = RaycastUtils.rayHitboxDistance(ox, oy, oz, invDx, invDy, invDz,
+                    vx, vy, vz, width, height, primary, primary, maxReach);
+            if (!Double.isNaN(primaryDistance)) {
+                out.set(primaryDistance, ValidationTier.PRIMARY);
+                return;
+            }
+
+            double limitDistance = RaycastUtils.rayHitboxDistance(ox, oy, oz, invDx, invDy, invDz,
+                    vx, vy, vz, width, height, limit, limit, maxReach);
+            if (!Double.isNaN(limitDistance)) {
+                out.set(limitDistance, ValidationTier.LIMIT);
+                return;
+            }
         }
 
-        double victimCenterY = victimPos.y() + (PLAYER_HEIGHT / 2.0);
-        Pos victimCenter = victimPos.withY(victimCenterY);
-        double preciseDistance = eyePos.distance(victimCenter);
-        return new HitSnapshot(
-                preciseDistance, ValidationTier.FALLBACK, eyePos, victimPos
-        );
+        double dx = vx - ox, dy = vy + (height / 2.0) - oy, dz = vz - oz;
+        out.set(Math.sqrt(dx * dx + dy * dy + dz * dz), ValidationTier.FALLBACK);
     }
 
     private static boolean isModernAttacker(Player attacker) {
@@ -187,6 +254,19 @@ public class ServerSideDetector {
         }
     }
 
+    /**
+     * Reusable result of {@link #measureHit}: ray distance and the tier it was validated at.
+     */
+    public static final class HitMeasurement {
+        public double distance;
+        public ValidationTier tier;
+
+        void set(double distance, ValidationTier tier) {
+            this.distance = distance;
+            this.tier = tier;
+        }
+    }
+
     /**
      * Validation tier used for a hit.
      * Tracks confidence level for competitive analysis.
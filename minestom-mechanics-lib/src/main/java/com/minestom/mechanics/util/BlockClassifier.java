@@ -0,0 +1,213 @@
+package com.minestom.mechanics.util;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.collision.Shape;
+import net.minestom.server.collision.ShapeImpl;
+import net.minestom.server.instance.block.Block;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Precomputed block-state classification shared by every system that asks "what kind of block is this".
+ * <p>
+ * Built once (on {@link #initialize()}, or on first lookup) by walking every block state: each state
+ * id maps to a bitmask of mechanics classes and to its collision shape. Lookups are then an array
+ * index by {@link Block#stateId()}, with no name comparisons, registry reads or predicates on hot
+ * paths. Blocks carrying a handler or NBT share their state's entry.
+ * </p>
+ *
+ * <p>Custom classes are added with {@link #registerClass}, which evaluates the predicate once per
+ * state and returns the class bit. Register during startup; the tables are read from tick threads
+ * without locking.</p>
+ *
+ * Usage:
+ * <pre>
+ * int BERRY_BUSH = BlockClassifier.registerClass("berry_bush", b -> b.compare(Block.SWEET_BERRY_BUSH));
+ * if (BlockClassifier.is(block, BlockClassifier.LAVA | BERRY_BUSH)) ...
+ * </pre>
+ */
+public final class BlockClassifier {
+
+    private static final LogUtil.SystemLogger log = LogUtil.system("BlockClassifier");
+
+    /** Has a collision shape ({@link Block#isSolid()}). */
+    public static final int SOLID = 1;
+    /** Collision shape is exactly one full block. */
+    public static final int FULL_CUBE = 1 << 1;
+    /** Fire, soul fire and other fire blocks (campfires). */
+    public static final int FIRE = 1 << 2;
+    /** Lava and other lava blocks (lava cauldron). */
+    public static final int LAVA = 1 << 3;
+    /** Water, bubble columns, underwater plants and waterlogged states. */
+    public static final int WATER = 1 << 4;
+    /** Cactus. */
+    public static final int CACTUS = 1 << 5;
+    /** Ladders, vines and scaffolding. */
+    public static final int CLIMBABLE = 1 << 6;
+
+    private static final int BUILTIN_CLASSES = 7;
+    private static final int MAX_CLASSES = Integer.SIZE;
+
+    private static final List<String> customNames = new ArrayList<>();
+    private static final List<Predicate<Block>> customTests = new ArrayList<>();
+
+    private static volatile Tables tables;
+
+    private BlockClassifier() {}
+
+    /**
+     * Build the tables now instead of on first lookup. Idempotent.
+     */
+    public static void initialize() {
+        tables();
+    }
+
+    // ===========================
+    // LOOKUP
+    // ===========================
+
+    /** Classes of {@code block}'s state, as a bitwise-or of class bits. */
+    public static int classes(Block block) {
+        Tables t = tables();
+        int id = block.stateId();
+        return id >= 0 && id < t.classes.length ? t.classes[id] : classify(block);
+    }
+
+    /** Classes of the block state with id {@code stateId} (e.g. a palette value), 0 for an unknown id. */
+    public static int classes(int stateId) {
+        int[] classes = tables().classes;
+        return stateId >= 0 && stateId < classes.length ? classes[stateId] : 0;
+    }
+
+    /** Whether {@code block} is in any of {@code classes} (bitwise-or of class bits). */
+    public static boolean is(Block block, int classes) {
+        return (classes(block) & classes) != 0;
+    }
+
+    /** Collision shape of {@code block}'s state. */
+    public static Shape collisionShape(Block block) {
+        Tables t = tables();
+        int id = block.stateId();
+        return id >= 0 && id < t.shapes.length ? t.shapes[id] : block.registry().collisionShape();
+    }
+
+    // ===========================
+    // CUSTOM CLASSES
+    // ===========================
+
+    /**
+     * Add a custom class matched by {@code test}, evaluated once per block state.
+     * Registering an existing name returns its bit without re-evaluating.
+     *
+     * @return the class bit
+     * @throws IllegalStateException if all 32 class bits are in use
+     */
+    public static synchronized int registerClass(String name, Predicate<Block> test) {
+        int existing = customNames.indexOf(name);
+        if (existing >= 0) return 1 << (BUILTIN_CLASSES + existing);
+        if (BUILTIN_CLASSES + customNames.size() >= MAX_CLASSES) {
+            throw new IllegalStateException("No block class bits left for " + name);
+        }
+
+        int bit = 1 << (BUILTIN_CLASSES + customNames.size());
+        customNames.add(name);
+        customTests.add(test);
+
+        Tables t = tables;
+        if (t != null) {
+            for (int id = 0; id < t.states.length; id++) {
+                Block state = t.states[id];
+                if (state != null && test.test(state)) t.classes[id] |= bit;
+            }
+        }
+        log.debug("Registered block class {} (bit {})", name, Integer.numberOfTrailingZeros(bit));
+        return bit;
+    }
+
+    /**
+     * Bit of a custom class registered under {@code name}, or 0 if there is none.
+     */
+    public static synchronized int customClass(String name) {
+        int index = customNames.indexOf(name);
+        return index >= 0 ? 1 << (BUILTIN_CLASSES + index) : 0;
+    }
+
+    // ===========================
+    // BUILD
+    // ===========================
+
+    private static Tables tables() {
+        Tables t = tables;
+        return t != null ? t : build();
+    }
+
+    private static synchronized Tables build() {
+        if (tables != null) return tables;
+
+        int maxId = -1;
+        for (Block block : Block.values()) {
+            for (Block state : block.possibleStates()) maxId = Math.max(maxId, state.stateId());
+        }
+
+        Block[] states = new Block[maxId + 1];
+        int[] classes = new int[maxId + 1];
+        Shape[] shapes = new Shape[maxId + 1];
+        for (Block block : Block.values()) {
+            for (Block state : block.possibleStates()) {
+                int id = state.stateId();
+                states[id] = state;
+                classes[id] = classify(state);
+                shapes[id] = state.registry().collisionShape();
+            }
+        }
+
+        tables = new Tables(states, classes, shapes);
+        log.debug("Classified {} block states", states.length);
+        return tables;
+    }
+
+    private static int classify(Block state) {
+        int classes = 0;
+        if (state.isSolid()) classes |= SOLID;
+        if (isFullCube(state.registry().collisionShape())) classes |= FULL_CUBE;
+
+        String name = state.name();
+        if (state.compare(Block.LAVA) || name.contains("lava")) {
+            classes |= LAVA;
+        } else if (state.compare(Block.FIRE) || state.compare(Block.SOUL_FIRE) || name.contains("fire")) {
+            classes |= FIRE;
+        }
+        if (state.compare(Block.WATER) || state.compare(Block.BUBBLE_COLUMN)
+                || state.compare(Block.KELP) || state.compare(Block.KELP_PLANT)
+                || state.compare(Block.SEAGRASS) || state.compare(Block.TALL_SEAGRASS)
+                || "true".equals(state.getProperty("waterlogged"))) {
+            classes |= WATER;
+        }
+        if (state.compare(Block.CACTUS)) classes |= CACTUS;
+        if (state.compare(Block.LADDER) || state.compare(Block.VINE) || state.compare(Block.SCAFFOLDING)
+                || state.compare(Block.TWISTING_VINES) || state.compare(Block.TWISTING_VINES_PLANT)
+                || state.compare(Block.WEEPING_VINES) || state.compare(Block.WEEPING_VINES_PLANT)
+                || state.compare(Block.CAVE_VINES) || state.compare(Block.CAVE_VINES_PLANT)) {
+            classes |= CLIMBABLE;
+        }
+
+        for (int i = 0; i < customTests.size(); i++) {
+            if (customTests.get(i).test(state)) classes |= 1 << (BUILTIN_CLASSES + i);
+        }
+        return classes;
+    }
+
+    private static boolean isFullCube(Shape shape) {
+        if (!(shape instanceof ShapeImpl shapeImpl)) return false;
+        List<BoundingBox> boxes = shapeImpl.boundingBoxes();
+        if (boxes.size() != 1) return false;
+        BoundingBox box = boxes.get(0);
+        return box.minX() == 0 && box.minY() == 0 && box.minZ() == 0
+                && box.maxX() == 1 && box.maxY() == 1 && box.maxZ() == 1;
+    }
+
+    /** Per-state tables indexed by state id. */
+    private record Tables(Block[] states, int[] classes, Shape[] shapes) {}
+}
@@ -0,0 +1,197 @@
+package com.minestom.mechanics.util;
+
+import net.minestom.server.tag.Tag;
+import net.minestom.server.tag.TagReadable;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Compact binary encoding for mechanics item overrides.
+ * <p>
+ * Instead of one named NBT child per field, an override is stored as a single
+ * {@code ByteArray} tag ({@link #DATA}) whose first byte is a per-serializer schema version.
+ * Serializers check for {@link #DATA} first and fall back to their legacy multi-key layout,
+ * so existing items keep working and are rewritten compactly the next time they are tagged.
+ * </p>
+ *
+ * <p>Enums are stored by ordinal: appending constants is safe, reordering or removing them
+ * requires bumping the owning serializer's schema version.</p>
+ *
+ * Usage:
+ * <pre>
+ * // write
+ * CompactTagCodec.Writer out = CompactTagCodec.writer(SCHEMA_VERSION);
+ * out.writeDouble(value);
+ * w.setTag(CompactTagCodec.DATA, out.toByteArray());
+ *
+ * // read (falls back to the legacy layout for missing, unknown-version or malformed data)
+ * return CompactTagCodec.read(r, "knockback", SCHEMA_VERSION, Serializer::readCompact, Serializer::readLegacy);
+ * </pre>
+ */
+public final class CompactTagCodec {
+
+    /** Single byte-array child holding the encoded override. */
+    public static final Tag<byte[]> DATA = Tag.ByteArray("b");
+
+    private static final LogUtil.SystemLogger log = LogUtil.system("CompactTagCodec");
+
+    /** Serializer names that already logged malformed data, so a bad item warns once. */
+    private static final Set<String> warned = ConcurrentHashMap.newKeySet();
+
+    private static volatile boolean writeCompact = true;
+
+    private CompactTagCodec() {}
+
+    /** Whether serializers write the compact format (default) or the legacy multi-key layout. */
+    public static boolean isWriteCompact() {
+        return writeCompact;
+    }
+
+    /** Switch serializers between the compact format and the legacy layout (reads accept both). */
+    public static void setWriteCompact(boolean enabled) {
+        writeCompact = enabled;
+    }
+
+    /** Start an encoding with the given schema version byte. */
+    public static Writer writer(int version) {
+        Writer writer = new Writer();
+        writer.writeByte(version);
+        return writer;
+    }
+
+    /**
+     * Open an encoding for reading.
+     *
+     * @return a reader positioned after the version byte, or null if {@code data} is null/empty
+     */
+    public static @Nullable Reader reader(@Nullable byte[] data) {
+        if (data == null || data.length == 0) return null;
+        return new Reader(data);
+    }
+
+    /**
+     * Decode an override, preferring the compact encoding.
+     * <p>Without {@link #DATA}, or when its version is not {@code version}, the legacy layout is read.
+     * Truncated or garbled data (any exception from {@code compact}) is logged once per
+     * {@code name} and also falls back to the legacy layout, which yields no override when the
+     * item carries only the compact tag. Item reads happen on hit paths and must not throw.</p>
+     */
+    public static <T> @Nullable T read(TagReadable r, String name, int version,
+                                       Function<Reader, T> compact, Function<TagReadable, T> legacy) {
+        Reader in = reader(r.getTag(DATA));
+        if (in == null || in.version() != version) return legacy.apply(r);
+        try {
+            return compact.apply(in);
+        } catch (RuntimeException e) {
+            if (warned.add(name)) {
+                log.warn("Malformed compact {} item data ({}), using legacy tags", name, e.toString());
+            }
+            return legacy.apply(r);
+        }
+    }
+
+    /** Enum constant for an ordinal, or {@code defaultValue} if out of range. */
+    public static <E extends Enum<E>> E enumOf(E[] values, int ordinal, E defaultValue) {
+        return ordinal >= 0 && ordinal < values.length ? values[ordinal] : defaultValue;
+    }
+
+    // ===========================
+    // WRITER
+    // ===========================
+
+    /** Growable big-endian byte sink. */
+    public static final class Writer {
+        private byte[] buf = new byte[64];
+        private int pos;
+
+        private Writer() {}
+
+        private void ensure(int extra) {
+            if (pos + extra > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + extra));
+        }
+
+        public Writer writeByte(int v) {
+            ensure(1);
+            buf[pos++] = (byte) v;
+            return this;
+        }
+
+        public Writer writeBoolean(boolean v) {
+            return writeByte(v ? 1 : 0);
+        }
+
+        public Writer writeShort(int v) {
+            ensure(2);
+            buf[pos++] = (byte) (v >>> 8);
+            buf[pos++] = (byte) v;
+            return this;
+        }
+
+        public Writer writeInt(int v) {
+            ensure(4);
+            buf[pos++] = (byte) (v >>> 24);
+            buf[pos++] = (byte) (v >>> 16);
+            buf[pos++] = (byte) (v >>> 8);
+            buf[pos++] = (byte) v;
+            return this;
+        }
+
+        public Writer writeFloat(float v) {
+            return writeInt(Float.floatToRawIntBits(v));
+        }
+
+        public Writer writeDouble(double v) {
+            long bits = Double.doubleToRawLongBits(v);
+            writeInt((int) (bits >>> 32));
+            return writeInt((int) bits);
+        }
+
+        /** Length-prefixed (1 byte, max 255) double array. */
+        public Writer writeDoubles(double[] values) {
+            writeByte(Math.min(values.length, 255));
+            for (int i = 0; i < Math.min(values.length, 255); i++) writeDouble(values[i]);
+            return this;
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(buf, pos);
+        }
+    }
+
+    // ===========================
+    // READER
+    // ===========================
+
+    /** Big-endian byte source. Reads past the end throw {@link BufferUnderflowException}. */
+    public static final class Reader {
+        private final ByteBuffer buf;
+        private final int version;
+
+        private Reader(byte[] data) {
+            this.buf = ByteBuffer.wrap(data);
+            this.version = buf.get() & 0xFF;
+        }
+
+        /** Schema version written by {@link #writer(int)}. */
+        public int version() { return version; }
+
+        public int readByte() { return buf.get() & 0xFF; }
+        public boolean readBoolean() { return buf.get() != 0; }
+        public int readShort() { return buf.getShort() & 0xFFFF; }
+        public int readInt() { return buf.getInt(); }
+        public float readFloat() { return buf.getFloat(); }
+        public double readDouble() { return buf.getDouble(); }
+
+        public double[] readDoubles() {
+            double[] out = new double[readByte()];
+            for (int i = 0; i < out.length; i++) out[i] = buf.getDouble();
+            return out;
+        }
+    }
+}
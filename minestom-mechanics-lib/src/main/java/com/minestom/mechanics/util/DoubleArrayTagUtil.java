@@ -0,0 +1,41 @@
+package com.minestom.mechanics.util;
+
+import net.kyori.adventure.nbt.BinaryTag;
+import net.kyori.adventure.nbt.BinaryTagTypes;
+import net.kyori.adventure.nbt.DoubleBinaryTag;
+import net.kyori.adventure.nbt.ListBinaryTag;
+import net.minestom.server.tag.Tag;
+import net.minestom.server.tag.TagReadable;
+import net.minestom.server.tag.TagWritable;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads and writes {@code double[]} as an NBT double list without boxing.
+ * Wire format is identical to {@code Tag.Double(key).list()}, so existing items stay readable.
+ */
+public final class DoubleArrayTagUtil {
+
+    private DoubleArrayTagUtil() {}
+
+    /**
+     * Read a double list tag into a primitive array.
+     *
+     * @return the values, or null if the tag is absent or not a list
+     */
+    public static @Nullable double[] read(TagReadable reader, Tag<BinaryTag> tag) {
+        if (!(reader.getTag(tag) instanceof ListBinaryTag list)) return null;
+        double[] out = new double[list.size()];
+        for (int i = 0; i < out.length; i++) out[i] = list.getDouble(i);
+        return out;
+    }
+
+    /**
+     * Write a primitive array as a double list tag. Does nothing if {@code values} is null.
+     */
+    public static void write(TagWritable writer, Tag<BinaryTag> tag, @Nullable double[] values) {
+        if (values == null) return;
+        ListBinaryTag.Builder<DoubleBinaryTag> builder = ListBinaryTag.builder(BinaryTagTypes.DOUBLE);
+        for (double v : values) builder.add(DoubleBinaryTag.doubleBinaryTag(v));
+        writer.setTag(tag, builder.build());
+    }
+}
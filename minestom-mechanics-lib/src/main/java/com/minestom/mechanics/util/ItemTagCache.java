@@ -0,0 +1,62 @@
+package com.minestom.mechanics.util;
+
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.tag.Tag;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * Shared cache of decoded item tag values (knockback, velocity, damage, blockable overrides).
+ * <p>
+ * {@code ItemStack} is immutable, so a {@code Tag.Structure} read on the same stack instance
+ * always decodes to the same value. Entries are keyed on (item identity, tag identity) and hold
+ * the item weakly, so a player swinging the same sword pays for deserialization once instead of
+ * once per hit per system. Absent tags are cached too.
+ * </p>
+ *
+ * Usage:
+ * <pre>
+ * KnockbackTagValue kb = ItemTagCache.get(item, KnockbackSystem.ITEM_CUSTOM);
+ * </pre>
+ */
+public final class ItemTagCache {
+
+    /** Number of slots (power of two). Direct-mapped: a colliding entry simply replaces the old one. */
+    private static final int SIZE = 1024;
+
+    private static final Object ABSENT = new Object();
+    private static final Entry[] entries = new Entry[SIZE];
+
+    private ItemTagCache() {}
+
+    /**
+     * Read a tag from an item, decoding it at most once per (item, tag).
+     *
+     * @return the tag value, or null if the item is null/air or has no such tag
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @Nullable T get(@Nullable ItemStack item, Tag<T> tag) {
+        if (item == null || item.isAir()) return null;
+
+        int hash = System.identityHashCode(item) * 31 + System.identityHashCode(tag);
+        int slot = (hash ^ (hash >>> 16)) & (SIZE - 1);
+
+        Entry entry = entries[slot];
+        if (entry != null && entry.tag == tag && entry.item.get() == item) {
+            return entry.value == ABSENT ? null : (T) entry.value;
+        }
+
+        T value = item.getTag(tag);
+        entries[slot] = new Entry(new WeakReference<>(item), tag, value != null ? value : ABSENT);
+        return value;
+    }
+
+    /** Drop all cached values. */
+    public static void clear() {
+        Arrays.fill(entries, null);
+    }
+
+    private record Entry(WeakReference<ItemStack> item, Tag<?> tag, Object value) {}
+}
@@ -1,5 +1,6 @@
 package com.test.minestom.commands;
 
+import com.minestom.mechanics.systems.misc.HazardIndex;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.command.builder.Command;
@@ -32,6 +33,7 @@ public class SetFireCommand extends Command {
 
             // Place fire at the player's feet position
             instance.setBlock(x, y, z, Block.FIRE);
+            HazardIndex.getInstance().markDirty(instance, x, y, z);
             player.sendMessage(Component.text("Fire set at " + x + ", " + y + ", " + z, NamedTextColor.GOLD));
         });
     }
@@ -1,5 +1,6 @@
 package com.test.minestom.commands.combat;
 
+import com.minestom.mechanics.ConfigurableSystem;
 import com.minestom.mechanics.config.knockback.KnockbackConfig;
 import com.minestom.mechanics.config.knockback.KnockbackPresets;
 import com.minestom.mechanics.systems.knockback.KnockbackSystem;
@@ -106,11 +107,11 @@ public class KnockbackCommand extends Command {
     }
 
     private void setWorldConfig(Player player, KnockbackConfig config) {
-        player.getInstance().setTag(KnockbackSystem.CUSTOM, KnockbackTagValue.kbSet(config));
+        ConfigurableSystem.setOverride(player.getInstance(), KnockbackSystem.CUSTOM, KnockbackTagValue.kbSet(config));
     }
 
     private void clearWorldConfig(Player player) {
-        player.getInstance().removeTag(KnockbackSystem.CUSTOM);
+        ConfigurableSystem.removeOverride(player.getInstance(), KnockbackSystem.CUSTOM);
     }
 
     private void showAllValues(Player player) {